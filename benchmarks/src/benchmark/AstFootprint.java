@@ -0,0 +1,60 @@
+package benchmark;
+
+import main.ast.nodes.Program;
+import main.generator.ProgramGenerator;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import parsers.SophiaLexer;
+import parsers.SophiaParser;
+
+import java.lang.ref.Reference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+//Heap retained by the AST of a program, in bytes per source line: the used heap after a full gc with only the
+//Program still reachable, minus the used heap before parsing it a second time. Not a JMH benchmark, since JMH
+//measures time and allocation rate rather than what stays live.
+//Arguments: source files or generated line counts, default 20000 and 200000. Give the JVM a fixed heap
+//(e.g. -Xms2g -Xmx2g) so the numbers are not blurred by resizing.
+public class AstFootprint {
+    public static void main(String[] args) throws Exception {
+        String[] inputs = args.length > 0 ? args : new String[] {"20000", "200000"};
+        System.out.printf("%-24s %10s %14s %14s%n", "input", "lines", "ast bytes", "bytes/line");
+        for(String input : inputs) {
+            String text = input.matches("\\d+") ? generated(Long.parseLong(input))
+                    : new String(Files.readAllBytes(Paths.get(input)), StandardCharsets.UTF_8);
+            long lines = text.chars().filter(c -> c == '\n').count() + 1;
+            //the first parse fills ANTLR's shared DFA cache, which would otherwise be counted as AST
+            parse(text, input);
+            long before = usedHeap();
+            Program program = parse(text, input);
+            long retained = usedHeap() - before;
+            Reference.reachabilityFence(program);
+            System.out.printf("%-24s %10d %14d %14.1f%n", input, lines, retained, (double) retained / lines);
+        }
+    }
+
+    private static Program parse(String text, String source) {
+        CommonTokenStream tokenStream = new CommonTokenStream(new SophiaLexer(CharStreams.fromString(text, source)));
+        return new SophiaParser(tokenStream).sophia().sophiaProgram;
+    }
+
+    private static String generated(long lines) {
+        ProgramGenerator generator = new ProgramGenerator();
+        generator.setTargetLines(lines);
+        return generator.generate();
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        //the used heap settles after a few collections once finalization and reference processing are done
+        for(int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(50);
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
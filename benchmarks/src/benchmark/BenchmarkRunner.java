@@ -0,0 +1,35 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+
+//Runs the front-end benchmarks in throughput mode with the gc profiler, which adds allocation rate per operation.
+//Needs jmh-core and jmh-generator-annprocess 1.37, jopt-simple 5.0.4 and commons-math3 3.6.1 in utilities/jarFiles
+//next to the antlr jar, with the annotation processor enabled when compiling this module.
+//The name analyzer, type checker and diagnostics rebuild their input before every invocation, and that setup
+//is included in their gc.alloc.rate.norm; subtract the parser (and earlier passes) to get the pass alone.
+//Heap retained by the AST is measured separately by AstFootprint, and peak front-end heap by FrontEndPeakHeap.
+//Arguments: an optional benchmark name regex, e.g. "Lexer|Parser". Run from the project root so samples/ resolves.
+public class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : "benchmark\\..*Benchmark")
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.SECONDS)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,120 @@
+package benchmark;
+
+import main.BatchCompiler;
+import main.parser.DfaCache;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import parsers.SophiaLexer;
+import parsers.SophiaParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+//Front end time of the first source a fresh JVM compiles, with empty prediction DFAs and with DFAs loaded from a
+//DfaCache, against the steady state of the same JVM. The cache is learned from a warm-up corpus in a JVM of its own.
+//Every sample is one new JVM that lexes and parses the source once (after loading the cache, if any, which is
+//counted) and then parses it again until the JIT has settled; the medians over the runs are printed.
+//Arguments: the warm-up corpus (a file or directory, default samples), the sources to time (default the corpus)
+//and -runs N (default 10). Run from the project root with the compiler and antlr on the classpath.
+public class ColdStart {
+    private static final int STEADY_ITERATIONS = 200;
+
+    public static void main(String[] args) throws Exception {
+        if(args.length > 0 && args[0].equals("-child")) {
+            child(Paths.get(args[1]), args.length > 2 ? Paths.get(args[2]) : null);
+            return;
+        }
+        int runs = 10;
+        ArrayList<String> paths = new ArrayList<>();
+        for(int i = 0; i < args.length; i++) {
+            if(args[i].equals("-runs"))
+                runs = Integer.parseInt(args[++i]);
+            else
+                paths.add(args[i]);
+        }
+        String corpus = paths.isEmpty() ? "samples" : paths.get(0);
+        List<String> sources = paths.size() > 1 ? paths.subList(1, paths.size()) : Collections.singletonList(corpus);
+        Path cache = Files.createTempFile("sophia", ".dfa");
+        Files.delete(cache);
+        try {
+            run("main.Sophia", "--batch", corpus, "--dfa-cache", cache.toString());
+            System.out.printf("%-28s %12s %14s %14s %12s%n", "source", "cold ms", "cache ms", "(load ms)", "steady ms");
+            for(String source : new BatchCompiler().collectSources(sources)) {
+                double[][] cold = new double[3][runs];
+                double[][] cached = new double[3][runs];
+                for(int i = 0; i < runs; i++) {
+                    store(cold, i, run(ColdStart.class.getName(), "-child", source));
+                    store(cached, i, run(ColdStart.class.getName(), "-child", source, cache.toString()));
+                }
+                System.out.printf("%-28s %12.1f %14.1f %14.1f %12.2f%n", Paths.get(source).getFileName(),
+                        median(cold[1]), median(cached[0]) + median(cached[1]), median(cached[0]), median(cold[2]));
+            }
+        } finally {
+            Files.deleteIfExists(cache);
+        }
+    }
+
+    //prints the milliseconds of the cache load, the first front end and a settled one
+    private static void child(Path source, Path cache) throws IOException {
+        String text = new String(Files.readAllBytes(source));
+        //class initialization deserializes the ATNs, which happens with or without a cache
+        new SophiaLexer(null);
+        new SophiaParser(null);
+        long start = System.nanoTime();
+        if(cache != null && !DfaCache.load(cache))
+            throw new IllegalStateException("no cache at " + cache);
+        long loaded = System.nanoTime();
+        frontEnd(text);
+        long first = System.nanoTime() - loaded;
+        long steady = Long.MAX_VALUE;
+        for(int i = 0; i < STEADY_ITERATIONS; i++) {
+            long begin = System.nanoTime();
+            frontEnd(text);
+            steady = Math.min(steady, System.nanoTime() - begin);
+        }
+        System.out.println((loaded - start) / 1e6 + " " + first / 1e6 + " " + steady / 1e6);
+    }
+
+    private static Object frontEnd(String text) {
+        CommonTokenStream tokenStream = new CommonTokenStream(new SophiaLexer(CharStreams.fromString(text)));
+        tokenStream.fill();
+        return new SophiaParser(tokenStream).sophia().sophiaProgram;
+    }
+
+    private static String run(String mainClass, String... args) throws IOException, InterruptedException {
+        ArrayList<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass);
+        command.addAll(Arrays.asList(args));
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        String last = "";
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            for(String line = output.readLine(); line != null; line = output.readLine())
+                last = line;
+        }
+        process.waitFor();
+        return last;
+    }
+
+    private static void store(double[][] samples, int run, String line) {
+        String[] values = line.trim().split(" ");
+        for(int i = 0; i < samples.length; i++)
+            samples[i][run] = Double.parseDouble(values[i]);
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
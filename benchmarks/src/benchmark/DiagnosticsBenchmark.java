@@ -0,0 +1,33 @@
+package benchmark;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+
+//draining empties the collector, so each invocation gets a compilation with its errors still reported
+public class DiagnosticsBenchmark {
+    @State(Scope.Thread)
+    public static class Input {
+        CompilationContext context;
+        Program program;
+
+        @Setup(Level.Invocation)
+        public void prepare(SourceState sourceState) {
+            program = Stages.parse(sourceState);
+            context = new CompilationContext();
+            Stages.analyzeNames(program, context);
+            Stages.checkTypes(program, context);
+        }
+    }
+
+    @Benchmark
+    public ArrayList<String> report(Input input) {
+        return input.context.getDiagnostics().drain(input.program);
+    }
+}
@@ -0,0 +1,105 @@
+package benchmark;
+
+import main.ast.nodes.Program;
+import main.generator.ProgramGenerator;
+import main.parser.StreamingFrontEnd;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import parsers.SophiaLexer;
+import parsers.SophiaParser;
+
+import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+//Peak live heap of the front end against source size, for a generated program read from a file. buffered is the
+//default SophiaCompiler front end: the whole file in a CharStream, every token in a CommonTokenStream and a parse
+//tree next to the AST. streaming is StreamingFrontEnd. A daemon thread runs a full gc every few milliseconds during
+//the parse and keeps the largest used heap it sees; one more sample is taken at the end of the parse, with
+//everything the front end holds still reachable. The used heap before the parse is subtracted.
+//Arguments: generated line counts, default 20000, 100000 and 400000. Give the JVM a fixed heap (e.g. -Xms4g -Xmx4g).
+public class FrontEndPeakHeap {
+    private static final long SAMPLE_MILLIS = 20;
+
+    public static void main(String[] args) throws Exception {
+        String[] inputs = args.length > 0 ? args : new String[] {"20000", "100000", "400000"};
+        System.out.printf("%10s %14s %16s %16s %10s%n", "lines", "source bytes", "buffered peak", "streaming peak", "ratio");
+        for(String input : inputs) {
+            ProgramGenerator generator = new ProgramGenerator();
+            generator.setTargetLines(Long.parseLong(input));
+            Path source = Files.createTempFile("sophia", ".sop");
+            Files.write(source, generator.generate().getBytes(StandardCharsets.UTF_8));
+            try {
+                //the first parse fills ANTLR's shared DFA cache, which would otherwise be counted in the first mode
+                buffered(source);
+                long buffered = peak(() -> buffered(source));
+                long streaming = peak(() -> streaming(source));
+                System.out.printf("%10s %14d %16d %16d %10.2f%n", input, Files.size(source), buffered, streaming,
+                        (double) buffered / streaming);
+            } finally {
+                Files.delete(source);
+            }
+        }
+    }
+
+    private interface FrontEnd {
+        Object[] run() throws Exception;
+    }
+
+    //everything in the returned array is kept reachable for the sample at the end of the parse
+    private static Object[] buffered(Path source) throws Exception {
+        CommonTokenStream tokenStream = new CommonTokenStream(new SophiaLexer(CharStreams.fromPath(source)));
+        tokenStream.fill();
+        SophiaParser.SophiaContext tree = new SophiaParser(tokenStream).sophia();
+        return new Object[] {tokenStream, tree, tree.sophiaProgram};
+    }
+
+    private static Object[] streaming(Path source) throws Exception {
+        try (InputStream input = Files.newInputStream(source)) {
+            Program program = new StreamingFrontEnd(false).parse(StreamingFrontEnd.open(input, source.toString()));
+            return new Object[] {program};
+        }
+    }
+
+    private static long peak(FrontEnd frontEnd) throws Exception {
+        long before = settledHeap();
+        AtomicLong peak = new AtomicLong(before);
+        Thread sampler = new Thread(() -> {
+            while(!Thread.currentThread().isInterrupted()) {
+                peak.accumulateAndGet(usedHeap(), Math::max);
+                try {
+                    Thread.sleep(SAMPLE_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.setDaemon(true);
+        sampler.start();
+        Object[] held = frontEnd.run();
+        sampler.interrupt();
+        sampler.join();
+        peak.accumulateAndGet(usedHeap(), Math::max);
+        Reference.reachabilityFence(held);
+        return peak.get() - before;
+    }
+
+    //the used heap settles after a few collections once finalization and reference processing are done
+    private static long settledHeap() throws InterruptedException {
+        long used = Long.MAX_VALUE;
+        for(int i = 0; i < 5; i++) {
+            used = Math.min(used, usedHeap());
+            Thread.sleep(50);
+        }
+        return used;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
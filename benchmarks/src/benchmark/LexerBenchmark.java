@@ -0,0 +1,47 @@
+package benchmark;
+
+import main.parser.DirectLexer;
+import main.parser.MappedCharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.Benchmark;
+import parsers.SophiaLexer;
+
+import java.io.IOException;
+
+public class LexerBenchmark {
+    @Benchmark
+    public int tokenize(SourceState sourceState) {
+        SophiaLexer sophiaLexer = new SophiaLexer(CharStreams.fromString(sourceState.text, sourceState.source));
+        int count = 0;
+        while(sophiaLexer.nextToken().getType() != Token.EOF)
+            count++;
+        return count;
+    }
+
+    @Benchmark
+    public int tokenizeDirect(SourceState sourceState) {
+        DirectLexer directLexer = new DirectLexer(CharStreams.fromString(sourceState.text, sourceState.source));
+        int count = 0;
+        while(directLexer.nextToken().getType() != Token.EOF)
+            count++;
+        return count;
+    }
+
+    @Benchmark
+    public int tokenizeFile(SourceState sourceState) throws IOException {
+        return count(new SophiaLexer(CharStreams.fromPath(sourceState.path)));
+    }
+
+    @Benchmark
+    public int tokenizeMapped(SourceState sourceState) throws IOException {
+        return count(new SophiaLexer(MappedCharStream.open(sourceState.path, sourceState.source)));
+    }
+
+    private static int count(SophiaLexer sophiaLexer) {
+        int count = 0;
+        while(sophiaLexer.nextToken().getType() != Token.EOF)
+            count++;
+        return count;
+    }
+}
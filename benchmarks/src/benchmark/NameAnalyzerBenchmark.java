@@ -0,0 +1,29 @@
+package benchmark;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+public class NameAnalyzerBenchmark {
+    @State(Scope.Thread)
+    public static class Input {
+        Program program;
+        CompilationContext context;
+
+        @Setup(Level.Invocation)
+        public void prepare(SourceState sourceState) {
+            program = Stages.parse(sourceState);
+            context = new CompilationContext();
+        }
+    }
+
+    @Benchmark
+    public CompilationContext analyze(Input input) {
+        Stages.analyzeNames(input.program, input.context);
+        return input.context;
+    }
+}
@@ -0,0 +1,21 @@
+package benchmark;
+
+import main.ast.nodes.Program;
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class ParserBenchmark {
+    @Benchmark
+    public Program parse(SourceState sourceState) {
+        return Stages.parse(sourceState);
+    }
+
+    @Benchmark
+    public Program parseSll(SourceState sourceState) {
+        return Stages.parseSll(sourceState);
+    }
+
+    @Benchmark
+    public Program parseDirect(SourceState sourceState) {
+        return Stages.parseDirect(sourceState);
+    }
+}
@@ -0,0 +1,64 @@
+package benchmark;
+
+import main.generator.ProgramGenerator;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import parsers.SophiaLexer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+//One benchmark input: a bundled sample (read from -Dsophia.samples, default "samples") or a generated program of about 1 KLOC or 20 KLOC.
+@State(Scope.Benchmark)
+public class SourceState {
+    @Param({"sample0", "sample1", "sample2", "sample3", "sample4", "test", "generated-small", "generated-large"})
+    public String source;
+
+    public String text;
+    //text written to a temporary file, for the benchmarks that include reading the source
+    public Path path;
+    public List<? extends Token> tokens;
+
+    @Setup
+    public void load() throws IOException {
+        switch (source) {
+            case "generated-small": text = generated(1000); break;
+            case "generated-large": text = generated(20000); break;
+            default:
+                String samples = System.getProperty("sophia.samples", "samples");
+                text = new String(Files.readAllBytes(Paths.get(samples, source + ".sop")), StandardCharsets.UTF_8);
+        }
+        CommonTokenStream tokenStream = new CommonTokenStream(new SophiaLexer(CharStreams.fromString(text, source)));
+        tokenStream.fill();
+        tokens = tokenStream.getTokens();
+        path = Files.createTempFile(source, ".sop");
+        Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TearDown
+    public void delete() throws IOException {
+        Files.delete(path);
+    }
+
+    private static String generated(long lines) {
+        ProgramGenerator generator = new ProgramGenerator();
+        generator.setTargetLines(lines);
+        return generator.generate();
+    }
+
+    //parser input that skips the lexer, so parser numbers do not include tokenization
+    public CommonTokenStream tokenStream() {
+        return new CommonTokenStream(new ListTokenSource(tokens, source));
+    }
+}
@@ -0,0 +1,41 @@
+package benchmark;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import main.parser.DirectParser;
+import main.visitor.nameAnalyzer.NameAnalyzer;
+import main.visitor.typeChecker.TypeChecker;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import parsers.SophiaParser;
+
+//The passes mutate the AST and the symbol tables, so every measured pass starts from a freshly built program.
+final class Stages {
+    private Stages() { }
+
+    static Program parse(SourceState sourceState) {
+        SophiaParser sophiaParser = new SophiaParser(sourceState.tokenStream());
+        return sophiaParser.sophia().sophiaProgram;
+    }
+
+    //the first stage of SophiaCompiler's two-stage parsing, which is all a valid source needs
+    static Program parseSll(SourceState sourceState) {
+        SophiaParser sophiaParser = new SophiaParser(sourceState.tokenStream());
+        sophiaParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        sophiaParser.removeErrorListeners();
+        sophiaParser.setErrorHandler(new BailErrorStrategy());
+        return sophiaParser.sophia().sophiaProgram;
+    }
+
+    static Program parseDirect(SourceState sourceState) {
+        return new DirectParser(sourceState.tokens).parse();
+    }
+
+    static void analyzeNames(Program program, CompilationContext context) {
+        new NameAnalyzer(program, context).analyze();
+    }
+
+    static void checkTypes(Program program, CompilationContext context) {
+        program.accept(new TypeChecker(context));
+    }
+}
@@ -0,0 +1,31 @@
+package benchmark;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+//type checks every input, including the samples the compiler would stop after name analysis
+public class TypeCheckerBenchmark {
+    @State(Scope.Thread)
+    public static class Input {
+        Program program;
+        CompilationContext context;
+
+        @Setup(Level.Invocation)
+        public void prepare(SourceState sourceState) {
+            program = Stages.parse(sourceState);
+            context = new CompilationContext();
+            Stages.analyzeNames(program, context);
+        }
+    }
+
+    @Benchmark
+    public Program check(Input input) {
+        Stages.checkTypes(input.program, input.context);
+        return input.program;
+    }
+}
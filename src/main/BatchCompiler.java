@@ -0,0 +1,119 @@
+package main;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+//checks many sources in one JVM, so the parser DFA cache and the JIT stay warm between files
+public class BatchCompiler {
+    public static final String SOURCE_EXTENSION = ".sop";
+    private final SophiaCompiler sophiaCompiler;
+    private final int jobs;
+
+    public BatchCompiler() {
+        this(new SophiaCompiler(), 1);
+    }
+
+    //every compilation owns its CompilationContext, so sources can be checked on a thread pool
+    public BatchCompiler(SophiaCompiler sophiaCompiler, int jobs) {
+        this.sophiaCompiler = sophiaCompiler;
+        this.jobs = jobs;
+    }
+
+    public ArrayList<String> collectSources(List<String> paths) throws IOException {
+        ArrayList<String> sources = new ArrayList<>();
+        for(String path : paths) {
+            Path p = Paths.get(path);
+            if(!Files.isDirectory(p)) {
+                sources.add(path);
+                continue;
+            }
+            try (Stream<Path> walk = Files.walk(p)) {
+                sources.addAll(walk.filter(Files::isRegularFile)
+                        .map(Path::toString)
+                        .filter(name -> name.endsWith(SOURCE_EXTENSION))
+                        .sorted()
+                        .collect(Collectors.toList()));
+            }
+        }
+        return sources;
+    }
+
+    public CompilationResult compileFile(String source) {
+        try {
+            return sophiaCompiler.checkFile(source);
+        } catch (IOException e) {
+            CompilationResult result = new CompilationResult(source);
+            result.setStatus(CompilationResult.Status.CRASHED);
+            result.setCrashMessage(e.toString());
+            return result;
+        }
+    }
+
+    public ArrayList<CompilationResult> compileAll(List<String> sources) {
+        ArrayList<CompilationResult> results = new ArrayList<>();
+        if(jobs <= 1) {
+            for(String source : sources)
+                results.add(this.compileFile(source));
+            return results;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(jobs);
+        try {
+            ArrayList<Future<CompilationResult>> futures = new ArrayList<>();
+            for(String source : sources)
+                futures.add(executor.submit(() -> this.compileFile(source)));
+            for(Future<CompilationResult> future : futures)
+                results.add(future.get());
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    public void printSummary(List<CompilationResult> results, long wallNanos) {
+        int successful = 0, failed = 0, crashed = 0;
+        for(CompilationResult result : results) {
+            System.out.printf("%-10s %s (%d errors, %.2f ms)%n", result.getStatus(), result.getSourceName(),
+                    result.getErrorCount(), result.getElapsedNanos() / 1e6);
+            for(String error : result.getSyntaxErrors())
+                System.out.println("    " + error);
+            for(String error : result.getErrors())
+                System.out.println("    " + error);
+            if(result.getCrashMessage() != null)
+                System.out.println("    " + result.getCrashMessage());
+            switch (result.getStatus()) {
+                case SUCCESSFUL: successful++; break;
+                case FAILED: failed++; break;
+                case CRASHED: crashed++; break;
+            }
+        }
+        System.out.printf("%d files: %d successful, %d failed, %d crashed in %.2f ms%n",
+                results.size(), successful, failed, crashed, wallNanos / 1e6);
+    }
+
+    public boolean run(List<String> paths) throws IOException {
+        long start = System.nanoTime();
+        ArrayList<CompilationResult> results = this.compileAll(this.collectSources(paths));
+        this.printSummary(results, System.nanoTime() - start);
+        CompilerMetrics totals = new CompilerMetrics();
+        for(CompilationResult result : results)
+            totals.add(result.getMetrics());
+        sophiaCompiler.reportMetrics(totals, results);
+        sophiaCompiler.saveDfaCache();
+        for(CompilationResult result : results)
+            if(!result.isSuccessful())
+                return false;
+        return true;
+    }
+}
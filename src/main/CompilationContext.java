@@ -0,0 +1,84 @@
+package main;
+
+import main.ast.types.TypeFactory;
+import main.compileErrorException.Diagnostics;
+import main.symbolTable.SymbolTable;
+import main.symbolTable.utils.graph.Graph;
+import main.symbolTable.utils.stack.Stack;
+import main.visitor.typeChecker.SubtypeChecker;
+import main.visitor.typeChecker.TypeValidator;
+
+//everything one compilation shares between its passes; independent compilations never touch each other's context
+public class CompilationContext {
+    private SymbolTable root;
+    private SymbolTable top;
+    private Stack<SymbolTable> stack = new Stack<>();
+    private Graph<String> classHierarchy;
+    private SubtypeChecker subtypeChecker;
+    private TypeValidator typeValidator;
+    private final CompilerMetrics metrics;
+    private final TypeFactory typeFactory = new TypeFactory();
+    private final Diagnostics diagnostics = new Diagnostics();
+
+    public CompilationContext() {
+        this(CompilerMetrics.DISABLED);
+    }
+
+    public CompilationContext(CompilerMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public void push(SymbolTable symbolTable) {
+        if (top != null)
+            stack.push(top);
+        top = symbolTable;
+    }
+
+    public void pop() {
+        top = stack.pop();
+    }
+
+    public SymbolTable getTop() {
+        return top;
+    }
+
+    public CompilerMetrics getMetrics() {
+        return metrics;
+    }
+
+    public TypeFactory getTypeFactory() {
+        return typeFactory;
+    }
+
+    public Diagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
+    public SymbolTable getRoot() {
+        return root;
+    }
+
+    //which classes exist is read from the root, so validated types are only valid for the root they were checked in
+    public void setRoot(SymbolTable root) {
+        this.root = root;
+        this.typeValidator = new TypeValidator(root);
+    }
+
+    public TypeValidator getTypeValidator() {
+        return typeValidator;
+    }
+
+    public Graph<String> getClassHierarchy() {
+        return classHierarchy;
+    }
+
+    //the subtype relation depends on the hierarchy, so its memo table starts fresh with every new one
+    public void setClassHierarchy(Graph<String> classHierarchy) {
+        this.classHierarchy = classHierarchy;
+        this.subtypeChecker = new SubtypeChecker(classHierarchy, metrics);
+    }
+
+    public SubtypeChecker getSubtypeChecker() {
+        return subtypeChecker;
+    }
+}
@@ -0,0 +1,92 @@
+package main;
+
+import java.util.ArrayList;
+
+public class CompilationResult {
+    public enum Status {
+        SUCCESSFUL, FAILED, CRASHED
+    }
+
+    private String sourceName;
+    private Status status;
+    private ArrayList<String> syntaxErrors = new ArrayList<>();
+    private ArrayList<String> errors = new ArrayList<>();
+    private String crashMessage;
+    private long elapsedNanos;
+    private CompilerMetrics metrics = CompilerMetrics.DISABLED;
+
+    public CompilationResult(String sourceName) {
+        this.sourceName = sourceName;
+    }
+
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    public void setSourceName(String sourceName) {
+        this.sourceName = sourceName;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public boolean isSuccessful() {
+        return status == Status.SUCCESSFUL;
+    }
+
+    //lexer and parser errors, as the console listener of ANTLR prints them; the parser recovers from them, so
+    //errors holds the ones the AST still has after that
+    public ArrayList<String> getSyntaxErrors() {
+        return syntaxErrors;
+    }
+
+    public void addSyntaxError(String syntaxError) {
+        this.syntaxErrors.add(syntaxError);
+    }
+
+    public int getErrorCount() {
+        return syntaxErrors.size() + errors.size();
+    }
+
+    public ArrayList<String> getErrors() {
+        return errors;
+    }
+
+    public void addErrors(ArrayList<String> errors) {
+        this.errors.addAll(errors);
+    }
+
+    public String getCrashMessage() {
+        return crashMessage;
+    }
+
+    public void setCrashMessage(String crashMessage) {
+        this.crashMessage = crashMessage;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public CompilerMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(CompilerMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String toString() {
+        return "CompilationResult_" + this.sourceName + "_" + this.status;
+    }
+}
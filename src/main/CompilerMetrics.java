@@ -0,0 +1,209 @@
+package main;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+//Wall time and allocated bytes per compiler phase plus a few hot-path counters.
+//Allocations are those of the compiling thread; parallel type-checking workers are not included.
+public class CompilerMetrics {
+    public static final CompilerMetrics DISABLED = new CompilerMetrics(false);
+
+    public static class Phase {
+        private final String name;
+        private final long wallNanos;
+        private final long allocatedBytes;
+
+        public Phase(String name, long wallNanos, long allocatedBytes) {
+            this.name = name;
+            this.wallNanos = wallNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getWallNanos() {
+            return wallNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+
+    private final boolean enabled;
+    private final ArrayList<Phase> phases = new ArrayList<>();
+    private String currentPhase;
+    private long phaseStartNanos;
+    private long phaseStartBytes;
+    private final LongAdder astNodesVisited = new LongAdder();
+    private final LongAdder symbolTableLookups = new LongAdder();
+    private final LongAdder subtypeChecks = new LongAdder();
+    private final LongAdder subtypeCacheHits = new LongAdder();
+    private final LongAdder subtypeCacheMisses = new LongAdder();
+    private final LongAdder llFallbacks = new LongAdder();
+
+    public CompilerMetrics() {
+        this(true);
+    }
+
+    private CompilerMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void beginPhase(String name) {
+        if(!enabled)
+            return;
+        currentPhase = name;
+        phaseStartBytes = allocatedBytes();
+        phaseStartNanos = System.nanoTime();
+    }
+
+    public void endPhase() {
+        if(!enabled || currentPhase == null)
+            return;
+        long wallNanos = System.nanoTime() - phaseStartNanos;
+        phases.add(new Phase(currentPhase, wallNanos, allocatedBytes() - phaseStartBytes));
+        currentPhase = null;
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if(threadMXBean instanceof com.sun.management.ThreadMXBean)
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        return 0;
+    }
+
+    public void nodeVisited() {
+        if(enabled)
+            astNodesVisited.increment();
+    }
+
+    public void symbolTableLookup() {
+        if(enabled)
+            symbolTableLookups.increment();
+    }
+
+    public void subtypeCheck() {
+        if(enabled)
+            subtypeChecks.increment();
+    }
+
+    public void subtypeCacheHit() {
+        if(enabled)
+            subtypeCacheHits.increment();
+    }
+
+    public void subtypeCacheMiss() {
+        if(enabled)
+            subtypeCacheMisses.increment();
+    }
+
+    //SLL prediction failed and the source was parsed again with full LL
+    public void llFallback() {
+        if(enabled)
+            llFallbacks.increment();
+    }
+
+    public List<Phase> getPhases() {
+        return phases;
+    }
+
+    public long getAstNodesVisited() {
+        return astNodesVisited.sum();
+    }
+
+    public long getSymbolTableLookups() {
+        return symbolTableLookups.sum();
+    }
+
+    public long getSubtypeChecks() {
+        return subtypeChecks.sum();
+    }
+
+    public long getSubtypeCacheHits() {
+        return subtypeCacheHits.sum();
+    }
+
+    public long getSubtypeCacheMisses() {
+        return subtypeCacheMisses.sum();
+    }
+
+    public long getLlFallbacks() {
+        return llFallbacks.sum();
+    }
+
+    //adds another compilation's numbers phase by phase, for batch totals
+    public void add(CompilerMetrics other) {
+        for(Phase phase : other.phases) {
+            int i = indexOfPhase(phase.getName());
+            if(i < 0) {
+                phases.add(phase);
+                continue;
+            }
+            Phase total = phases.get(i);
+            phases.set(i, new Phase(phase.getName(), total.getWallNanos() + phase.getWallNanos(),
+                    total.getAllocatedBytes() + phase.getAllocatedBytes()));
+        }
+        astNodesVisited.add(other.getAstNodesVisited());
+        symbolTableLookups.add(other.getSymbolTableLookups());
+        subtypeChecks.add(other.getSubtypeChecks());
+        subtypeCacheHits.add(other.getSubtypeCacheHits());
+        subtypeCacheMisses.add(other.getSubtypeCacheMisses());
+        llFallbacks.add(other.getLlFallbacks());
+    }
+
+    private int indexOfPhase(String name) {
+        for(int i = 0; i < phases.size(); i++)
+            if(phases.get(i).getName().equals(name))
+                return i;
+        return -1;
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-20s %12s %16s%n", "phase", "wall ms", "allocated bytes"));
+        long totalNanos = 0, totalBytes = 0;
+        for(Phase phase : phases) {
+            table.append(String.format("%-20s %12.3f %16d%n", phase.getName(), phase.getWallNanos() / 1e6, phase.getAllocatedBytes()));
+            totalNanos += phase.getWallNanos();
+            totalBytes += phase.getAllocatedBytes();
+        }
+        table.append(String.format("%-20s %12.3f %16d%n", "total", totalNanos / 1e6, totalBytes));
+        table.append(String.format("%-20s %12d%n", "ast nodes visited", getAstNodesVisited()));
+        table.append(String.format("%-20s %12d%n", "symbol lookups", getSymbolTableLookups()));
+        table.append(String.format("%-20s %12d%n", "subtype checks", getSubtypeChecks()));
+        table.append(String.format("%-20s %12d%n", "subtype cache hits", getSubtypeCacheHits()));
+        table.append(String.format("%-20s %12d%n", "subtype cache misses", getSubtypeCacheMisses()));
+        table.append(String.format("%-20s %12d%n", "ll fallbacks", getLlFallbacks()));
+        return table.toString();
+    }
+
+    public String toJson(String sourceName) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"source\": \"").append(sourceName.replace("\\", "\\\\").replace("\"", "\\\"")).append("\", \"phases\": [");
+        for(int i = 0; i < phases.size(); i++) {
+            Phase phase = phases.get(i);
+            if(i > 0)
+                json.append(", ");
+            json.append("{\"name\": \"").append(phase.getName())
+                    .append("\", \"wallNanos\": ").append(phase.getWallNanos())
+                    .append(", \"allocatedBytes\": ").append(phase.getAllocatedBytes()).append("}");
+        }
+        json.append("], \"astNodesVisited\": ").append(getAstNodesVisited())
+                .append(", \"symbolTableLookups\": ").append(getSymbolTableLookups())
+                .append(", \"subtypeChecks\": ").append(getSubtypeChecks())
+                .append(", \"subtypeCacheHits\": ").append(getSubtypeCacheHits())
+                .append(", \"subtypeCacheMisses\": ").append(getSubtypeCacheMisses())
+                .append(", \"llFallbacks\": ").append(getLlFallbacks()).append("}");
+        return json.toString();
+    }
+}
@@ -1,14 +1,34 @@
 package main;
 
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
-
 import java.io.IOException;
+import java.util.ArrayList;
 
 public class Sophia {
     public static void main(String[] args) throws IOException {
-        CharStream reader = CharStreams.fromFileName(args[0]);
         SophiaCompiler sophiaCompiler = new SophiaCompiler();
-        sophiaCompiler.compile(reader);
+        boolean batch = false;
+        int jobs = 1;
+        ArrayList<String> paths = new ArrayList<>();
+        for(int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--batch": batch = true; break;
+                case "--jobs": jobs = Integer.parseInt(args[++i]); break;
+                case "--type-check-threads": sophiaCompiler.setTypeCheckThreads(Integer.parseInt(args[++i])); break;
+                case "--timings": sophiaCompiler.setCollectMetrics(true); break;
+                case "--lexer": sophiaCompiler.setDirectLexer(args[++i].equals("direct")); break;
+                case "--ll-only": sophiaCompiler.setTwoStageParsing(false); break;
+                case "--input": sophiaCompiler.setMappedInput(args[++i].equals("mapped")); break;
+                case "--streaming": sophiaCompiler.setStreaming(true); break;
+                case "--parser": sophiaCompiler.setDirectParser(args[++i].equals("direct")); break;
+                case "--dfa-cache": sophiaCompiler.setDfaCacheFile(args[++i]); break;
+                case "--timings-file": sophiaCompiler.setMetricsFile(args[++i]); break;
+                default: paths.add(args[i]);
+            }
+        }
+        if(batch) {
+            BatchCompiler batchCompiler = new BatchCompiler(sophiaCompiler, jobs);
+            System.exit(batchCompiler.run(paths) ? 0 : 1);
+        }
+        sophiaCompiler.compileFile(paths.get(0));
     }
 }
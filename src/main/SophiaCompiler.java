@@ -1,36 +1,340 @@
 package main;
 
 import main.ast.nodes.Program;
+import main.parser.DfaCache;
+import main.parser.DirectLexer;
+import main.parser.DirectParser;
+import main.parser.MappedCharStream;
+import main.parser.ReplayingTokenStream;
+import main.parser.StreamingFrontEnd;
 import main.visitor.nameAnalyzer.NameAnalyzer;
+import main.visitor.typeChecker.ParallelTypeChecker;
 import main.visitor.typeChecker.TypeChecker;
-import main.visitor.utils.ErrorReporter;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import parsers.SophiaLexer;
 import parsers.SophiaParser;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
 
 public class SophiaCompiler {
-    public void compile(CharStream textStream) {
-        SophiaLexer sophiaLexer = new SophiaLexer(textStream);
-        CommonTokenStream tokenStream = new CommonTokenStream(sophiaLexer);
-        SophiaParser sophiaParser = new SophiaParser(tokenStream);
-        Program program = sophiaParser.sophia().sophiaProgram;
-        ErrorReporter errorReporter = new ErrorReporter();
+    private int typeCheckThreads = 1;
+    private ForkJoinPool typeCheckPool;
+    private boolean collectMetrics = false;
+    private String metricsFile;
+    private boolean directLexer = false;
+    private boolean directParser = false;
+    private boolean twoStageParsing = true;
+    private boolean streaming = false;
+    private boolean mappedInput = false;
+    private String dfaCacheFile;
+    //DFA states there were after loading the cache or writing it, -1 before the cache is loaded
+    private int dfaCacheStates = -1;
+    private final LongAdder llFallbacks = new LongAdder();
 
-        NameAnalyzer nameAnalyzer = new NameAnalyzer(program);
-        nameAnalyzer.analyze();
-        int numberOfErrors = program.accept(errorReporter);
-        if(numberOfErrors > 0)
-            System.exit(1);
+    public int getTypeCheckThreads() {
+        return typeCheckThreads;
+    }
+
+    //more than one thread checks classes in parallel; the reported errors are the same either way
+    public void setTypeCheckThreads(int typeCheckThreads) {
+        this.typeCheckThreads = typeCheckThreads;
+    }
+
+    public boolean isCollectMetrics() {
+        return collectMetrics;
+    }
+
+    public void setCollectMetrics(boolean collectMetrics) {
+        this.collectMetrics = collectMetrics;
+    }
+
+    public String getMetricsFile() {
+        return metricsFile;
+    }
+
+    //also turns metrics collection on
+    public void setMetricsFile(String metricsFile) {
+        this.metricsFile = metricsFile;
+        this.collectMetrics = metricsFile != null;
+    }
+
+    public boolean isDirectLexer() {
+        return directLexer;
+    }
+
+    //tokenize with DirectLexer instead of the generated SophiaLexer; the tokens are the same
+    public void setDirectLexer(boolean directLexer) {
+        this.directLexer = directLexer;
+    }
+
+    public boolean isDirectParser() {
+        return directParser;
+    }
+
+    //parse with DirectParser instead of the generated SophiaParser; sources with syntax errors still go through
+    //SophiaParser, so its error messages and recovery do not change
+    public void setDirectParser(boolean directParser) {
+        this.directParser = directParser;
+    }
+
+    public boolean isTwoStageParsing() {
+        return twoStageParsing;
+    }
+
+    //SophiaParser first predicts with SLL and gives up on the first syntax error, and only then parses the source
+    //again with full LL and the default error strategy. SLL is enough for every valid program, so syntax errors are
+    //still reported by the full LL parse exactly as before.
+    public void setTwoStageParsing(boolean twoStageParsing) {
+        this.twoStageParsing = twoStageParsing;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    //build only the AST, reading the source and its tokens as the parser goes instead of holding all of them and
+    //a parse tree; see StreamingFrontEnd. The direct and two-stage parsers need the whole token list, so they are
+    //not used then.
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public boolean isMappedInput() {
+        return mappedInput;
+    }
 
-        TypeChecker typeChecker = new TypeChecker(nameAnalyzer.getClassHierarchy());
-        program.accept(typeChecker);
-        numberOfErrors = program.accept(errorReporter);
-        if(numberOfErrors > 0)
+    //read source files through MappedCharStream instead of decoding them onto the heap; the characters are the same.
+    //With streaming on, the streaming front end reads the mapped file.
+    public void setMappedInput(boolean mappedInput) {
+        this.mappedInput = mappedInput;
+    }
+
+    public String getDfaCacheFile() {
+        return dfaCacheFile;
+    }
+
+    //load the prediction DFAs of SophiaLexer and SophiaParser from this file before the first source, and write
+    //them back once the run has added states to them; see DfaCache
+    public void setDfaCacheFile(String dfaCacheFile) {
+        this.dfaCacheFile = dfaCacheFile;
+    }
+
+    //a cache that cannot be read only costs the warm start, so it is reported and compilation goes on
+    private synchronized void loadDfaCache() {
+        if(dfaCacheFile == null || dfaCacheStates >= 0)
+            return;
+        dfaCacheStates = 0;
+        try {
+            if(DfaCache.load(Paths.get(dfaCacheFile)))
+                dfaCacheStates = DfaCache.stateCount();
+        } catch (IOException e) {
+            System.err.println("ignoring DFA cache " + dfaCacheFile + ": " + e.getMessage());
+        }
+    }
+
+    public synchronized void saveDfaCache() {
+        if(dfaCacheFile == null || dfaCacheStates < 0 || DfaCache.stateCount() <= dfaCacheStates)
+            return;
+        try {
+            DfaCache.save(Paths.get(dfaCacheFile));
+            dfaCacheStates = DfaCache.stateCount();
+        } catch (IOException e) {
+            System.err.println("could not write " + dfaCacheFile + ": " + e);
+        }
+    }
+
+    //sources this compiler had to parse a second time with full LL
+    public long getLlFallbacks() {
+        return llFallbacks.sum();
+    }
+
+    //prints the table to stderr, so stdout keeps only the compiler's own output
+    public void reportMetrics(CompilerMetrics metrics, List<CompilationResult> results) {
+        if(!collectMetrics)
+            return;
+        System.err.print(metrics.toTable());
+        if(metricsFile == null)
+            return;
+        StringBuilder json = new StringBuilder("[\n");
+        for(int i = 0; i < results.size(); i++) {
+            json.append("  ").append(results.get(i).getMetrics().toJson(results.get(i).getSourceName()));
+            json.append(i + 1 < results.size() ? ",\n" : "\n");
+        }
+        json.append("]\n");
+        try {
+            Files.write(Paths.get(metricsFile), json.toString().getBytes());
+        } catch (IOException e) {
+            System.err.println("could not write " + metricsFile + ": " + e);
+        }
+    }
+
+    private synchronized ForkJoinPool getTypeCheckPool() {
+        if(typeCheckPool == null || typeCheckPool.getParallelism() != typeCheckThreads)
+            typeCheckPool = new ForkJoinPool(typeCheckThreads);
+        return typeCheckPool;
+    }
+
+    public void compile(CharStream textStream) {
+        CompilationResult result = new CompilationResult(textStream.getSourceName());
+        try {
+            this.check(textStream, result);
+        } finally {
+            //where ANTLR prints them, also ahead of a crash in a later phase
+            for(String error : result.getSyntaxErrors())
+                System.err.println(error);
+        }
+        for(String error : result.getErrors())
+            System.out.println(error);
+        reportMetrics(result.getMetrics(), Collections.singletonList(result));
+        this.saveDfaCache();
+        //the AST of a recovered parse is still checked, and only its errors fail a single file
+        if(!result.getErrors().isEmpty())
             System.exit(1);
 
         System.out.println("Compilation successful");
 
     }
+
+    public void compileFile(String path) throws IOException {
+        if(mappedInput) {
+            this.compile(MappedCharStream.open(path));
+            return;
+        }
+        if(!streaming) {
+            this.compile(CharStreams.fromFileName(path));
+            return;
+        }
+        try (InputStream input = Files.newInputStream(Paths.get(path))) {
+            this.compile(StreamingFrontEnd.open(input, path));
+        }
+    }
+
+    public CompilationResult checkFile(String path) throws IOException {
+        if(mappedInput)
+            return this.check(MappedCharStream.open(path));
+        if(!streaming)
+            return this.check(CharStreams.fromFileName(path));
+        try (InputStream input = Files.newInputStream(Paths.get(path))) {
+            return this.check(StreamingFrontEnd.open(input, path));
+        }
+    }
+
+    //never exits or prints diagnostics, so one JVM can check many sources in a row
+    public CompilationResult check(CharStream textStream) {
+        CompilationResult result = new CompilationResult(textStream.getSourceName());
+        long start = System.nanoTime();
+        try {
+            this.check(textStream, result);
+        } catch (RuntimeException e) {
+            result.setStatus(CompilationResult.Status.CRASHED);
+            result.setCrashMessage(e.toString());
+        }
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    private Program parse(ReplayingTokenStream tokenStream, ANTLRErrorListener errorListener, CompilerMetrics metrics) {
+        if(directParser) {
+            Program program = new DirectParser(tokenStream.getTokens()).parse();
+            if(program != null) {
+                tokenStream.replayAll();
+                return program;
+            }
+        }
+        if(twoStageParsing) {
+            SophiaParser sllParser = new SophiaParser(tokenStream);
+            sllParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            sllParser.removeErrorListeners();
+            sllParser.setErrorHandler(new BailErrorStrategy());
+            try {
+                Program program = sllParser.sophia().sophiaProgram;
+                tokenStream.replayAll();
+                return program;
+            } catch (ParseCancellationException e) {
+                llFallbacks.increment();
+                metrics.llFallback();
+                tokenStream.seek(0);
+            }
+        }
+        tokenStream.replayOnFetch();
+        SophiaParser sophiaParser = new SophiaParser(tokenStream);
+        sophiaParser.removeErrorListeners();
+        sophiaParser.addErrorListener(errorListener);
+        return sophiaParser.sophia().sophiaProgram;
+    }
+
+    private void check(CharStream textStream, CompilationResult result) {
+        this.loadDfaCache();
+        CompilerMetrics metrics = collectMetrics ? new CompilerMetrics() : CompilerMetrics.DISABLED;
+        result.setMetrics(metrics);
+        CompilationContext context = new CompilationContext(metrics);
+        ANTLRErrorListener syntaxErrors = new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                    int charPositionInLine, String msg, RecognitionException e) {
+                result.addSyntaxError("line " + line + ":" + charPositionInLine + " " + msg);
+            }
+        };
+
+        Program program;
+        if(streaming) {
+            //lexing happens inside the parser phase, a token at a time
+            metrics.beginPhase("parser");
+            program = new StreamingFrontEnd(directLexer).parse(textStream, syntaxErrors);
+            metrics.endPhase();
+        }
+        else {
+            metrics.beginPhase("lexer");
+            TokenSource lexer = directLexer ? new DirectLexer(textStream) : new SophiaLexer(textStream);
+            //lexer errors are held back until the parser gets to them
+            ReplayingTokenStream tokenStream = new ReplayingTokenStream(lexer, syntaxErrors);
+            tokenStream.fill();
+            metrics.endPhase();
+
+            metrics.beginPhase("parser");
+            program = this.parse(tokenStream, syntaxErrors, metrics);
+            metrics.endPhase();
+        }
+
+        metrics.beginPhase("name analysis");
+        NameAnalyzer nameAnalyzer = new NameAnalyzer(program, context);
+        nameAnalyzer.analyze();
+        metrics.endPhase();
+        if(!context.getDiagnostics().isEmpty()) {
+            result.addErrors(context.getDiagnostics().drain(program));
+            result.setStatus(CompilationResult.Status.FAILED);
+            return;
+        }
+
+        metrics.beginPhase("type checking");
+        if(typeCheckThreads > 1) {
+            ParallelTypeChecker parallelTypeChecker = new ParallelTypeChecker(context, getTypeCheckPool());
+            parallelTypeChecker.check(program);
+        }
+        else {
+            TypeChecker typeChecker = new TypeChecker(context);
+            program.accept(typeChecker);
+        }
+        metrics.endPhase();
+        boolean failed = !context.getDiagnostics().isEmpty() || !result.getSyntaxErrors().isEmpty();
+        result.addErrors(context.getDiagnostics().drain(program));
+        result.setStatus(failed ? CompilationResult.Status.FAILED : CompilationResult.Status.SUCCESSFUL);
+    }
 }
@@ -5,6 +5,7 @@ import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaratio
 import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
 import main.ast.nodes.expression.Identifier;
+import main.symbolTable.items.ClassSymbolTableItem;
 import main.visitor.IVisitor;
 
 import java.util.ArrayList;
@@ -16,6 +17,7 @@ public class ClassDeclaration extends Declaration {
     private ArrayList<FieldDeclaration> fields = new ArrayList<>();
     private ConstructorDeclaration constructor;
     private ArrayList<MethodDeclaration> methods = new ArrayList<>();
+    private ClassSymbolTableItem symbolTableItem;
 
     public ClassDeclaration(Identifier className) {
         this.className = className;
@@ -69,6 +71,14 @@ public class ClassDeclaration extends Declaration {
         this.fields.add(fieldDeclaration);
     }
 
+    public ClassSymbolTableItem getSymbolTableItem() {
+        return symbolTableItem;
+    }
+
+    public void setSymbolTableItem(ClassSymbolTableItem symbolTableItem) {
+        this.symbolTableItem = symbolTableItem;
+    }
+
     @Override
     public String toString() {
         return "ClassDeclaration_" + this.className.getName();
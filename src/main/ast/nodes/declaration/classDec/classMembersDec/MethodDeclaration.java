@@ -5,6 +5,7 @@ import main.ast.nodes.declaration.variableDec.VarDeclaration;
 import main.ast.nodes.expression.Identifier;
 import main.ast.nodes.statement.Statement;
 import main.ast.types.Type;
+import main.symbolTable.items.MethodSymbolTableItem;
 import main.visitor.IVisitor;
 
 import java.util.ArrayList;
@@ -18,6 +19,8 @@ public class MethodDeclaration extends Declaration {
     protected ArrayList<Statement> body = new ArrayList<>();
     //don't need this until code generation
     protected boolean doesReturn = false;
+    //a redefined method shares the item of its first definition, the one every lookup by name finds
+    protected MethodSymbolTableItem symbolTableItem;
 
     //returnType NullType on when it is Void
     public MethodDeclaration(Identifier methodName, Type returnType) {
@@ -85,6 +88,14 @@ public class MethodDeclaration extends Declaration {
         this.doesReturn = doesReturn;
     }
 
+    public MethodSymbolTableItem getSymbolTableItem() {
+        return symbolTableItem;
+    }
+
+    public void setSymbolTableItem(MethodSymbolTableItem symbolTableItem) {
+        this.symbolTableItem = symbolTableItem;
+    }
+
     @Override
     public String toString() {
         return "MethodDeclaration_" + this.methodName.getName();
@@ -1,13 +1,17 @@
 package main.ast.nodes.expression;
 
+import main.symbolTable.items.SymbolTableItem;
 import main.visitor.IVisitor;
 
 //line -> IDENTIFIER
+//names are interned, so a program that uses one name many times keeps a single copy of it
 public class Identifier extends Expression{
     private String name;
+    //the variable this name refers to, bound once by NameResolver; null if it resolves to nothing
+    private SymbolTableItem symbolTableItem;
 
     public Identifier(String name) {
-        this.name = name;
+        this.name = name.intern();
     }
 
     public String getName() {
@@ -15,7 +19,15 @@ public class Identifier extends Expression{
     }
 
     public void setName(String name) {
-        this.name = name;
+        this.name = name.intern();
+    }
+
+    public SymbolTableItem getSymbolTableItem() {
+        return symbolTableItem;
+    }
+
+    public void setSymbolTableItem(SymbolTableItem symbolTableItem) {
+        this.symbolTableItem = symbolTableItem;
     }
 
     @Override
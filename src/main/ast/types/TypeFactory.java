@@ -0,0 +1,154 @@
+package main.ast.types;
+
+import main.ast.nodes.expression.Identifier;
+import main.ast.types.functionPointer.FptrType;
+import main.ast.types.list.ListNameType;
+import main.ast.types.list.ListType;
+import main.ast.types.single.BoolType;
+import main.ast.types.single.ClassType;
+import main.ast.types.single.IntType;
+import main.ast.types.single.StringType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+//Hands out one canonical instance per type, so structurally equal types are the same object and type equality
+//is a reference comparison. Primitive types are shared singletons; list, function pointer and class types are
+//hash-consed per compilation. Canonical types must never be modified.
+public class TypeFactory {
+    public static final IntType INT = new IntType();
+    public static final BoolType BOOL = new BoolType();
+    public static final StringType STRING = new StringType();
+    public static final NullType NULL = new NullType();
+    public static final NoType NO_TYPE = new NoType();
+
+    private final ConcurrentHashMap<String, ClassType> classTypes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Key, ListType> listTypes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Key, FptrType> fptrTypes = new ConcurrentHashMap<>();
+
+    //children are canonical before a key is built, so keys compare them by reference; count is the length of a
+    //run-length list and -1 for every other key
+    private static class Key {
+        private final int count;
+        private final Object[] parts;
+        private final int hash;
+
+        Key(Object[] parts) {
+            this(-1, parts);
+        }
+
+        Key(int count, Object[] parts) {
+            this.count = count;
+            this.parts = parts;
+            int h = count;
+            for(Object part : parts)
+                h = 31 * h + System.identityHashCode(part);
+            this.hash = h;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof Key))
+                return false;
+            Object[] other = ((Key) o).parts;
+            if(((Key) o).count != count || other.length != parts.length)
+                return false;
+            for(int i = 0; i < parts.length; i++)
+                if(parts[i] != other[i])
+                    return false;
+            return true;
+        }
+    }
+
+    public Type canonical(Type type) {
+        if(type == null)
+            return null;
+        if(type instanceof IntType)
+            return INT;
+        if(type instanceof BoolType)
+            return BOOL;
+        if(type instanceof StringType)
+            return STRING;
+        if(type instanceof NullType)
+            return NULL;
+        if(type instanceof NoType)
+            return NO_TYPE;
+        if(type instanceof ClassType)
+            return this.classType(((ClassType) type).getClassName());
+        if(type instanceof ListType && ((ListType) type).isRepeated())
+            return this.repeatedListType(((ListType) type).size(), ((ListType) type).getRepeatedElement());
+        if(type instanceof ListType)
+            return this.listType(((ListType) type).getElementsTypes());
+        if(type instanceof FptrType)
+            return this.fptrType(((FptrType) type).getArgumentsTypes(), ((FptrType) type).getReturnType());
+        return type;
+    }
+
+    public ClassType classType(Identifier className) {
+        return classTypes.computeIfAbsent(className.getName(), name -> new ClassType(className));
+    }
+
+    //a list whose elements all have the same name and type is the same type as list(N # T), so it is stored
+    //run-length encoded as well
+    public ListType listType(List<ListNameType> elementsTypes) {
+        ListNameType[] elements = new ListNameType[elementsTypes.size()];
+        Object[] parts = new Object[2 * elements.length];
+        boolean repeated = elements.length > 0;
+        for(int i = 0; i < elements.length; i++) {
+            ListNameType element = elementsTypes.get(i);
+            Type type = this.canonical(element.getType());
+            String name = element.getName().getName().intern();
+            elements[i] = type == element.getType() ? element : new ListNameType(element.getName(), type);
+            parts[2 * i] = name;
+            parts[2 * i + 1] = type;
+            if(i > 0 && (parts[0] != name || parts[1] != type))
+                repeated = false;
+        }
+        if(repeated)
+            return this.repeatedListType(elements.length, elements[0]);
+        Key key = new Key(parts);
+        ListType listType = listTypes.get(key);
+        if(listType != null)
+            return listType;
+        listTypes.putIfAbsent(key, new ListType(new ArrayList<>(Arrays.asList(elements))));
+        return listTypes.get(key);
+    }
+
+    public ListType repeatedListType(int count, ListNameType element) {
+        if(count <= 0)
+            return this.listType(new ArrayList<>());
+        Type type = this.canonical(element.getType());
+        Key key = new Key(count, new Object[] {element.getName().getName().intern(), type});
+        ListType listType = listTypes.get(key);
+        if(listType != null)
+            return listType;
+        ListNameType canonicalElement = type == element.getType() ? element : new ListNameType(element.getName(), type);
+        listTypes.putIfAbsent(key, new ListType(count, canonicalElement));
+        return listTypes.get(key);
+    }
+
+    public FptrType fptrType(List<Type> argumentsTypes, Type returnType) {
+        Object[] parts = new Object[argumentsTypes.size() + 1];
+        ArrayList<Type> arguments = new ArrayList<>(argumentsTypes.size());
+        for(int i = 0; i < argumentsTypes.size(); i++) {
+            Type argument = this.canonical(argumentsTypes.get(i));
+            arguments.add(argument);
+            parts[i] = argument;
+        }
+        Type canonicalReturn = this.canonical(returnType);
+        parts[parts.length - 1] = canonicalReturn;
+        Key key = new Key(parts);
+        FptrType fptrType = fptrTypes.get(key);
+        if(fptrType != null)
+            return fptrType;
+        fptrTypes.putIfAbsent(key, new FptrType(arguments, canonicalReturn));
+        return fptrTypes.get(key);
+    }
+}
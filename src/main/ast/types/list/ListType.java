@@ -3,11 +3,36 @@ package main.ast.types.list;
 import main.ast.types.Type;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+//A list(N # T) is kept run-length encoded as (N, T) instead of N copies of the same element; getElementsTypes
+//then returns an O(1) view. Tuple-style lists keep one entry per element.
+//What the checker asks of a list - whether all elements have one type, where a named element is, whether a name
+//is used twice - is computed in one pass on first use and kept, so a canonical type answers it once per
+//compilation.
 public class ListType extends Type {
-    private ArrayList<ListNameType> elementsTypes = new ArrayList<>();
+    private ArrayList<ListNameType> elementsTypes;
+    private int repeatCount;
+    private ListNameType repeatedElement;
+    private volatile Metadata metadata;
+
+    private static class Metadata {
+        private final boolean homogeneous;
+        private final Map<String, Integer> nameIndex;
+        private final boolean duplicateNames;
+
+        Metadata(boolean homogeneous, Map<String, Integer> nameIndex, boolean duplicateNames) {
+            this.homogeneous = homogeneous;
+            this.nameIndex = nameIndex;
+            this.duplicateNames = duplicateNames;
+        }
+    }
 
     public ListType() {
+        this.elementsTypes = new ArrayList<>();
     }
 
     public ListType(ArrayList<ListNameType> elementsTypes) {
@@ -15,21 +40,100 @@ public class ListType extends Type {
     }
 
     public ListType(int listSize, ListNameType listNameType) {
-        for(int i=0; i < listSize; i++) {
-            elementsTypes.add(listNameType);
+        if(listSize > 0) {
+            this.repeatCount = listSize;
+            this.repeatedElement = listNameType;
+        }
+        else
+            this.elementsTypes = new ArrayList<>();
+    }
+
+    //true when every element is the same ListNameType, stored once
+    public boolean isRepeated() {
+        return repeatedElement != null;
+    }
+
+    public ListNameType getRepeatedElement() {
+        return repeatedElement;
+    }
+
+    public int size() {
+        return this.isRepeated() ? repeatCount : elementsTypes.size();
+    }
+
+    public ListNameType getElementType(int index) {
+        if(this.isRepeated()) {
+            if(index < 0 || index >= repeatCount)
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + repeatCount);
+            return repeatedElement;
         }
+        return elementsTypes.get(index);
     }
 
-    public ArrayList<ListNameType> getElementsTypes() {
+    public List<ListNameType> getElementsTypes() {
+        if(this.isRepeated())
+            return Collections.nCopies(repeatCount, repeatedElement);
         return elementsTypes;
     }
 
     public void setElementsTypes(ArrayList<ListNameType> elementsTypes) {
         this.elementsTypes = elementsTypes;
+        this.repeatCount = 0;
+        this.repeatedElement = null;
+        this.metadata = null;
     }
 
     public void addElementType(ListNameType listNameType) {
+        if(this.isRepeated())
+            this.setElementsTypes(new ArrayList<>(this.getElementsTypes()));
         this.elementsTypes.add(listNameType);
+        this.metadata = null;
+    }
+
+    //every element has the very same type object; true for an empty list
+    public boolean isHomogeneous() {
+        return this.getMetadata().homogeneous;
+    }
+
+    //position of the first element with the given name, or -1
+    public int indexOf(String name) {
+        Integer index = this.getMetadata().nameIndex.get(name);
+        return index == null ? -1 : index;
+    }
+
+    //some non-empty element name is used more than once
+    public boolean hasDuplicateNames() {
+        return this.getMetadata().duplicateNames;
+    }
+
+    private Metadata getMetadata() {
+        Metadata current = metadata;
+        if(current == null) {
+            current = this.computeMetadata();
+            metadata = current;
+        }
+        return current;
+    }
+
+    private Metadata computeMetadata() {
+        if(this.isRepeated()) {
+            String name = repeatedElement.getName().getName();
+            if(name.equals(""))
+                return new Metadata(true, Collections.emptyMap(), false);
+            return new Metadata(true, Collections.singletonMap(name, 0), repeatCount > 1);
+        }
+        boolean homogeneous = true;
+        boolean duplicateNames = false;
+        Map<String, Integer> nameIndex = new HashMap<>();
+        for(int i = 0; i < elementsTypes.size(); i++) {
+            ListNameType element = elementsTypes.get(i);
+            if(element.getType() != elementsTypes.get(0).getType())
+                homogeneous = false;
+            String name = element.getName().getName();
+            if(!name.equals("") && nameIndex.putIfAbsent(name, i) != null)
+                duplicateNames = true;
+        }
+        return new Metadata(homogeneous, nameIndex, duplicateNames);
     }
 
     @Override
@@ -1,14 +1,20 @@
 package main.compileErrorException;
 
+//a diagnostic, never thrown; it is created without a stack trace, which would only say where the checker noticed it
 public class CompileErrorException extends Exception {
     private int line;
     private String message;
 
     public CompileErrorException(int line, String message) {
+        super(null, null, false, false);
         this.line = line;
         this.message = message;
     }
 
+    public int getLine() {
+        return line;
+    }
+
     public String getMessage() {
         return "Line:" + this.line + ":" + this.message;
     }
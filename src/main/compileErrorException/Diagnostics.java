@@ -0,0 +1,87 @@
+package main.compileErrorException;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.Program;
+import main.visitor.utils.PreorderIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+//Collects the errors of one compilation as they are found, with the node each one is about, so reporting them
+//costs nothing for error-free code. Errors come out ordered by line. Errors on one line follow their nodes in
+//AST pre-order, the order the nodes used to print their own errors in, and errors of one node the order they were
+//reported in. Only a shared line costs a walk over the AST; the checkers report mostly in line order already,
+//which the stable sort handles in linear time.
+public class Diagnostics {
+    private ArrayList<Record> records = new ArrayList<>();
+    private int section;
+
+    private static class Record {
+        private final Node node;
+        private final CompileErrorException error;
+        private final int section;
+        private int preorder;
+
+        Record(Node node, CompileErrorException error, int section) {
+            this.node = node;
+            this.error = error;
+            this.section = section;
+        }
+    }
+
+    //tags the errors reported from now on; a checker that reports one part of a class at a time numbers the
+    //parts in the order a sequential pass would visit them, and addAll puts them back into that order
+    public synchronized void setSection(int section) {
+        this.section = section;
+    }
+
+    public synchronized void report(Node node, CompileErrorException error) {
+        records.add(new Record(node, error, section));
+    }
+
+    //appends every error of other after the ones already reported, ordered by section
+    public synchronized void addAll(Diagnostics other) {
+        ArrayList<Record> added = new ArrayList<>(other.records);
+        added.sort(Comparator.comparingInt(record -> record.section));
+        records.addAll(added);
+    }
+
+    public synchronized int size() {
+        return records.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return records.isEmpty();
+    }
+
+    //the messages of all errors reported so far on the nodes of program, sorted; the collector is empty afterwards
+    public synchronized ArrayList<String> drain(Program program) {
+        ArrayList<Record> drained = records;
+        records = new ArrayList<>();
+        drained.sort(Comparator.comparingInt(record -> record.error.getLine()));
+        if(hasSharedLine(drained)) {
+            Set<Node> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+            for(Record record : drained)
+                nodes.add(record.node);
+            IdentityHashMap<Node, Integer> positions = PreorderIndex.of(program, nodes);
+            for(Record record : drained)
+                record.preorder = positions.getOrDefault(record.node, Integer.MAX_VALUE);
+            drained.sort(Comparator.comparingInt((Record record) -> record.error.getLine())
+                    .thenComparingInt(record -> record.preorder));
+        }
+        ArrayList<String> messages = new ArrayList<>(drained.size());
+        for(Record record : drained)
+            messages.add(record.error.getMessage());
+        return messages;
+    }
+
+    private static boolean hasSharedLine(ArrayList<Record> sorted) {
+        for(int i = 1; i < sorted.size(); i++)
+            if(sorted.get(i).error.getLine() == sorted.get(i - 1).error.getLine())
+                return true;
+        return false;
+    }
+}
@@ -0,0 +1,39 @@
+package main.generator;
+
+//Errors ProgramGenerator can plant, named after the compileErrorException class each one triggers.
+public enum InjectedError {
+    VAR_NOT_DECLARED("VarNotDeclared"),
+    UNSUPPORTED_OPERAND_TYPE("UnsupportedOperandType"),
+    CONDITION_NOT_BOOL("ConditionNotBool"),
+    CONTINUE_BREAK_NOT_IN_LOOP("ContinueBreakNotInLoop"),
+    LEFT_SIDE_NOT_LVALUE("LeftSideNotLvalue"),
+    UNSUPPORTED_TYPE_FOR_PRINT("UnsupportedTypeForPrint"),
+    LIST_INDEX_NOT_INT("ListIndexNotInt"),
+    MEMBER_NOT_AVAILABLE_IN_CLASS("MemberNotAvailableInClass"),
+    METHOD_CALL_NOT_MATCH_DEFINITION("MethodCallNotMatchDefinition"),
+    RETURN_VALUE_NOT_MATCH_METHOD_RETURN_TYPE("ReturnValueNotMatchMethodReturnType"),
+    CLASS_NOT_DECLARED("ClassNotDeclared"),
+    DUPLICATE_LIST_ID("DuplicateListId"),
+    LOCAL_VAR_REDEFINITION("LocalVarRedefinition"),
+    FIELD_REDEFINITION("FieldRedefinition"),
+    METHOD_REDEFINITION("MethodRedefinition"),
+    METHOD_NAME_CONFLICT_WITH_FIELD("MethodNameConflictWithField"),
+    CLASS_IN_CYCLIC_INHERITANCE("ClassInCyclicInheritance");
+
+    private final String exceptionName;
+
+    InjectedError(String exceptionName) {
+        this.exceptionName = exceptionName;
+    }
+
+    public String getExceptionName() {
+        return exceptionName;
+    }
+
+    public static InjectedError fromName(String name) {
+        for(InjectedError injectedError : values())
+            if(injectedError.name().equalsIgnoreCase(name) || injectedError.exceptionName.equalsIgnoreCase(name))
+                return injectedError;
+        throw new IllegalArgumentException("unknown error kind " + name);
+    }
+}
@@ -0,0 +1,416 @@
+package main.generator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Random;
+
+//Emits large Sophia programs for benchmarks and stress tests. Classes C0, C1, ... form inheritance chains of
+//the given depth; every class has an int field f<i>_0, a constructor and int methods m<i>_<k>(a: int, b: int)
+//that use inherited fields and methods, nested list/func types, loops and deeply nested expressions.
+//Without injected errors the output compiles successfully. The same options and seed give the same program.
+public class ProgramGenerator {
+    private static final String[] INT_OPERATORS = {"+", "-", "*", "/", "%"};
+    private static final String[] PRIMITIVES = {"int", "string", "bool"};
+    private static final int LIST_SIZE = 4;
+
+    private int classes = 10;
+    private int inheritanceDepth = 3;
+    private int fieldsPerClass = 3;
+    private int methodsPerClass = 3;
+    private int statementsPerMethod = 10;
+    private int typeNesting = 2;
+    private int expressionDepth = 4;
+    private long targetLines = 0;
+    private EnumSet<InjectedError> injectedErrors = EnumSet.noneOf(InjectedError.class);
+    private double errorRate = 0.1;
+    private long seed = 1;
+
+    private Random random;
+    private Appendable out;
+    private long lines;
+    private EnumMap<InjectedError, Integer> injected;
+
+    public int getClasses() {
+        return classes;
+    }
+
+    public void setClasses(int classes) {
+        this.classes = classes;
+    }
+
+    public int getInheritanceDepth() {
+        return inheritanceDepth;
+    }
+
+    //length of each inheritance chain; 1 means no class extends another
+    public void setInheritanceDepth(int inheritanceDepth) {
+        this.inheritanceDepth = Math.max(1, inheritanceDepth);
+    }
+
+    public int getFieldsPerClass() {
+        return fieldsPerClass;
+    }
+
+    public void setFieldsPerClass(int fieldsPerClass) {
+        this.fieldsPerClass = Math.max(1, fieldsPerClass);
+    }
+
+    public int getMethodsPerClass() {
+        return methodsPerClass;
+    }
+
+    public void setMethodsPerClass(int methodsPerClass) {
+        this.methodsPerClass = Math.max(1, methodsPerClass);
+    }
+
+    public int getStatementsPerMethod() {
+        return statementsPerMethod;
+    }
+
+    public void setStatementsPerMethod(int statementsPerMethod) {
+        this.statementsPerMethod = statementsPerMethod;
+    }
+
+    public int getTypeNesting() {
+        return typeNesting;
+    }
+
+    //how deep list(...) and func<...> types nest inside field declarations
+    public void setTypeNesting(int typeNesting) {
+        this.typeNesting = typeNesting;
+    }
+
+    public int getExpressionDepth() {
+        return expressionDepth;
+    }
+
+    public void setExpressionDepth(int expressionDepth) {
+        this.expressionDepth = expressionDepth;
+    }
+
+    public long getTargetLines() {
+        return targetLines;
+    }
+
+    //when positive, classes are emitted until the program has at least this many lines and classes is ignored
+    public void setTargetLines(long targetLines) {
+        this.targetLines = targetLines;
+    }
+
+    public EnumSet<InjectedError> getInjectedErrors() {
+        return injectedErrors;
+    }
+
+    public void setInjectedErrors(EnumSet<InjectedError> injectedErrors) {
+        this.injectedErrors = injectedErrors;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    //chance that a class (for class-level kinds) or a method (for the others) gets one injected error
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    //how many errors of each kind the last generate call planted
+    public EnumMap<InjectedError, Integer> getInjected() {
+        return injected;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public String generate() {
+        StringBuilder program = new StringBuilder();
+        try {
+            this.generate(program);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return program.toString();
+    }
+
+    public void generate(Appendable out) throws IOException {
+        this.out = out;
+        this.random = new Random(seed);
+        this.lines = 0;
+        this.injected = new EnumMap<>(InjectedError.class);
+        int count = 0;
+        while(targetLines > 0 ? lines < targetLines : count < classes) {
+            this.sophiaClass(count, targetLines > 0 ? Integer.MAX_VALUE : classes);
+            count++;
+        }
+        this.mainClass(count);
+    }
+
+    private void line(String text) throws IOException {
+        out.append(text).append('\n');
+        lines++;
+    }
+
+    private InjectedError pickError(boolean classLevel) {
+        if(injectedErrors.isEmpty() || random.nextDouble() >= errorRate)
+            return null;
+        ArrayList<InjectedError> candidates = new ArrayList<>();
+        for(InjectedError injectedError : injectedErrors)
+            if(isClassLevel(injectedError) == classLevel)
+                candidates.add(injectedError);
+        if(candidates.isEmpty())
+            return null;
+        InjectedError picked = candidates.get(random.nextInt(candidates.size()));
+        injected.merge(picked, 1, Integer::sum);
+        return picked;
+    }
+
+    private static boolean isClassLevel(InjectedError injectedError) {
+        switch (injectedError) {
+            case FIELD_REDEFINITION:
+            case METHOD_REDEFINITION:
+            case METHOD_NAME_CONFLICT_WITH_FIELD:
+            case CLASS_IN_CYCLIC_INHERITANCE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private int chainStart(int index) {
+        return index - index % inheritanceDepth;
+    }
+
+    //some class of the chain from its start up to index, so members are found in the class or an ancestor
+    private int ancestorOrSelf(int index) {
+        return chainStart(index) + random.nextInt(index - chainStart(index) + 1);
+    }
+
+    private void sophiaClass(int index, int limit) throws IOException {
+        InjectedError error = this.pickError(true);
+        String header = "class C" + index;
+        if(error == InjectedError.CLASS_IN_CYCLIC_INHERITANCE)
+            header += " extends C" + Math.min(chainStart(index) + inheritanceDepth - 1, limit - 1);
+        else if(index != chainStart(index))
+            header += " extends C" + (index - 1);
+        line(header + " {");
+        line("    f" + index + "_0: int;");
+        for(int k = 1; k < fieldsPerClass; k++)
+            line("    f" + index + "_" + k + ": " + this.type(typeNesting, index) + ";");
+        if(error == InjectedError.FIELD_REDEFINITION)
+            line("    f" + index + "_0: string;");
+        if(error == InjectedError.METHOD_NAME_CONFLICT_WITH_FIELD)
+            line("    m" + index + "_0: int;");
+        line("    def C" + index + "() {");
+        line("        this.f" + index + "_0 = " + index + ";");
+        line("    }");
+        for(int k = 0; k < methodsPerClass; k++)
+            this.method(index, k, k);
+        if(error == InjectedError.METHOD_REDEFINITION)
+            this.method(index, 0, methodsPerClass);
+        line("}");
+        line("");
+    }
+
+    private String type(int nesting, int index) {
+        if(nesting <= 0) {
+            int choice = random.nextInt(PRIMITIVES.length + 1);
+            return choice < PRIMITIVES.length ? PRIMITIVES[choice] : "C" + random.nextInt(index + 1);
+        }
+        switch (random.nextInt(3)) {
+            case 0: return "list(" + (1 + random.nextInt(LIST_SIZE)) + " # " + this.type(nesting - 1, index) + ")";
+            case 1: return "list(k0: " + this.type(nesting - 1, index) + ", k1: " + this.type(0, index) + ")";
+            default: return "func<" + this.type(0, index) + ", " + this.type(nesting - 1, index) + " -> " + this.type(nesting - 1, index) + ">";
+        }
+    }
+
+    private void method(int index, int k, int copy) throws IOException {
+        InjectedError error = this.pickError(false);
+        line("    def int m" + index + "_" + k + "(a: int, b: int) {");
+        line("        x: int;");
+        line("        v: int;");
+        line("        s: string;");
+        line("        flag: bool;");
+        line("        l: list(" + LIST_SIZE + " # int);");
+        line("        p: func<int, int -> int>;");
+        line("        o: C" + index + ";");
+        if(error == InjectedError.LOCAL_VAR_REDEFINITION)
+            line("        x: string;");
+        if(error == InjectedError.CLASS_NOT_DECLARED)
+            line("        u: Undeclared" + index + ";");
+        if(error == InjectedError.DUPLICATE_LIST_ID)
+            line("        d: list(k: int, k: string);");
+        line("        x = " + copy + ";");
+        int errorAt = statementsPerMethod > 0 ? random.nextInt(statementsPerMethod) : 0;
+        for(int i = 0; i < statementsPerMethod; i++) {
+            if(error != null && i == errorAt)
+                this.errorStatement(error, index);
+            this.statement(i, index);
+        }
+        if(error == InjectedError.RETURN_VALUE_NOT_MATCH_METHOD_RETURN_TYPE)
+            line("        return \"x\";");
+        else
+            line("        return x;");
+        line("    }");
+    }
+
+    private void statement(int i, int index) throws IOException {
+        switch (i % 10) {
+            case 0: line("        x = " + this.intExpression(expressionDepth, index) + ";"); break;
+            case 1:
+                line("        if(" + this.boolExpression(expressionDepth, index) + ") {");
+                line("            x = x + 1;");
+                line("        }");
+                line("        else {");
+                line("            x = x - 1;");
+                line("        }");
+                break;
+            case 2:
+                line("        foreach(v in l) {");
+                line("            x = x + v * " + this.intLeaf(index) + ";");
+                line("        }");
+                break;
+            case 3:
+                line("        for(v = 0; v < b; v = v + 1) {");
+                line("            if(v == " + this.intLeaf(index) + ") continue;");
+                line("            x = x + this.f" + ancestorOrSelf(index) + "_0;");
+                line("        }");
+                break;
+            case 4:
+                line("        p = this.m" + ancestorOrSelf(index) + "_0;");
+                line("        x = p(a, " + this.intExpression(expressionDepth / 2, index) + ");");
+                break;
+            case 5: line("        print(x);"); break;
+            case 6: line("        flag = " + this.boolExpression(expressionDepth, index) + ";"); break;
+            case 7: line("        s = \"s" + index + "\";"); break;
+            case 8: line("        l[" + random.nextInt(LIST_SIZE) + "] = " + this.intExpression(expressionDepth, index) + ";"); break;
+            default:
+                line("        o = new C" + index + "();");
+                line("        x = o.m" + ancestorOrSelf(index) + "_0(x, " + this.intLeaf(index) + ");");
+        }
+    }
+
+    private void errorStatement(InjectedError error, int index) throws IOException {
+        switch (error) {
+            case VAR_NOT_DECLARED: line("        x = undeclared" + index + ";"); break;
+            case UNSUPPORTED_OPERAND_TYPE: line("        x = x + s;"); break;
+            case CONDITION_NOT_BOOL: line("        if(x) print(x);"); break;
+            case CONTINUE_BREAK_NOT_IN_LOOP: line("        break;"); break;
+            case LEFT_SIDE_NOT_LVALUE: line("        1 = x;"); break;
+            case UNSUPPORTED_TYPE_FOR_PRINT: line("        print(p);"); break;
+            case LIST_INDEX_NOT_INT: line("        x = l[s];"); break;
+            case MEMBER_NOT_AVAILABLE_IN_CLASS: line("        x = this.missing" + index + ";"); break;
+            case METHOD_CALL_NOT_MATCH_DEFINITION: line("        x = this.m" + index + "_0(x);"); break;
+            default:
+        }
+    }
+
+    private String intLeaf(int index) {
+        switch (random.nextInt(7)) {
+            case 0: return "a";
+            case 1: return "b";
+            case 2: return "x";
+            case 3: return "this.f" + ancestorOrSelf(index) + "_0";
+            case 4: return "l[" + random.nextInt(LIST_SIZE) + "]";
+            case 5: return "this.m" + ancestorOrSelf(index) + "_0(a, b)";
+            default: return String.valueOf(1 + random.nextInt(100));
+        }
+    }
+
+    //nests depth operators deep while growing linearly, one operand of each operator being a leaf
+    private String intExpression(int depth, int index) {
+        if(depth <= 0)
+            return this.intLeaf(index);
+        if(random.nextInt(5) == 0)
+            return "(-" + this.intExpression(depth - 1, index) + ")";
+        String operator = INT_OPERATORS[random.nextInt(INT_OPERATORS.length)];
+        if(random.nextBoolean())
+            return "(" + this.intExpression(depth - 1, index) + " " + operator + " " + this.intLeaf(index) + ")";
+        return "(" + this.intLeaf(index) + " " + operator + " " + this.intExpression(depth - 1, index) + ")";
+    }
+
+    private String comparison(int depth, int index) {
+        String[] operators = {"<", ">", "=="};
+        return "(" + this.intExpression(depth, index) + " " + operators[random.nextInt(operators.length)] + " " + this.intLeaf(index) + ")";
+    }
+
+    private String boolExpression(int depth, int index) {
+        if(depth <= 0)
+            return random.nextBoolean() ? "flag" : this.comparison(0, index);
+        switch (random.nextInt(3)) {
+            case 0: return "(!" + this.boolExpression(depth - 1, index) + ")";
+            case 1: return "(" + this.boolExpression(depth - 1, index) + " && " + this.comparison(depth / 2, index) + ")";
+            default: return "(" + this.comparison(depth / 2, index) + " || " + this.boolExpression(depth - 1, index) + ")";
+        }
+    }
+
+    private void mainClass(int count) throws IOException {
+        line("class Main {");
+        line("    def Main() {");
+        int chains = Math.min(10, (count + inheritanceDepth - 1) / inheritanceDepth);
+        for(int i = 0; i < chains; i++)
+            line("        o" + i + ": C" + Math.min(count - 1, i * inheritanceDepth + inheritanceDepth - 1) + ";");
+        for(int i = 0; i < chains; i++) {
+            int leaf = Math.min(count - 1, i * inheritanceDepth + inheritanceDepth - 1);
+            line("        o" + i + " = new C" + leaf + "();");
+            line("        print(o" + i + ".m" + leaf + "_0(" + i + ", 2));");
+        }
+        line("    }");
+        line("}");
+    }
+
+    //Options: --classes N --depth D --fields F --methods M --statements S --type-nesting T --expression-depth E
+    //--lines L --errors all|KIND,KIND --error-rate R --seed S -o <file>; writes to stdout without -o.
+    public static void main(String[] args) throws IOException {
+        ProgramGenerator generator = new ProgramGenerator();
+        String outputFile = null;
+        for(int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--classes": generator.setClasses(Integer.parseInt(args[++i])); break;
+                case "--depth": generator.setInheritanceDepth(Integer.parseInt(args[++i])); break;
+                case "--fields": generator.setFieldsPerClass(Integer.parseInt(args[++i])); break;
+                case "--methods": generator.setMethodsPerClass(Integer.parseInt(args[++i])); break;
+                case "--statements": generator.setStatementsPerMethod(Integer.parseInt(args[++i])); break;
+                case "--type-nesting": generator.setTypeNesting(Integer.parseInt(args[++i])); break;
+                case "--expression-depth": generator.setExpressionDepth(Integer.parseInt(args[++i])); break;
+                case "--lines": generator.setTargetLines(Long.parseLong(args[++i])); break;
+                case "--errors": generator.setInjectedErrors(parseErrors(args[++i])); break;
+                case "--error-rate": generator.setErrorRate(Double.parseDouble(args[++i])); break;
+                case "--seed": generator.setSeed(Long.parseLong(args[++i])); break;
+                case "-o": outputFile = args[++i]; break;
+                default: throw new IllegalArgumentException("unknown option " + args[i]);
+            }
+        }
+        Writer writer = outputFile == null ? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+                : Files.newBufferedWriter(Paths.get(outputFile), StandardCharsets.UTF_8);
+        try (BufferedWriter out = new BufferedWriter(writer)) {
+            generator.generate(out);
+        }
+        System.err.println(generator.getLines() + " lines, injected errors: " + generator.getInjected());
+    }
+
+    private static EnumSet<InjectedError> parseErrors(String kinds) {
+        if(kinds.equals("all"))
+            return EnumSet.allOf(InjectedError.class);
+        EnumSet<InjectedError> injectedErrors = EnumSet.noneOf(InjectedError.class);
+        for(String kind : kinds.split(","))
+            injectedErrors.add(InjectedError.fromName(kind.trim()));
+        return injectedErrors;
+    }
+}
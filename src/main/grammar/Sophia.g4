@@ -33,6 +33,7 @@ program returns[Program programRet]:
         c=sophiaClass
         { $programRet.addClass($c.sophiaClassRet); }
     )*
+    { $programRet.getClasses().trimToSize(); }
     ;
 
 sophiaClass returns[ClassDeclaration sophiaClassRet]:
@@ -78,6 +79,10 @@ sophiaClass returns[ClassDeclaration sophiaClassRet]:
     )*
     ))
     RBRACE
+    {
+        $sophiaClassRet.getFields().trimToSize();
+        $sophiaClassRet.getMethods().trimToSize();
+    }
     ;
 
 varDeclaration returns[VarDeclaration varDeclarationRet, int line]:
@@ -95,7 +100,7 @@ method returns[MethodDeclaration methodRet]
     d=DEF ((t=type
     { $returnType = $t.typeRet; }
     ) | (VOID
-    { $returnType = new NullType(); }
+    { $returnType = TypeFactory.NULL; }
     ))
     name=identifier
     {
@@ -137,6 +142,7 @@ methodArguments returns[ArrayList<VarDeclaration> argsRet]:
     { $argsRet.add($v2.varWithTypeRet); }
     )*
     )?
+    { $argsRet.trimToSize(); }
     ;
 
 variableWithType returns[VarDeclaration varWithTypeRet]:
@@ -200,7 +206,7 @@ functionPointerType returns[FptrType fptrTypeRet]:
     { $fptrTypeRet.setArgumentsTypes($types.typesWithCommaRet); }
     ) ARROW
     (VOID
-    { $fptrTypeRet.setReturnType(new NullType()); }
+    { $fptrTypeRet.setReturnType(TypeFactory.NULL); }
     | t=type
     { $fptrTypeRet.setReturnType($t.typeRet); }
     ) GREATER_THAN
@@ -217,11 +223,11 @@ typesWithComma returns[ArrayList<Type> typesWithCommaRet]:
 
 primitiveDataType returns[Type primitiveTypeRet]:
     INT
-    { $primitiveTypeRet = new IntType(); }
+    { $primitiveTypeRet = TypeFactory.INT; }
     | STRING
-    { $primitiveTypeRet = new StringType(); }
+    { $primitiveTypeRet = TypeFactory.STRING; }
     | BOOLEAN
-    { $primitiveTypeRet = new BoolType(); }
+    { $primitiveTypeRet = TypeFactory.BOOL; }
     ;
 
 methodBody returns[ArrayList<VarDeclaration> localVars, ArrayList<Statement> statements]:
@@ -235,6 +241,10 @@ methodBody returns[ArrayList<VarDeclaration> localVars, ArrayList<Statement> sta
     (s=statement
         { $statements.add($s.sRet); }
     )*
+    {
+        $localVars.trimToSize();
+        $statements.trimToSize();
+    }
     ;
 
 statement returns[Statement sRet]:
@@ -267,6 +277,7 @@ block returns[BlockStmt blockRet]:
     (s=statement
         { $blockRet.addStatement($s.sRet); }
     )* RBRACE
+    { $blockRet.getStatements().trimToSize(); }
     ;
 
 assignmentStatement returns[AssignmentStmt assignStmtRet]:
@@ -317,11 +328,33 @@ methodCallStatement returns[Statement methodCallStmtRet]:
     SEMICOLLON
     ;
 
-methodCall returns[Statement methodCallRet]:
-    ae=accessExpression
+//the access chain of accessExpression, repeated here so that leaving it at the last call is decided within this
+//rule: through accessExpression, whether a '(' ends the chain depends on the caller, which SLL prediction cannot see
+methodCall returns[Statement methodCallRet]
+    locals[Expression instance]:
+    oe=otherExpression
+    { $instance = $oe.otherExprRet; }
+    (
+    (l1=LPAR m1=methodCallArguments
+    {
+        $instance = new MethodCall($instance, $m1.methodCallArgsRet);
+        $instance.setLine($l1.line);
+    }
+    RPAR)
+    | (DOT i=identifier)
+    {
+        $instance = new ObjectOrListMemberAccess($instance, $i.idRet);
+        $instance.setLine($i.line);
+    }
+    | (l2=LBRACK index=expression RBRACK)
+    {
+        $instance = new ListAccessByIndex($instance, $index.exprRet);
+        $instance.setLine($l2.getLine());
+    }
+    )*
     (l=LPAR m2=methodCallArguments
     {
-        MethodCall methodCall = new MethodCall($ae.accessExprRet, $m2.methodCallArgsRet);
+        MethodCall methodCall = new MethodCall($instance, $m2.methodCallArgsRet);
         methodCall.setLine($l.line);
         $methodCallRet = new MethodCallStmt(methodCall);
         $methodCallRet.setLine($l.line);
@@ -337,6 +370,7 @@ methodCallArguments returns[ArrayList<Expression> methodCallArgsRet]:
     { $methodCallArgsRet.add($e2.exprRet); }
     )*
     )?
+    { $methodCallArgsRet.trimToSize(); }
     ;
 
 continueBreakStatement returns[Statement continueBreakRet]:
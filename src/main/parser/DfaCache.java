@@ -0,0 +1,425 @@
+package main.parser;
+
+import org.antlr.v4.runtime.RuntimeMetaData;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNConfig;
+import org.antlr.v4.runtime.atn.ATNConfigSet;
+import org.antlr.v4.runtime.atn.ATNSimulator;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.ArrayPredictionContext;
+import org.antlr.v4.runtime.atn.LexerATNConfig;
+import org.antlr.v4.runtime.atn.LexerAction;
+import org.antlr.v4.runtime.atn.LexerActionExecutor;
+import org.antlr.v4.runtime.atn.LexerIndexedCustomAction;
+import org.antlr.v4.runtime.atn.OrderedATNConfigSet;
+import org.antlr.v4.runtime.atn.PredictionContext;
+import org.antlr.v4.runtime.atn.SemanticContext;
+import org.antlr.v4.runtime.atn.SingletonPredictionContext;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+import parsers.SophiaLexer;
+import parsers.SophiaParser;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+//Saves the prediction DFAs SophiaLexer and SophiaParser have learned and loads them into a fresh process, so the
+//first source it compiles does not pay for building them again. The DFAs are static and shared by every lexer and
+//parser; each state keeps the ATN configurations it was computed from, so that prediction can add states to it
+//later, and those are written out as well, with the prediction contexts they share written once.
+//A file is only used if it was written for the same ANTLR version and the same serialized ATNs, which its header
+//keeps a copy of, and every ATN state, return state, token type and lexer action in it is checked against the ATN
+//while it is read. Nothing is installed unless the whole file reads back, and only into DFAs that are still empty.
+//Semantic predicates and precedence DFAs are not supported; Sophia.g4 has neither.
+public class DfaCache {
+    private static final int MAGIC = 0x53444641;
+    private static final int FORMAT_VERSION = 1;
+    private static final int NONE = -1;
+    private static final int ERROR_STATE = -2;
+    private static final int LEXER_EDGES = 127 + 1;
+
+    private static DFA[] lexerDfa() {
+        return new SophiaLexer(null).getInterpreter().decisionToDFA;
+    }
+
+    private static DFA[] parserDfa() {
+        return new SophiaParser(null).getInterpreter().decisionToDFA;
+    }
+
+    public static int stateCount() {
+        int count = 0;
+        for(DFA[] decisions : new DFA[][] {lexerDfa(), parserDfa()})
+            for(DFA dfa : decisions)
+                synchronized (dfa.states) {
+                    count += dfa.states.size();
+                }
+        return count;
+    }
+
+    //the file is nothing but big-endian ints, which load copies into an int[] in one go; reading them one by one
+    //from a stream is most of the time a fresh JVM spends on a cache. The last one is a CRC32 of the others.
+    private static void writeBoolean(DataOutputStream output, boolean value) throws IOException {
+        output.writeInt(value ? 1 : 0);
+    }
+
+    private static void writeText(DataOutputStream output, String text) throws IOException {
+        output.writeInt(text.length());
+        for(int i = 0; i < text.length(); i++)
+            output.writeInt(text.charAt(i));
+    }
+
+    private static IntBuffer readInts(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        if(bytes.length % Integer.BYTES != 0 || bytes.length == 0)
+            throw new IOException("corrupt: truncated");
+        int[] ints = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(ints);
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length - Integer.BYTES);
+        if(ints[ints.length - 1] != (int) checksum.getValue())
+            throw new IOException("corrupt: checksum");
+        return IntBuffer.wrap(ints, 0, ints.length - 1);
+    }
+
+    private static boolean readText(IntBuffer input, String expected) {
+        int length = input.get();
+        if(length != expected.length())
+            return false;
+        boolean same = true;
+        for(int i = 0; i < length; i++)
+            same &= input.get() == expected.charAt(i);
+        return same;
+    }
+
+    //written to a temporary file next to it first, so a reader never sees half a file
+    public static void save(Path file) throws IOException {
+        List<List<DFAState>> lexerStates = snapshot(lexerDfa());
+        List<List<DFAState>> parserStates = snapshot(parserDfa());
+        ArrayList<PredictionContext> contexts = new ArrayList<>();
+        IdentityHashMap<PredictionContext, Integer> contextIds = new IdentityHashMap<>();
+        for(List<List<DFAState>> states : Arrays.asList(lexerStates, parserStates))
+            for(List<DFAState> decision : states)
+                for(DFAState state : decision)
+                    for(ATNConfig config : state.configs)
+                        collectContexts(config.context, contexts, contextIds);
+
+        Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            CRC32 checksum = new CRC32();
+            try (DataOutputStream output = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temporary)), checksum))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                writeText(output, RuntimeMetaData.VERSION);
+                writeText(output, SophiaLexer._serializedATN);
+                writeText(output, SophiaParser._serializedATN);
+                output.writeInt(contexts.size());
+                for(PredictionContext context : contexts)
+                    writeContext(output, context, contextIds);
+                writeDecisions(output, lexerStates, SophiaLexer._ATN, contextIds, true);
+                writeDecisions(output, parserStates, SophiaParser._ATN, contextIds, false);
+                output.writeInt((int) checksum.getValue());
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    //states of each decision, the start state first; states without a start state are of no use to prediction
+    private static List<List<DFAState>> snapshot(DFA[] decisions) throws IOException {
+        List<List<DFAState>> snapshot = new ArrayList<>();
+        for(DFA dfa : decisions) {
+            if(dfa.isPrecedenceDfa())
+                throw new IOException("precedence DFAs are not supported");
+            ArrayList<DFAState> states = new ArrayList<>();
+            synchronized (dfa.states) {
+                DFAState s0 = dfa.s0;
+                if(s0 != null) {
+                    states.add(s0);
+                    for(DFAState state : dfa.states.values())
+                        if(state != s0)
+                            states.add(state);
+                }
+            }
+            snapshot.add(states);
+        }
+        return snapshot;
+    }
+
+    //parents get their id before the contexts that point to them
+    private static void collectContexts(PredictionContext context, List<PredictionContext> contexts,
+                                        IdentityHashMap<PredictionContext, Integer> contextIds) {
+        if(context == null || contextIds.containsKey(context))
+            return;
+        for(int i = 0; i < context.size(); i++)
+            collectContexts(context.getParent(i), contexts, contextIds);
+        contextIds.put(context, contexts.size());
+        contexts.add(context);
+    }
+
+    private static void writeContext(DataOutputStream output, PredictionContext context,
+                                     IdentityHashMap<PredictionContext, Integer> contextIds) throws IOException {
+        output.writeInt(context.size());
+        for(int i = 0; i < context.size(); i++) {
+            PredictionContext parent = context.getParent(i);
+            output.writeInt(parent == null ? NONE : contextIds.get(parent));
+            output.writeInt(context.getReturnState(i));
+        }
+    }
+
+    private static void writeDecisions(DataOutputStream output, List<List<DFAState>> decisions, ATN atn,
+                                       IdentityHashMap<PredictionContext, Integer> contextIds, boolean lexer)
+            throws IOException {
+        output.writeInt(decisions.size());
+        for(List<DFAState> states : decisions) {
+            IdentityHashMap<DFAState, Integer> stateIds = new IdentityHashMap<>();
+            for(DFAState state : states)
+                stateIds.put(state, stateIds.size());
+            output.writeInt(states.size());
+            for(DFAState state : states) {
+                if(state.predicates != null)
+                    throw new IOException("semantic predicates are not supported");
+                output.writeInt(state.stateNumber);
+                writeConfigs(output, state.configs, atn, contextIds, lexer);
+                writeBoolean(output, state.isAcceptState);
+                output.writeInt(state.prediction);
+                writeBoolean(output, state.requiresFullContext);
+                if(lexer)
+                    writeActions(output, state.lexerActionExecutor, atn);
+            }
+            for(DFAState state : states) {
+                DFAState[] edges = state.edges;
+                if(edges == null) {
+                    output.writeInt(0);
+                    continue;
+                }
+                //an edge to a state some other thread is adding right now is left out; prediction adds it again
+                ArrayList<int[]> known = new ArrayList<>();
+                for(int symbol = 0; symbol < edges.length; symbol++) {
+                    DFAState target = edges[symbol];
+                    if(target == ATNSimulator.ERROR)
+                        known.add(new int[] {symbol, ERROR_STATE});
+                    else if(target != null && stateIds.containsKey(target))
+                        known.add(new int[] {symbol, stateIds.get(target)});
+                }
+                output.writeInt(edges.length);
+                output.writeInt(known.size());
+                for(int[] edge : known) {
+                    output.writeInt(edge[0]);
+                    output.writeInt(edge[1]);
+                }
+            }
+        }
+    }
+
+    private static void writeConfigs(DataOutputStream output, ATNConfigSet configs, ATN atn,
+                                     IdentityHashMap<PredictionContext, Integer> contextIds, boolean lexer)
+            throws IOException {
+        writeBoolean(output, configs.fullCtx);
+        output.writeInt(configs.uniqueAlt);
+        writeBoolean(output, configs.dipsIntoOuterContext);
+        output.writeInt(configs.size());
+        for(ATNConfig config : configs) {
+            if(config.semanticContext != SemanticContext.NONE)
+                throw new IOException("semantic predicates are not supported");
+            output.writeInt(config.state.stateNumber);
+            output.writeInt(config.alt);
+            output.writeInt(config.context == null ? NONE : contextIds.get(config.context));
+            output.writeInt(config.reachesIntoOuterContext);
+            writeBoolean(output, config.isPrecedenceFilterSuppressed());
+            if(lexer) {
+                LexerATNConfig lexerConfig = (LexerATNConfig) config;
+                if(lexerConfig.hasPassedThroughNonGreedyDecision())
+                    throw new IOException("non-greedy lexer rules are not supported");
+                writeActions(output, lexerConfig.getLexerActionExecutor(), atn);
+            }
+        }
+    }
+
+    //actions by their index in the ATN, with the offset of a position dependent one
+    private static void writeActions(DataOutputStream output, LexerActionExecutor executor, ATN atn)
+            throws IOException {
+        if(executor == null) {
+            output.writeInt(NONE);
+            return;
+        }
+        LexerAction[] actions = executor.getLexerActions();
+        output.writeInt(actions.length);
+        List<LexerAction> atnActions = Arrays.asList(atn.lexerActions);
+        for(LexerAction action : actions) {
+            int offset = NONE;
+            if(action instanceof LexerIndexedCustomAction) {
+                offset = ((LexerIndexedCustomAction) action).getOffset();
+                action = ((LexerIndexedCustomAction) action).getAction();
+            }
+            output.writeInt(atnActions.indexOf(action));
+            output.writeInt(offset);
+        }
+    }
+
+    //false if there is no such file or the DFAs are no longer empty; a file that is not a cache for this grammar
+    //is an IOException
+    public static boolean load(Path file) throws IOException {
+        DFA[] lexerDfa = lexerDfa();
+        DFA[] parserDfa = parserDfa();
+        for(DFA[] decisions : new DFA[][] {lexerDfa, parserDfa})
+            for(DFA dfa : decisions)
+                if(dfa.s0 != null || !dfa.states.isEmpty())
+                    return false;
+        DFA[] lexerLoaded;
+        DFA[] parserLoaded;
+        try {
+            IntBuffer input = readInts(file);
+            if(input.get() != MAGIC || input.get() != FORMAT_VERSION)
+                throw new IOException("not a DFA cache");
+            if(!readText(input, RuntimeMetaData.VERSION) || !readText(input, SophiaLexer._serializedATN)
+                    || !readText(input, SophiaParser._serializedATN))
+                throw new IOException("written for a different grammar or ANTLR version");
+            int atnStates = Math.max(SophiaLexer._ATN.states.size(), SophiaParser._ATN.states.size());
+            PredictionContext[] contexts = new PredictionContext[readCount(input)];
+            for(int i = 0; i < contexts.length; i++)
+                contexts[i] = readContext(input, contexts, i, atnStates);
+            lexerLoaded = readDecisions(input, SophiaLexer._ATN, contexts, true);
+            parserLoaded = readDecisions(input, SophiaParser._ATN, contexts, false);
+            if(input.hasRemaining())
+                throw new IOException("corrupt: trailing data");
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("corrupt: " + e, e);
+        }
+        System.arraycopy(lexerLoaded, 0, lexerDfa, 0, lexerDfa.length);
+        System.arraycopy(parserLoaded, 0, parserDfa, 0, parserDfa.length);
+        return true;
+    }
+
+    //every element takes at least an int, so a larger count can only come from a damaged file
+    private static int readCount(IntBuffer input) throws IOException {
+        return checkCount(input.get(), input);
+    }
+
+    private static int checkCount(int count, IntBuffer input) throws IOException {
+        if(count < 0 || count > input.remaining())
+            throw new IOException("corrupt: count " + count);
+        return count;
+    }
+
+    private static PredictionContext readContext(IntBuffer input, PredictionContext[] contexts, int id,
+                                                 int atnStates) throws IOException {
+        int size = readCount(input);
+        if(size < 1)
+            throw new IOException("corrupt: empty prediction context");
+        PredictionContext[] parents = new PredictionContext[size];
+        int[] returnStates = new int[size];
+        for(int i = 0; i < size; i++) {
+            int parent = input.get();
+            if(parent < NONE || parent >= id)
+                throw new IOException("corrupt: prediction context " + id + " has parent " + parent);
+            parents[i] = parent == NONE ? null : contexts[parent];
+            returnStates[i] = input.get();
+            if(returnStates[i] != PredictionContext.EMPTY_RETURN_STATE
+                    && (returnStates[i] < 0 || returnStates[i] >= atnStates))
+                throw new IOException("corrupt: return state " + returnStates[i]);
+        }
+        if(size == 1)
+            return SingletonPredictionContext.create(parents[0], returnStates[0]);
+        return new ArrayPredictionContext(parents, returnStates);
+    }
+
+    private static DFA[] readDecisions(IntBuffer input, ATN atn, PredictionContext[] contexts, boolean lexer)
+            throws IOException {
+        DFA[] decisions = new DFA[atn.getNumberOfDecisions()];
+        if(input.get() != decisions.length)
+            throw new IOException("corrupt: decision count");
+        int edgeCount = lexer ? LEXER_EDGES : atn.maxTokenType + 1 + 1;
+        for(int decision = 0; decision < decisions.length; decision++) {
+            DFA dfa = new DFA(atn.getDecisionState(decision), decision);
+            DFAState[] states = new DFAState[readCount(input)];
+            for(int i = 0; i < states.length; i++) {
+                int stateNumber = input.get();
+                DFAState state = new DFAState(readConfigs(input, atn, contexts, lexer));
+                state.stateNumber = stateNumber;
+                state.isAcceptState = input.get() != 0;
+                state.prediction = input.get();
+                state.requiresFullContext = input.get() != 0;
+                if(lexer)
+                    state.lexerActionExecutor = readActions(input, atn);
+                states[i] = state;
+                //ANTLR can keep two states with equal configurations, since it compares their conflicting
+                //alternatives by reference; edges still lead to both
+                dfa.states.putIfAbsent(state, state);
+            }
+            for(DFAState state : states) {
+                int length = input.get();
+                if(length == 0)
+                    continue;
+                if(length != edgeCount)
+                    throw new IOException("corrupt: " + length + " edges in decision " + decision);
+                state.edges = new DFAState[length];
+                for(int known = readCount(input); known > 0; known--) {
+                    int symbol = input.get();
+                    int target = input.get();
+                    state.edges[symbol] = target == ERROR_STATE ? ATNSimulator.ERROR : states[target];
+                }
+            }
+            if(states.length > 0)
+                dfa.s0 = states[0];
+            decisions[decision] = dfa;
+        }
+        return decisions;
+    }
+
+    private static ATNConfigSet readConfigs(IntBuffer input, ATN atn, PredictionContext[] contexts,
+                                            boolean lexer) throws IOException {
+        boolean fullCtx = input.get() != 0;
+        ATNConfigSet configs = lexer ? new OrderedATNConfigSet() : new ATNConfigSet(fullCtx);
+        int uniqueAlt = input.get();
+        boolean dipsIntoOuterContext = input.get() != 0;
+        for(int count = readCount(input); count > 0; count--) {
+            ATNState state = atn.states.get(input.get());
+            int alt = input.get();
+            int context = input.get();
+            PredictionContext prediction = context == NONE ? null : contexts[context];
+            int reachesIntoOuterContext = input.get();
+            boolean precedenceFilterSuppressed = input.get() != 0;
+            ATNConfig config = lexer ? new LexerATNConfig(state, alt, prediction, readActions(input, atn))
+                    : new ATNConfig(state, alt, prediction);
+            config.reachesIntoOuterContext = reachesIntoOuterContext;
+            config.setPrecedenceFilterSuppressed(precedenceFilterSuppressed);
+            //the set was deduplicated when it was made, so this skips the lookup add does
+            configs.configs.add(config);
+        }
+        configs.uniqueAlt = uniqueAlt;
+        configs.dipsIntoOuterContext = dipsIntoOuterContext;
+        configs.setReadonly(true);
+        return configs;
+    }
+
+    private static LexerActionExecutor readActions(IntBuffer input, ATN atn) throws IOException {
+        int count = input.get();
+        if(count == NONE)
+            return null;
+        LexerAction[] actions = new LexerAction[checkCount(count, input)];
+        for(int i = 0; i < count; i++) {
+            LexerAction action = atn.lexerActions[input.get()];
+            int offset = input.get();
+            actions[i] = offset == NONE ? action : new LexerIndexedCustomAction(offset, action);
+        }
+        return new LexerActionExecutor(actions);
+    }
+}
@@ -0,0 +1,277 @@
+package main.parser;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+import parsers.SophiaLexer;
+
+import static parsers.SophiaLexer.*;
+
+//Scans the token set of Sophia.g4 by hand and makes the same tokens as SophiaLexer: same types, start and stop
+//indexes, lines and columns, with the text read back from the CharStream. A character class table picks the
+//token kind from its first character, keywords are found with a perfect hash over (first char, second char,
+//length), and whitespace and comments are skipped without allocating anything. Input SophiaLexer would report
+//a token recognition error for (a stray character, a lone & or |, an unterminated string) is handed to a
+//SophiaLexer from that token on, so error messages and recovery are exactly the generated lexer's.
+public class DirectLexer implements TokenSource {
+    private static final byte OTHER = 0, SPACE = 1, NEWLINE = 2, LETTER = 3, DIGIT = 4, QUOTE = 5, PUNCTUATION = 6;
+    private static final byte[] CHAR_CLASS = new byte[128];
+
+    private static final String[] KEYWORDS = {"def", "extends", "class", "print", "func", "new", "continue", "break",
+            "return", "foreach", "in", "for", "if", "else", "bool", "string", "int", "void", "null", "list", "true",
+            "false", "this"};
+    private static final int[] KEYWORD_TYPES = {DEF, EXTENDS, CLASS, PRINT, FUNC, NEW, CONTINUE, BREAK, RETURN,
+            FOREACH, IN, FOR, IF, ELSE, BOOLEAN, STRING, INT, VOID, NULL, LIST, TRUE, FALSE, THIS};
+    private static final int MAX_KEYWORD_LENGTH = 8;
+    private static final char[][] KEYWORD_TABLE = new char[32][];
+    private static final int[] KEYWORD_TABLE_TYPES = new int[32];
+
+    static {
+        CHAR_CLASS[' '] = SPACE;
+        CHAR_CLASS['\t'] = SPACE;
+        CHAR_CLASS['\r'] = SPACE;
+        CHAR_CLASS['\n'] = NEWLINE;
+        CHAR_CLASS['_'] = LETTER;
+        for(char c = 'a'; c <= 'z'; c++)
+            CHAR_CLASS[c] = LETTER;
+        for(char c = 'A'; c <= 'Z'; c++)
+            CHAR_CLASS[c] = LETTER;
+        for(char c = '0'; c <= '9'; c++)
+            CHAR_CLASS[c] = DIGIT;
+        CHAR_CLASS['"'] = QUOTE;
+        for(char c : "-><!=*/%+&|()[]{}#,.:;".toCharArray())
+            CHAR_CLASS[c] = PUNCTUATION;
+        for(int i = 0; i < KEYWORDS.length; i++) {
+            char[] keyword = KEYWORDS[i].toCharArray();
+            int slot = keywordHash(keyword[0], keyword[1], keyword.length);
+            if(KEYWORD_TABLE[slot] != null)
+                throw new IllegalStateException("keyword hash collision: " + KEYWORDS[i]);
+            KEYWORD_TABLE[slot] = keyword;
+            KEYWORD_TABLE_TYPES[slot] = KEYWORD_TYPES[i];
+        }
+    }
+
+    private final CharStream input;
+    private final Pair<TokenSource, CharStream> tokenFactorySourcePair;
+    private TokenFactory<?> factory = CommonTokenFactory.DEFAULT;
+    private int line = 1;
+    private int charPositionInLine = 0;
+    private final char[] word = new char[MAX_KEYWORD_LENGTH];
+    //set from the first token SophiaLexer has to handle on
+    private SophiaLexer fallback;
+    //where the fallback reports its errors, the console when null
+    private ANTLRErrorListener errorListener;
+
+    public DirectLexer(CharStream input) {
+        this.input = input;
+        this.tokenFactorySourcePair = new Pair<>(this, input);
+    }
+
+    private static int keywordHash(int first, int second, int length) {
+        return (2 * first + 15 * second + length) & 31;
+    }
+
+    @Override
+    public Token nextToken() {
+        if(fallback != null)
+            return fallback.nextToken();
+        this.skipWhitespaceAndComments();
+        //an unbuffered input keeps the token's characters while it is marked, for the text and a hand over
+        int marker = input.mark();
+        try {
+            return this.scanToken();
+        } finally {
+            input.release(marker);
+        }
+    }
+
+    private Token scanToken() {
+        int start = input.index();
+        int startLine = line;
+        int startColumn = charPositionInLine;
+        int c = input.LA(1);
+        if(c == CharStream.EOF)
+            return factory.create(tokenFactorySourcePair, Token.EOF, null, Token.DEFAULT_CHANNEL, start, start - 1,
+                    line, charPositionInLine);
+        int type;
+        switch(c < 128 ? CHAR_CLASS[c] : OTHER) {
+            case LETTER: type = this.identifierOrKeyword(); break;
+            case DIGIT: type = this.intValue(c); break;
+            case QUOTE: type = this.stringValue(); break;
+            case PUNCTUATION: type = this.punctuation(c); break;
+            default: type = Token.INVALID_TYPE;
+        }
+        if(type == Token.INVALID_TYPE)
+            return this.handOver(start, startLine, startColumn);
+        return factory.create(tokenFactorySourcePair, type, null, Token.DEFAULT_CHANNEL, start, input.index() - 1,
+                startLine, startColumn);
+    }
+
+    private void consume() {
+        if(input.LA(1) == '\n') {
+            line++;
+            charPositionInLine = 0;
+        }
+        else
+            charPositionInLine++;
+        input.consume();
+    }
+
+    private void skipWhitespaceAndComments() {
+        while(true) {
+            int c = input.LA(1);
+            if(c == '\n') {
+                input.consume();
+                line++;
+                charPositionInLine = 0;
+            }
+            else if(c == ' ' || c == '\t' || c == '\r') {
+                input.consume();
+                charPositionInLine++;
+            }
+            else if(c == '/' && input.LA(2) == '/') {
+                while((c = input.LA(1)) != '\n' && c != '\r' && c != CharStream.EOF) {
+                    input.consume();
+                    charPositionInLine++;
+                }
+            }
+            else
+                return;
+        }
+    }
+
+    private int identifierOrKeyword() {
+        int length = 0;
+        int c;
+        while((c = input.LA(1)) < 128 && c >= 0 && (CHAR_CLASS[c] == LETTER || CHAR_CLASS[c] == DIGIT)) {
+            if(length < MAX_KEYWORD_LENGTH)
+                word[length] = (char) c;
+            length++;
+            input.consume();
+        }
+        charPositionInLine += length;
+        if(length < 2 || length > MAX_KEYWORD_LENGTH)
+            return IDENTIFIER;
+        int slot = keywordHash(word[0], word[1], length);
+        char[] keyword = KEYWORD_TABLE[slot];
+        if(keyword == null || keyword.length != length)
+            return IDENTIFIER;
+        for(int i = 0; i < length; i++)
+            if(keyword[i] != word[i])
+                return IDENTIFIER;
+        return KEYWORD_TABLE_TYPES[slot];
+    }
+
+    //'0' or a digit run without a leading zero; "007" is three tokens, as in the grammar
+    private int intValue(int first) {
+        this.consume();
+        if(first == '0')
+            return INT_VALUE;
+        int c;
+        while((c = input.LA(1)) >= '0' && c <= '9')
+            this.consume();
+        return INT_VALUE;
+    }
+
+    private int stringValue() {
+        this.consume();
+        int c;
+        while((c = input.LA(1)) != '"') {
+            if(c == CharStream.EOF)
+                return Token.INVALID_TYPE;
+            this.consume();
+        }
+        this.consume();
+        return STRING_VALUE;
+    }
+
+    private int punctuation(int c) {
+        this.consume();
+        int next = input.LA(1);
+        switch(c) {
+            case '-':
+                if(next == '>')
+                    return this.second(ARROW);
+                return next == '-' ? this.second(DECREMENT) : MINUS;
+            case '+': return next == '+' ? this.second(INCREMENT) : PLUS;
+            case '=': return next == '=' ? this.second(EQUAL) : ASSIGN;
+            case '!': return next == '=' ? this.second(NOT_EQUAL) : NOT;
+            case '&': return next == '&' ? this.second(AND) : Token.INVALID_TYPE;
+            case '|': return next == '|' ? this.second(OR) : Token.INVALID_TYPE;
+            case '>': return GREATER_THAN;
+            case '<': return LESS_THAN;
+            case '*': return MULT;
+            case '/': return DIVIDE;
+            case '%': return MOD;
+            case '(': return LPAR;
+            case ')': return RPAR;
+            case '[': return LBRACK;
+            case ']': return RBRACK;
+            case '{': return LBRACE;
+            case '}': return RBRACE;
+            case '#': return SHARP;
+            case ',': return COMMA;
+            case '.': return DOT;
+            case ':': return COLON;
+            default: return SEMICOLLON;
+        }
+    }
+
+    private int second(int type) {
+        this.consume();
+        return type;
+    }
+
+    private Token handOver(int start, int startLine, int startColumn) {
+        input.seek(start);
+        fallback = new SophiaLexer(input);
+        fallback.setLine(startLine);
+        fallback.setCharPositionInLine(startColumn);
+        fallback.setTokenFactory(factory);
+        if(errorListener != null) {
+            fallback.removeErrorListeners();
+            fallback.addErrorListener(errorListener);
+        }
+        return fallback.nextToken();
+    }
+
+    public void setErrorListener(ANTLRErrorListener errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    @Override
+    public int getLine() {
+        return fallback != null ? fallback.getLine() : line;
+    }
+
+    @Override
+    public int getCharPositionInLine() {
+        return fallback != null ? fallback.getCharPositionInLine() : charPositionInLine;
+    }
+
+    @Override
+    public CharStream getInputStream() {
+        return input;
+    }
+
+    @Override
+    public String getSourceName() {
+        return input.getSourceName();
+    }
+
+    @Override
+    public void setTokenFactory(TokenFactory<?> factory) {
+        this.factory = factory;
+        if(fallback != null)
+            fallback.setTokenFactory(factory);
+    }
+
+    @Override
+    public TokenFactory<?> getTokenFactory() {
+        return factory;
+    }
+}
@@ -0,0 +1,578 @@
+package main.parser;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.operators.BinaryOperator;
+import main.ast.nodes.expression.operators.UnaryOperator;
+import main.ast.nodes.expression.values.ListValue;
+import main.ast.nodes.expression.values.NullValue;
+import main.ast.nodes.expression.values.Value;
+import main.ast.nodes.expression.values.primitive.BoolValue;
+import main.ast.nodes.expression.values.primitive.IntValue;
+import main.ast.nodes.expression.values.primitive.StringValue;
+import main.ast.nodes.statement.*;
+import main.ast.nodes.statement.loop.BreakStmt;
+import main.ast.nodes.statement.loop.ContinueStmt;
+import main.ast.nodes.statement.loop.ForStmt;
+import main.ast.nodes.statement.loop.ForeachStmt;
+import main.ast.types.Type;
+import main.ast.types.TypeFactory;
+import main.ast.types.functionPointer.FptrType;
+import main.ast.types.list.ListNameType;
+import main.ast.types.list.ListType;
+import main.ast.types.single.ClassType;
+import org.antlr.v4.runtime.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static parsers.SophiaLexer.*;
+
+//Builds the same AST as the actions in Sophia.g4, with the same lines, straight from the token list: recursive
+//descent for declarations and statements and precedence climbing for binary operators, instead of going through
+//one rule context per precedence level for every operand. It only accepts valid programs; on the first syntax
+//error parse() gives up and returns null, and the caller parses with SophiaParser, which reports and recovers.
+public class DirectParser {
+    private final Token[] tokens;
+    private int p;
+    //the outermost access chain parsed last, if it ended in a call: a statement made of just that is a method call
+    private MethodCall trailingCall;
+
+    private static class SyntaxError extends RuntimeException {
+        SyntaxError() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final SyntaxError SYNTAX_ERROR = new SyntaxError();
+
+    //tokens of the default channel, ending with EOF, as CommonTokenStream holds them after fill()
+    public DirectParser(List<? extends Token> tokens) {
+        this.tokens = tokens.toArray(new Token[0]);
+    }
+
+    public Program parse() {
+        p = 0;
+        try {
+            Program program = this.program();
+            this.expect(EOF);
+            return program;
+        } catch (SyntaxError e) {
+            return null;
+        }
+    }
+
+    private int la(int k) {
+        int i = Math.min(p + k - 1, tokens.length - 1);
+        return tokens[i].getType();
+    }
+
+    private Token next() {
+        Token token = tokens[p];
+        if(token.getType() != EOF)
+            p++;
+        return token;
+    }
+
+    private Token expect(int type) {
+        if(tokens[p].getType() != type)
+            throw SYNTAX_ERROR;
+        return this.next();
+    }
+
+    private Program program() {
+        Program program = new Program();
+        program.setLine(1);
+        while(la(1) == CLASS)
+            program.addClass(this.sophiaClass());
+        program.getClasses().trimToSize();
+        return program;
+    }
+
+    private ClassDeclaration sophiaClass() {
+        Token cl = this.expect(CLASS);
+        ClassDeclaration classDeclaration = new ClassDeclaration(this.identifier());
+        classDeclaration.setLine(cl.getLine());
+        if(la(1) == EXTENDS) {
+            this.next();
+            classDeclaration.setParentClassName(this.identifier());
+        }
+        this.expect(LBRACE);
+        while(la(1) != RBRACE) {
+            if(la(1) == IDENTIFIER) {
+                VarDeclaration varDeclaration = this.varDeclaration();
+                FieldDeclaration fieldDeclaration = new FieldDeclaration(varDeclaration);
+                fieldDeclaration.setLine(varDeclaration.getLine());
+                classDeclaration.addField(fieldDeclaration);
+            }
+            else if(la(1) == DEF && la(2) == IDENTIFIER && la(3) == LPAR) {
+                if(classDeclaration.getConstructor() != null)
+                    throw SYNTAX_ERROR;
+                classDeclaration.setConstructor(this.constructor());
+            }
+            else
+                classDeclaration.addMethod(this.method());
+        }
+        this.next();
+        classDeclaration.getFields().trimToSize();
+        classDeclaration.getMethods().trimToSize();
+        return classDeclaration;
+    }
+
+    private VarDeclaration varDeclaration() {
+        VarDeclaration varDeclaration = this.variableWithType();
+        this.expect(SEMICOLLON);
+        return varDeclaration;
+    }
+
+    private MethodDeclaration method() {
+        Token d = this.expect(DEF);
+        Type returnType;
+        if(la(1) == VOID) {
+            this.next();
+            returnType = TypeFactory.NULL;
+        }
+        else
+            returnType = this.type();
+        MethodDeclaration methodDeclaration = new MethodDeclaration(this.identifier(), returnType);
+        methodDeclaration.setLine(d.getLine());
+        this.methodRest(methodDeclaration);
+        return methodDeclaration;
+    }
+
+    private ConstructorDeclaration constructor() {
+        Token d = this.expect(DEF);
+        ConstructorDeclaration constructorDeclaration = new ConstructorDeclaration(this.identifier());
+        constructorDeclaration.setLine(d.getLine());
+        this.methodRest(constructorDeclaration);
+        return constructorDeclaration;
+    }
+
+    //arguments and body, shared by methods and constructors
+    private void methodRest(MethodDeclaration methodDeclaration) {
+        this.expect(LPAR);
+        ArrayList<VarDeclaration> args = new ArrayList<>();
+        if(la(1) != RPAR) {
+            args.add(this.variableWithType());
+            while(la(1) == COMMA) {
+                this.next();
+                args.add(this.variableWithType());
+            }
+        }
+        args.trimToSize();
+        methodDeclaration.setArgs(args);
+        this.expect(RPAR);
+        this.expect(LBRACE);
+        ArrayList<VarDeclaration> localVars = new ArrayList<>();
+        ArrayList<Statement> statements = new ArrayList<>();
+        while(la(1) == IDENTIFIER && la(2) == COLON)
+            localVars.add(this.varDeclaration());
+        while(la(1) != RBRACE)
+            statements.add(this.statement());
+        localVars.trimToSize();
+        statements.trimToSize();
+        methodDeclaration.setLocalVars(localVars);
+        methodDeclaration.setBody(statements);
+        this.next();
+    }
+
+    private VarDeclaration variableWithType() {
+        Identifier name = this.identifier();
+        this.expect(COLON);
+        VarDeclaration varDeclaration = new VarDeclaration(name, this.type());
+        varDeclaration.setLine(name.getLine());
+        return varDeclaration;
+    }
+
+    private Type type() {
+        switch(la(1)) {
+            case INT: this.next(); return TypeFactory.INT;
+            case STRING: this.next(); return TypeFactory.STRING;
+            case BOOLEAN: this.next(); return TypeFactory.BOOL;
+            case LIST: return this.listType();
+            case FUNC: return this.functionPointerType();
+            case IDENTIFIER: return new ClassType(this.identifier());
+            default: throw SYNTAX_ERROR;
+        }
+    }
+
+    private ListType listType() {
+        this.expect(LIST);
+        this.expect(LPAR);
+        ListType listType;
+        if(la(1) == INT_VALUE) {
+            int size = Integer.valueOf(this.next().getText());
+            this.expect(SHARP);
+            listType = new ListType(size, new ListNameType(this.type()));
+        }
+        else {
+            ArrayList<ListNameType> items = new ArrayList<>();
+            items.add(this.listItemType());
+            while(la(1) == COMMA) {
+                this.next();
+                items.add(this.listItemType());
+            }
+            listType = new ListType(items);
+        }
+        this.expect(RPAR);
+        return listType;
+    }
+
+    private ListNameType listItemType() {
+        if(la(1) == IDENTIFIER && la(2) == COLON)
+            return new ListNameType(this.variableWithType());
+        return new ListNameType(this.type());
+    }
+
+    private FptrType functionPointerType() {
+        this.expect(FUNC);
+        FptrType fptrType = new FptrType();
+        this.expect(LESS_THAN);
+        if(la(1) == VOID) {
+            this.next();
+            fptrType.setArgumentsTypes(new ArrayList<Type>());
+        }
+        else {
+            ArrayList<Type> types = new ArrayList<>();
+            types.add(this.type());
+            while(la(1) == COMMA) {
+                this.next();
+                types.add(this.type());
+            }
+            fptrType.setArgumentsTypes(types);
+        }
+        this.expect(ARROW);
+        if(la(1) == VOID) {
+            this.next();
+            fptrType.setReturnType(TypeFactory.NULL);
+        }
+        else
+            fptrType.setReturnType(this.type());
+        this.expect(GREATER_THAN);
+        return fptrType;
+    }
+
+    private Statement statement() {
+        switch(la(1)) {
+            case FOR: return this.forStatement();
+            case FOREACH: return this.foreachStatement();
+            case IF: return this.ifStatement();
+            case PRINT: return this.printStatement();
+            case BREAK:
+            case CONTINUE: return this.continueBreakStatement();
+            case RETURN: return this.returnStatement();
+            case LBRACE: return this.block();
+            default: return this.assignmentOrMethodCallStatement();
+        }
+    }
+
+    private BlockStmt block() {
+        Token l = this.expect(LBRACE);
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.setLine(l.getLine());
+        while(la(1) != RBRACE)
+            blockStmt.addStatement(this.statement());
+        this.next();
+        blockStmt.getStatements().trimToSize();
+        return blockStmt;
+    }
+
+    //both start with an expression; a method call statement is an access chain whose last step is a call
+    private Statement assignmentOrMethodCallStatement() {
+        Expression left = this.orExpression();
+        Statement statement;
+        if(la(1) == ASSIGN)
+            statement = this.assignmentRest(left);
+        else if(left == trailingCall) {
+            statement = new MethodCallStmt(trailingCall);
+            statement.setLine(trailingCall.getLine());
+        }
+        else
+            throw SYNTAX_ERROR;
+        this.expect(SEMICOLLON);
+        return statement;
+    }
+
+    private AssignmentStmt assignment() {
+        return this.assignmentRest(this.orExpression());
+    }
+
+    private AssignmentStmt assignmentRest(Expression left) {
+        Token a = this.expect(ASSIGN);
+        AssignmentStmt assignmentStmt = new AssignmentStmt(left, this.expression());
+        assignmentStmt.setLine(a.getLine());
+        return assignmentStmt;
+    }
+
+    private PrintStmt printStatement() {
+        Token print = this.expect(PRINT);
+        this.expect(LPAR);
+        PrintStmt printStmt = new PrintStmt(this.expression());
+        printStmt.setLine(print.getLine());
+        this.expect(RPAR);
+        this.expect(SEMICOLLON);
+        return printStmt;
+    }
+
+    private ReturnStmt returnStatement() {
+        Token r = this.expect(RETURN);
+        ReturnStmt returnStmt = new ReturnStmt();
+        returnStmt.setLine(r.getLine());
+        if(la(1) != SEMICOLLON)
+            returnStmt.setReturnedExpr(this.expression());
+        if(returnStmt.getReturnedExpr() instanceof NullValue) {
+            NullValue nullValue = new NullValue();
+            nullValue.setLine(r.getLine());
+            returnStmt.setReturnedExpr(nullValue);
+        }
+        this.expect(SEMICOLLON);
+        return returnStmt;
+    }
+
+    private Statement continueBreakStatement() {
+        Token t = this.next();
+        Statement statement = t.getType() == BREAK ? new BreakStmt() : new ContinueStmt();
+        statement.setLine(t.getLine());
+        this.expect(SEMICOLLON);
+        return statement;
+    }
+
+    private ForStmt forStatement() {
+        Token f = this.expect(FOR);
+        ForStmt forStmt = new ForStmt();
+        forStmt.setLine(f.getLine());
+        this.expect(LPAR);
+        if(la(1) != SEMICOLLON)
+            forStmt.setInitialize(this.assignment());
+        this.expect(SEMICOLLON);
+        if(la(1) != SEMICOLLON)
+            forStmt.setCondition(this.expression());
+        this.expect(SEMICOLLON);
+        if(la(1) != RPAR)
+            forStmt.setUpdate(this.assignment());
+        this.expect(RPAR);
+        forStmt.setBody(this.statement());
+        return forStmt;
+    }
+
+    private ForeachStmt foreachStatement() {
+        Token f = this.expect(FOREACH);
+        this.expect(LPAR);
+        Identifier variable = this.identifier();
+        this.expect(IN);
+        ForeachStmt foreachStmt = new ForeachStmt(variable, this.expression());
+        foreachStmt.setLine(f.getLine());
+        this.expect(RPAR);
+        foreachStmt.setBody(this.statement());
+        return foreachStmt;
+    }
+
+    private ConditionalStmt ifStatement() {
+        Token i = this.expect(IF);
+        this.expect(LPAR);
+        Expression condition = this.expression();
+        this.expect(RPAR);
+        ConditionalStmt conditionalStmt = new ConditionalStmt(condition, this.statement());
+        conditionalStmt.setLine(i.getLine());
+        if(la(1) == ELSE) {
+            this.next();
+            conditionalStmt.setElseBody(this.statement());
+        }
+        return conditionalStmt;
+    }
+
+    private Expression expression() {
+        Expression left = this.orExpression();
+        if(la(1) != ASSIGN)
+            return left;
+        Token a = this.next();
+        BinaryExpression binaryExpression = new BinaryExpression(left, this.expression(), BinaryOperator.assign);
+        binaryExpression.setLine(a.getLine());
+        return binaryExpression;
+    }
+
+    private Expression orExpression() {
+        return this.binaryExpression(1);
+    }
+
+    //binding power of a binary operator token, 0 for anything else; all of them are left associative
+    private static int precedence(int tokenType) {
+        switch(tokenType) {
+            case OR: return 1;
+            case AND: return 2;
+            case EQUAL:
+            case NOT_EQUAL: return 3;
+            case GREATER_THAN:
+            case LESS_THAN: return 4;
+            case PLUS:
+            case MINUS: return 5;
+            case MULT:
+            case DIVIDE:
+            case MOD: return 6;
+            default: return 0;
+        }
+    }
+
+    private static BinaryOperator binaryOperator(int tokenType) {
+        switch(tokenType) {
+            case OR: return BinaryOperator.or;
+            case AND: return BinaryOperator.and;
+            case EQUAL: return BinaryOperator.eq;
+            case NOT_EQUAL: return BinaryOperator.neq;
+            case GREATER_THAN: return BinaryOperator.gt;
+            case LESS_THAN: return BinaryOperator.lt;
+            case PLUS: return BinaryOperator.add;
+            case MINUS: return BinaryOperator.sub;
+            case MULT: return BinaryOperator.mult;
+            case DIVIDE: return BinaryOperator.div;
+            default: return BinaryOperator.mod;
+        }
+    }
+
+    private Expression binaryExpression(int minPrecedence) {
+        Expression left = this.preUnaryExpression();
+        int precedence;
+        while((precedence = precedence(la(1))) >= minPrecedence) {
+            Token op = this.next();
+            Expression right = this.binaryExpression(precedence + 1);
+            left = new BinaryExpression(left, right, binaryOperator(op.getType()));
+            left.setLine(op.getLine());
+        }
+        return left;
+    }
+
+    private Expression preUnaryExpression() {
+        UnaryOperator op;
+        switch(la(1)) {
+            case NOT: op = UnaryOperator.not; break;
+            case MINUS: op = UnaryOperator.minus; break;
+            case INCREMENT: op = UnaryOperator.preinc; break;
+            case DECREMENT: op = UnaryOperator.predec; break;
+            default: return this.postUnaryExpression();
+        }
+        Token t = this.next();
+        UnaryExpression unaryExpression = new UnaryExpression(this.preUnaryExpression(), op);
+        unaryExpression.setLine(t.getLine());
+        return unaryExpression;
+    }
+
+    private Expression postUnaryExpression() {
+        Expression operand = this.accessExpression();
+        if(la(1) != INCREMENT && la(1) != DECREMENT)
+            return operand;
+        Token t = this.next();
+        UnaryExpression unaryExpression = new UnaryExpression(operand,
+                t.getType() == INCREMENT ? UnaryOperator.postinc : UnaryOperator.postdec);
+        unaryExpression.setLine(t.getLine());
+        return unaryExpression;
+    }
+
+    private Expression accessExpression() {
+        Expression instance = this.otherExpression();
+        MethodCall call = null;
+        while(true) {
+            if(la(1) == LPAR) {
+                Token l = this.next();
+                call = new MethodCall(instance, this.methodCallArguments());
+                call.setLine(l.getLine());
+                this.expect(RPAR);
+                instance = call;
+            }
+            else if(la(1) == DOT) {
+                this.next();
+                Identifier member = this.identifier();
+                instance = new ObjectOrListMemberAccess(instance, member);
+                instance.setLine(member.getLine());
+            }
+            else if(la(1) == LBRACK) {
+                Token l = this.next();
+                instance = new ListAccessByIndex(instance, this.expression());
+                instance.setLine(l.getLine());
+                this.expect(RBRACK);
+            }
+            else
+                break;
+        }
+        trailingCall = instance == call ? call : null;
+        return instance;
+    }
+
+    private Expression otherExpression() {
+        Token t = tokens[p];
+        switch(t.getType()) {
+            case THIS: {
+                this.next();
+                ThisClass thisClass = new ThisClass();
+                thisClass.setLine(t.getLine());
+                return thisClass;
+            }
+            case NEW: {
+                this.next();
+                ClassType classType = new ClassType(this.identifier());
+                this.expect(LPAR);
+                NewClassInstance newClassInstance = new NewClassInstance(classType, this.methodCallArguments());
+                newClassInstance.setLine(t.getLine());
+                this.expect(RPAR);
+                return newClassInstance;
+            }
+            case IDENTIFIER:
+                return this.identifier();
+            case LPAR: {
+                this.next();
+                Expression expression = this.expression();
+                this.expect(RPAR);
+                return expression;
+            }
+            default:
+                return this.value();
+        }
+    }
+
+    private Value value() {
+        Token t = tokens[p];
+        Value value;
+        switch(t.getType()) {
+            case TRUE: value = new BoolValue(true); break;
+            case FALSE: value = new BoolValue(false); break;
+            case STRING_VALUE: value = new StringValue(t.getText().substring(1, t.getText().length() - 1)); break;
+            case INT_VALUE: value = new IntValue(Integer.valueOf(t.getText())); break;
+            case NULL: value = new NullValue(); break;
+            case LBRACK: {
+                this.next();
+                value = new ListValue(this.methodCallArguments());
+                value.setLine(t.getLine());
+                this.expect(RBRACK);
+                return value;
+            }
+            default: throw SYNTAX_ERROR;
+        }
+        this.next();
+        value.setLine(t.getLine());
+        return value;
+    }
+
+    private ArrayList<Expression> methodCallArguments() {
+        ArrayList<Expression> args = new ArrayList<>();
+        if(la(1) != RPAR && la(1) != RBRACK) {
+            args.add(this.expression());
+            while(la(1) == COMMA) {
+                this.next();
+                args.add(this.expression());
+            }
+        }
+        args.trimToSize();
+        return args;
+    }
+
+    private Identifier identifier() {
+        Token id = this.expect(IDENTIFIER);
+        Identifier identifier = new Identifier(id.getText());
+        identifier.setLine(id.getLine());
+        return identifier;
+    }
+}
@@ -0,0 +1,135 @@
+package main.parser;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.misc.Interval;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+//A CharStream over a source file mapped into memory. For a pure ASCII file every byte is one code point, so LA
+//reads the mapped byte at the same index and getText copies just the bytes of the token into its String: the file
+//is never decoded or copied onto the heap, and the stream only holds the mapping. A file with any other byte (UTF-8
+//beyond ASCII, a byte order mark, malformed input) or too big to map in one piece is decoded the way
+//CharStreams.fromPath does it, so indexes and text are always the ones the generated lexer would see.
+public class MappedCharStream implements CharStream {
+    private static final long NON_ASCII = 0x8080808080808080L;
+    private static final int READ_BUFFER_SIZE = 4096;
+    private final ByteBuffer bytes;
+    private final int size;
+    private final String name;
+    private int position = 0;
+
+    private MappedCharStream(ByteBuffer bytes, String name) {
+        this.bytes = bytes;
+        this.size = bytes.limit();
+        this.name = name;
+    }
+
+    public static CharStream open(String path) throws IOException {
+        return open(Paths.get(path), path);
+    }
+
+    public static CharStream open(Path path, String sourceName) throws IOException {
+        //the mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if(size <= Integer.MAX_VALUE) {
+                ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                if(isAscii(bytes))
+                    return new MappedCharStream(bytes, sourceName);
+            }
+            return CharStreams.fromChannel(channel, StandardCharsets.UTF_8, READ_BUFFER_SIZE, CodingErrorAction.REPLACE,
+                    sourceName, size);
+        }
+    }
+
+    //eight bytes at a time, then the tail
+    private static boolean isAscii(ByteBuffer bytes) {
+        int size = bytes.limit();
+        int i = 0;
+        for(; i + Long.BYTES <= size; i += Long.BYTES)
+            if((bytes.getLong(i) & NON_ASCII) != 0)
+                return false;
+        for(; i < size; i++)
+            if(bytes.get(i) < 0)
+                return false;
+        return true;
+    }
+
+    @Override
+    public void consume() {
+        if(position >= size)
+            throw new IllegalStateException("cannot consume EOF");
+        position++;
+    }
+
+    //same contract as CodePointCharStream: LA(0) is undefined and reads 0, out of range is EOF
+    @Override
+    public int LA(int i) {
+        int offset;
+        if(i > 0)
+            offset = position + i - 1;
+        else if(i < 0)
+            offset = position + i;
+        else
+            return 0;
+        if(offset < 0 || offset >= size)
+            return IntStream.EOF;
+        return bytes.get(offset);
+    }
+
+    //the whole file is always available, so marks cost nothing
+    @Override
+    public int mark() {
+        return -1;
+    }
+
+    @Override
+    public void release(int marker) {
+    }
+
+    @Override
+    public int index() {
+        return position;
+    }
+
+    @Override
+    public void seek(int index) {
+        position = index;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String getSourceName() {
+        return name == null || name.isEmpty() ? IntStream.UNKNOWN_SOURCE_NAME : name;
+    }
+
+    //clamped to the end of the file like CodePointCharStream, which lexer errors at EOF rely on
+    @Override
+    public String getText(Interval interval) {
+        int start = Math.min(interval.a, size);
+        int length = Math.min(interval.b - interval.a + 1, size - start);
+        byte[] text = new byte[length];
+        ByteBuffer view = bytes.duplicate();
+        view.position(start);
+        view.get(text);
+        return new String(text, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return this.getText(Interval.of(0, size - 1));
+    }
+}
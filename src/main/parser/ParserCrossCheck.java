@@ -0,0 +1,115 @@
+package main.parser;
+
+import main.BatchCompiler;
+import main.ast.nodes.Program;
+import main.generator.ProgramGenerator;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import parsers.SophiaLexer;
+import parsers.SophiaParser;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+//Tokenizes each source with SophiaLexer and with DirectLexer and compares the tokens one by one, then parses it
+//with SophiaParser and with DirectParser and compares the two ASTs field by field, lines and types included.
+//Arguments: source files, directories of sources, or generated line counts. Sources DirectParser rejects are
+//listed but not counted as differences, since the compiler parses those with SophiaParser anyway.
+//Exits with 1 if any token or AST differs.
+public class ParserCrossCheck {
+    public static void main(String[] args) throws IOException {
+        ArrayList<String> paths = new ArrayList<>();
+        ArrayList<String> counts = new ArrayList<>();
+        for(String arg : args)
+            (arg.matches("\\d+") ? counts : paths).add(arg);
+        boolean same = true;
+        for(String source : new BatchCompiler().collectSources(paths))
+            same &= check(source, CharStreams.fromFileName(source));
+        for(String count : counts) {
+            ProgramGenerator generator = new ProgramGenerator();
+            generator.setTargetLines(Long.parseLong(count));
+            same &= check("generated-" + count, CharStreams.fromString(generator.generate(), "generated-" + count));
+        }
+        System.exit(same ? 0 : 1);
+    }
+
+    private static boolean check(String source, CharStream charStream) {
+        CommonTokenStream directTokens = new CommonTokenStream(new DirectLexer(charStream));
+        directTokens.fill();
+        charStream.seek(0);
+        CommonTokenStream tokenStream = new CommonTokenStream(new SophiaLexer(charStream));
+        tokenStream.fill();
+        String tokenDifference = tokenDifference(tokenStream.getTokens(), directTokens.getTokens());
+        if(tokenDifference != null) {
+            System.out.println(source + ": tokens differ at " + tokenDifference);
+            return false;
+        }
+        Program direct = new DirectParser(tokenStream.getTokens()).parse();
+        if(direct == null) {
+            System.out.println(source + ": rejected, parsed by SophiaParser");
+            return true;
+        }
+        Program generated = new SophiaParser(tokenStream).sophia().sophiaProgram;
+        String difference = difference(generated, direct, "program", new IdentityHashMap<>());
+        System.out.println(source + ": " + (difference == null ? "same" : "differs at " + difference));
+        return difference == null;
+    }
+
+    private static String tokenDifference(List<Token> expected, List<Token> actual) {
+        for(int i = 0; i < Math.min(expected.size(), actual.size()); i++) {
+            Token a = expected.get(i);
+            Token b = actual.get(i);
+            if(a.getType() != b.getType() || a.getChannel() != b.getChannel() || a.getStartIndex() != b.getStartIndex()
+                    || a.getStopIndex() != b.getStopIndex() || a.getLine() != b.getLine()
+                    || a.getCharPositionInLine() != b.getCharPositionInLine() || !a.getText().equals(b.getText()))
+                return "token " + i + " (" + a + " vs " + b + ")";
+        }
+        return expected.size() == actual.size() ? null
+                : "token count (" + expected.size() + " vs " + actual.size() + ")";
+    }
+
+    //path of the first field where the two object graphs differ, or null
+    private static String difference(Object a, Object b, String path, IdentityHashMap<Object, Object> seen) {
+        if(a == b)
+            return null;
+        if(a == null || b == null || a.getClass() != b.getClass())
+            return path + " (" + a + " vs " + b + ")";
+        if(a instanceof String || a instanceof Number || a instanceof Boolean || a instanceof Enum)
+            return a.equals(b) ? null : path + " (" + a + " vs " + b + ")";
+        if(seen.put(a, b) != null)
+            return null;
+        if(a instanceof List) {
+            List<?> la = (List<?>) a;
+            List<?> lb = (List<?>) b;
+            if(la.size() != lb.size())
+                return path + ".size (" + la.size() + " vs " + lb.size() + ")";
+            for(int i = 0; i < la.size(); i++) {
+                String difference = difference(la.get(i), lb.get(i), path + "[" + i + "]", seen);
+                if(difference != null)
+                    return difference;
+            }
+            return null;
+        }
+        for(Class<?> c = a.getClass(); c != Object.class; c = c.getSuperclass()) {
+            for(Field field : c.getDeclaredFields()) {
+                if(Modifier.isStatic(field.getModifiers()))
+                    continue;
+                field.setAccessible(true);
+                try {
+                    String difference = difference(field.get(a), field.get(b), path + "." + field.getName(), seen);
+                    if(difference != null)
+                        return difference;
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,95 @@
+package main.parser;
+
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.TokenSource;
+
+import java.util.ArrayList;
+
+//A CommonTokenStream that can be filled before parsing without moving the lexer's errors out of place. Token
+//recognition errors are recorded against the index of the token being lexed when they happened and handed to the
+//error listener once the reporting parser reaches that token, which is when a lazily filled stream would have
+//lexed it, so they stay interleaved with syntax errors in source order. Parses that report nothing (SLL,
+//DirectParser) read the tokens without reporting, and replayAll reports what they went over when they succeed.
+public class ReplayingTokenStream extends CommonTokenStream {
+    private final ArrayList<LexerError> errors = new ArrayList<>();
+    private final ANTLRErrorListener errorListener;
+    private int replayed = 0;
+    private boolean replayOnFetch = false;
+
+    private static class LexerError {
+        private final int tokenIndex;
+        private final Recognizer<?, ?> recognizer;
+        private final Object offendingSymbol;
+        private final int line;
+        private final int charPositionInLine;
+        private final String message;
+        private final RecognitionException exception;
+
+        LexerError(int tokenIndex, Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                   int charPositionInLine, String message, RecognitionException exception) {
+            this.tokenIndex = tokenIndex;
+            this.recognizer = recognizer;
+            this.offendingSymbol = offendingSymbol;
+            this.line = line;
+            this.charPositionInLine = charPositionInLine;
+            this.message = message;
+            this.exception = exception;
+        }
+    }
+
+    public ReplayingTokenStream(TokenSource tokenSource, ANTLRErrorListener errorListener) {
+        super(tokenSource);
+        this.errorListener = errorListener;
+        ANTLRErrorListener recorder = new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                                    int charPositionInLine, String msg, RecognitionException e) {
+                errors.add(new LexerError(tokens.size(), recognizer, offendingSymbol, line, charPositionInLine, msg, e));
+            }
+        };
+        if(tokenSource instanceof Lexer) {
+            ((Lexer) tokenSource).removeErrorListeners();
+            ((Lexer) tokenSource).addErrorListener(recorder);
+        }
+        else if(tokenSource instanceof DirectLexer)
+            ((DirectLexer) tokenSource).setErrorListener(recorder);
+    }
+
+    //from now on errors are reported as the parser reads up to their tokens
+    public void replayOnFetch() {
+        replayOnFetch = true;
+    }
+
+    public void replayAll() {
+        this.replayThrough(Integer.MAX_VALUE);
+    }
+
+    @Override
+    protected boolean sync(int i) {
+        boolean valid = super.sync(i);
+        if(replayOnFetch)
+            this.replayThrough(i);
+        return valid;
+    }
+
+    //error messages for a range of tokens fill the stream to the end
+    @Override
+    public void fill() {
+        super.fill();
+        if(replayOnFetch)
+            this.replayAll();
+    }
+
+    private void replayThrough(int tokenIndex) {
+        for(; replayed < errors.size() && errors.get(replayed).tokenIndex <= tokenIndex; replayed++) {
+            LexerError error = errors.get(replayed);
+            errorListener.syntaxError(error.recognizer, error.offendingSymbol, error.line, error.charPositionInLine,
+                    error.message, error.exception);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package main.parser;
+
+import main.ast.nodes.Program;
+import org.antlr.v4.runtime.ANTLRErrorListener;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.antlr.v4.runtime.UnbufferedTokenStream;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.Pair;
+import parsers.SophiaLexer;
+import parsers.SophiaParser;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+//Lexes and parses in one pass and keeps nothing but the Program the grammar actions build. Characters are read
+//from an UnbufferedCharStream and tokens go through an UnbufferedTokenStream, so each is dropped as soon as no
+//prediction is looking at it - well before the sophiaClass it belongs to is done - and tokens copy their text,
+//since the characters are gone by then. The parse tree is not built: a finished rule context is only reachable
+//from the label of its parent, which the next rule of the same kind overwrites.
+//Nothing can be read twice, so there is no SLL stage: the source is parsed once with full LL and the default
+//error strategy, which reports syntax errors exactly as the buffered parse does.
+public class StreamingFrontEnd {
+    private static final int CHAR_BUFFER_SIZE = 4096;
+    private final boolean directLexer;
+
+    //The lexer reports an error at the end of input with the text up to and including the EOF position. The
+    //buffered streams stop such an interval at the last character; UnbufferedCharStream hands the EOF marker to
+    //new String and throws, so it is clamped here the same way.
+    private static class SourceCharStream extends UnbufferedCharStream {
+        SourceCharStream(InputStream input, String sourceName) {
+            super(input, CHAR_BUFFER_SIZE, StandardCharsets.UTF_8);
+            this.name = sourceName;
+        }
+
+        @Override
+        public String getText(Interval interval) {
+            int last = this.getBufferStartIndex() + n - 1;
+            if(n > 0 && data[n - 1] == IntStream.EOF && interval.b >= last)
+                interval = Interval.of(interval.a, last - 1);
+            return super.getText(interval);
+        }
+    }
+
+    //copies each token's text out of the character buffer; EOF keeps the "<EOF>" a buffered token reports, which
+    //error messages show
+    private static class TextCopyingTokenFactory extends CommonTokenFactory {
+        TextCopyingTokenFactory() {
+            super(true);
+        }
+
+        @Override
+        public CommonToken create(Pair<TokenSource, CharStream> source, int type, String text, int channel, int start,
+                                  int stop, int line, int charPositionInLine) {
+            return super.create(source, type, type == Token.EOF ? "<EOF>" : text, channel, start, stop, line,
+                    charPositionInLine);
+        }
+    }
+
+    private static class SourceTokenStream extends UnbufferedTokenStream<Token> {
+        SourceTokenStream(TokenSource tokenSource) {
+            super(tokenSource);
+        }
+
+        //like BufferedTokenStream, the text of a range of tokens stops before EOF
+        @Override
+        public String getText(Interval interval) {
+            if(interval.b >= interval.a && this.get(interval.b).getType() == Token.EOF)
+                interval = Interval.of(interval.a, interval.b - 1);
+            return super.getText(interval);
+        }
+    }
+
+    public StreamingFrontEnd(boolean directLexer) {
+        this.directLexer = directLexer;
+    }
+
+    public static CharStream open(InputStream input, String sourceName) {
+        return new SourceCharStream(input, sourceName);
+    }
+
+    public Program parse(CharStream charStream) {
+        return this.parse(charStream, ConsoleErrorListener.INSTANCE);
+    }
+
+    //lexer and parser errors both go to errorListener, in the order the parse meets them
+    public Program parse(CharStream charStream, ANTLRErrorListener errorListener) {
+        TokenSource lexer;
+        if(directLexer) {
+            DirectLexer directLexer = new DirectLexer(charStream);
+            directLexer.setErrorListener(errorListener);
+            lexer = directLexer;
+        }
+        else {
+            SophiaLexer sophiaLexer = new SophiaLexer(charStream);
+            sophiaLexer.removeErrorListeners();
+            sophiaLexer.addErrorListener(errorListener);
+            lexer = sophiaLexer;
+        }
+        lexer.setTokenFactory(new TextCopyingTokenFactory());
+        SophiaParser sophiaParser = new SophiaParser(new SourceTokenStream(lexer));
+        sophiaParser.setBuildParseTree(false);
+        sophiaParser.removeErrorListeners();
+        sophiaParser.addErrorListener(errorListener);
+        return sophiaParser.sophia().sophiaProgram;
+    }
+}
@@ -1,71 +1,109 @@
 package main.symbolTable;
 
+import main.CompilerMetrics;
 
 import main.symbolTable.exceptions.ItemAlreadyExistsException;
-import main.symbolTable.exceptions.ItemNotFoundException;
+import main.symbolTable.items.ClassSymbolTableItem;
+import main.symbolTable.items.FieldSymbolTableItem;
+import main.symbolTable.items.LocalVariableSymbolTableItem;
+import main.symbolTable.items.MethodSymbolTableItem;
 import main.symbolTable.items.SymbolTableItem;
-import main.symbolTable.utils.stack.Stack;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
-
 
 
+//Classes, fields, methods and locals live in separate namespaces keyed by their interned names, so a lookup is
+//one map probe per scope and never builds a key. The walk up the pre chain is bounded by the number of tables of
+//the compilation instead of a visited set: an inheritance cycle makes the chain loop, and no lookup can find
+//anything new after passing every table once. A search that skips the current table stops if the loop leads
+//back to it.
 public class SymbolTable {
 
-    //Start of static members
+    private static final int CLASSES = 0;
+    private static final int FIELDS = 1;
+    private static final int METHODS = 2;
+    private static final int LOCALS = 3;
 
-    public static SymbolTable top;
-    public static SymbolTable root;
-    private static Stack<SymbolTable> stack = new Stack<>();
+    public SymbolTable pre;
+    private Map<String, SymbolTableItem>[] namespaces;
+    private CompilerMetrics metrics;
+    private int[] tableCount;
 
-    public static void push(SymbolTable symbolTable) {
-        if (top != null)
-            stack.push(top);
-        top = symbolTable;
+    public SymbolTable() {
+        this((SymbolTable) null);
     }
 
-    public static void pop() {
-        top = stack.pop();
+    public SymbolTable(CompilerMetrics metrics) {
+        this.namespaces = newNamespaces();
+        this.metrics = metrics;
+        this.tableCount = new int[] {1};
     }
 
-    //End of static members
-
-    public SymbolTable pre;
-    private Map<String, SymbolTableItem> items;
+    public SymbolTable(SymbolTable pre) {
+        this.pre = pre;
+        this.namespaces = newNamespaces();
+        this.metrics = pre == null ? CompilerMetrics.DISABLED : pre.metrics;
+        this.tableCount = pre == null ? new int[1] : pre.tableCount;
+        this.tableCount[0]++;
+    }
 
-    public SymbolTable() {
-        this(null);
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<String, SymbolTableItem>[] newNamespaces() {
+        Map<String, SymbolTableItem>[] namespaces = new Map[4];
+        for(int i = 0; i < namespaces.length; i++)
+            namespaces[i] = new HashMap<>();
+        return namespaces;
     }
 
-    public SymbolTable(SymbolTable pre) {
-        this.pre = pre;
-        this.items = new HashMap<>();
+    private static int namespaceOf(SymbolTableItem item) {
+        if(item instanceof ClassSymbolTableItem)
+            return CLASSES;
+        if(item instanceof FieldSymbolTableItem)
+            return FIELDS;
+        if(item instanceof MethodSymbolTableItem)
+            return METHODS;
+        return LOCALS;
     }
 
     public void put(SymbolTableItem item) throws ItemAlreadyExistsException {
-        if (items.containsKey(item.getKey()))
+        Map<String, SymbolTableItem> namespace = namespaces[namespaceOf(item)];
+        String name = item.getName().intern();
+        if (namespace.containsKey(name))
             throw new ItemAlreadyExistsException();
-        items.put(item.getKey(), item);
+        namespace.put(name, item);
     }
 
-    public SymbolTableItem getItem(String key, Boolean searchCurrent) throws ItemNotFoundException {
-        Set<SymbolTable> visitedSymbolTables = new HashSet<>();
-        SymbolTable currentSymbolTable = this;
-        if(!searchCurrent) {
-            visitedSymbolTables.add(this);
-            currentSymbolTable = this.pre;
-        }
-        while((currentSymbolTable != null) && (!visitedSymbolTables.contains(currentSymbolTable))) {
-            visitedSymbolTables.add( currentSymbolTable );
-            SymbolTableItem symbolTableItem = currentSymbolTable.items.get(key);
+    //the find methods return null for a name that is not visible from this table; a miss costs no more than a hit
+    public ClassSymbolTableItem findClass(String name, boolean searchCurrent) {
+        return (ClassSymbolTableItem) this.find(CLASSES, name, searchCurrent);
+    }
+
+    public FieldSymbolTableItem findField(String name, boolean searchCurrent) {
+        return (FieldSymbolTableItem) this.find(FIELDS, name, searchCurrent);
+    }
+
+    public MethodSymbolTableItem findMethod(String name, boolean searchCurrent) {
+        return (MethodSymbolTableItem) this.find(METHODS, name, searchCurrent);
+    }
+
+    public LocalVariableSymbolTableItem findLocal(String name, boolean searchCurrent) {
+        return (LocalVariableSymbolTableItem) this.find(LOCALS, name, searchCurrent);
+    }
+
+    private SymbolTableItem find(int namespace, String name, boolean searchCurrent) {
+        metrics.symbolTableLookup();
+        SymbolTable currentSymbolTable = searchCurrent ? this : this.pre;
+        int remaining = searchCurrent ? tableCount[0] : tableCount[0] - 1;
+        while(currentSymbolTable != null && remaining-- > 0) {
+            if(currentSymbolTable == this && !searchCurrent)
+                return null;
+            SymbolTableItem symbolTableItem = currentSymbolTable.namespaces[namespace].get(name);
             if( symbolTableItem != null )
                 return symbolTableItem;
             currentSymbolTable = currentSymbolTable.pre;
         }
-        throw new ItemNotFoundException();
+        return null;
     }
 
 }
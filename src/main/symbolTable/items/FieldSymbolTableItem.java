@@ -7,8 +7,10 @@ import main.ast.types.Type;
 public class FieldSymbolTableItem extends SymbolTableItem {
     public static String START_KEY = "Field_";
     protected Type type;
+    private FieldDeclaration fieldDeclaration;
 
     public FieldSymbolTableItem(FieldDeclaration fieldDeclaration) {
+        this.fieldDeclaration = fieldDeclaration;
         this.name = fieldDeclaration.getVarDeclaration().getVarName().getName();
         this.type = fieldDeclaration.getVarDeclaration().getType();
     }
@@ -17,6 +19,10 @@ public class FieldSymbolTableItem extends SymbolTableItem {
         return START_KEY + this.name;
     }
 
+    public FieldDeclaration getFieldDeclaration() {
+        return fieldDeclaration;
+    }
+
     public Type getType() {
         return type;
     }
@@ -0,0 +1,261 @@
+package main.symbolTable.utils.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//Frozen ancestor relation of a Graph, answering isAncestorOrSelf in O(1). Strongly connected components are
+//found once with an iterative Tarjan pass, which also tells which nodes lie on a cycle. A forest (at most one
+//parent per node, no cycles) is numbered with pre/post-order intervals; anything else, e.g. a class declared
+//twice with different parents or an inheritance cycle, gets one ancestor bitset per component. In a forest the
+//descendants of a node are a contiguous pre-order range.
+public class AncestorIndex<N> {
+    private final HashMap<N, Integer> ids = new HashMap<>();
+    private final ArrayList<N> nodes = new ArrayList<>();
+    private final int[] component;
+    private final int[] hierarchy;
+    private final boolean[] inCycle;
+    private int[] pre;
+    private int[] post;
+    private int[] subtreeSize;
+    private int[] nodeAtPre;
+    private BitSet[] ancestors;
+
+    AncestorIndex(Map<N, Set<N>> parentShipRelation) {
+        for(Map.Entry<N, Set<N>> entry : parentShipRelation.entrySet()) {
+            this.idOf(entry.getKey());
+            for(N parent : entry.getValue())
+                this.idOf(parent);
+        }
+        int size = ids.size();
+        int[][] parents = new int[size][];
+        for(int i = 0; i < size; i++)
+            parents[i] = new int[0];
+        boolean forest = true;
+        for(Map.Entry<N, Set<N>> entry : parentShipRelation.entrySet()) {
+            int[] nodeParents = new int[entry.getValue().size()];
+            int i = 0;
+            for(N parent : entry.getValue())
+                nodeParents[i++] = ids.get(parent);
+            parents[ids.get(entry.getKey())] = nodeParents;
+            if(nodeParents.length > 1)
+                forest = false;
+        }
+        component = new int[size];
+        inCycle = new boolean[size];
+        int components = this.findComponents(parents);
+        hierarchy = findHierarchies(parents);
+        for(boolean cyclic : inCycle)
+            if(cyclic)
+                forest = false;
+        if(forest)
+            this.numberForest(parents);
+        else
+            this.buildAncestorSets(parents, components);
+    }
+
+    private int idOf(N node) {
+        Integer id = ids.get(node);
+        if(id == null) {
+            id = ids.size();
+            ids.put(node, id);
+            nodes.add(node);
+        }
+        return id;
+    }
+
+    //Tarjan's algorithm along parent edges; a component is completed only after every component above it,
+    //so components are numbered ancestors first
+    private int findComponents(int[][] parents) {
+        int size = parents.length;
+        int[] index = new int[size];
+        int[] lowLink = new int[size];
+        boolean[] onStack = new boolean[size];
+        int[] stack = new int[size];
+        int[] callStack = new int[size];
+        int[] nextParent = new int[size];
+        Arrays.fill(index, -1);
+        int counter = 0, stackTop = 0, components = 0;
+        for(int start = 0; start < size; start++) {
+            if(index[start] != -1)
+                continue;
+            int callTop = 0;
+            callStack[callTop++] = start;
+            index[start] = lowLink[start] = counter++;
+            stack[stackTop++] = start;
+            onStack[start] = true;
+            while(callTop > 0) {
+                int node = callStack[callTop - 1];
+                if(nextParent[node] < parents[node].length) {
+                    int parent = parents[node][nextParent[node]++];
+                    if(parent == node)
+                        inCycle[node] = true;
+                    if(index[parent] == -1) {
+                        index[parent] = lowLink[parent] = counter++;
+                        stack[stackTop++] = parent;
+                        onStack[parent] = true;
+                        callStack[callTop++] = parent;
+                    }
+                    else if(onStack[parent])
+                        lowLink[node] = Math.min(lowLink[node], index[parent]);
+                    continue;
+                }
+                callTop--;
+                if(callTop > 0)
+                    lowLink[callStack[callTop - 1]] = Math.min(lowLink[callStack[callTop - 1]], lowLink[node]);
+                if(lowLink[node] != index[node])
+                    continue;
+                int first = stackTop;
+                int member;
+                do {
+                    member = stack[--stackTop];
+                    onStack[member] = false;
+                    component[member] = components;
+                } while(member != node);
+                if(first - stackTop > 1)
+                    for(int i = stackTop; i < first; i++)
+                        inCycle[stack[i]] = true;
+                components++;
+            }
+        }
+        return components;
+    }
+
+    //weakly connected components: classes linked by inheritance in either direction share a hierarchy
+    private static int[] findHierarchies(int[][] parents) {
+        int[] representative = new int[parents.length];
+        for(int i = 0; i < parents.length; i++)
+            representative[i] = i;
+        for(int node = 0; node < parents.length; node++)
+            for(int parent : parents[node])
+                representative[find(representative, node)] = find(representative, parent);
+        for(int i = 0; i < parents.length; i++)
+            representative[i] = find(representative, i);
+        return representative;
+    }
+
+    private static int find(int[] representative, int node) {
+        while(representative[node] != node) {
+            representative[node] = representative[representative[node]];
+            node = representative[node];
+        }
+        return node;
+    }
+
+    private void numberForest(int[][] parents) {
+        int size = parents.length;
+        int[] childCount = new int[size];
+        for(int[] nodeParents : parents)
+            for(int parent : nodeParents)
+                childCount[parent]++;
+        int[][] children = new int[size][];
+        for(int i = 0; i < size; i++)
+            children[i] = new int[childCount[i]];
+        int[] filled = new int[size];
+        for(int i = 0; i < size; i++)
+            for(int parent : parents[i])
+                children[parent][filled[parent]++] = i;
+        pre = new int[size];
+        post = new int[size];
+        subtreeSize = new int[size];
+        nodeAtPre = new int[size];
+        int[] callStack = new int[size];
+        int[] nextChild = new int[size];
+        int preCounter = 0, postCounter = 0;
+        for(int root = 0; root < size; root++) {
+            if(parents[root].length != 0)
+                continue;
+            int callTop = 0;
+            callStack[callTop++] = root;
+            nodeAtPre[preCounter] = root;
+            pre[root] = preCounter++;
+            while(callTop > 0) {
+                int node = callStack[callTop - 1];
+                if(nextChild[node] < children[node].length) {
+                    int child = children[node][nextChild[node]++];
+                    nodeAtPre[preCounter] = child;
+                    pre[child] = preCounter++;
+                    callStack[callTop++] = child;
+                    continue;
+                }
+                post[node] = postCounter++;
+                subtreeSize[node] = preCounter - pre[node];
+                callTop--;
+            }
+        }
+    }
+
+    private void buildAncestorSets(int[][] parents, int components) {
+        ArrayList<ArrayList<Integer>> members = new ArrayList<>();
+        for(int i = 0; i < components; i++)
+            members.add(new ArrayList<>());
+        for(int node = 0; node < parents.length; node++)
+            members.get(component[node]).add(node);
+        ancestors = new BitSet[components];
+        for(int c = 0; c < components; c++) {
+            BitSet set = new BitSet(components);
+            set.set(c);
+            for(int node : members.get(c))
+                for(int parent : parents[node])
+                    if(component[parent] != c)
+                        set.or(ancestors[component[parent]]);
+            ancestors[c] = set;
+        }
+    }
+
+    public boolean contains(N node) {
+        return ids.containsKey(node);
+    }
+
+    //same answer as the reflexive DFS in Graph.isSecondNodeAncestorOf
+    public boolean isAncestorOrSelf(N node, N ancestor) {
+        if(node.equals(ancestor))
+            return true;
+        Integer nodeId = ids.get(node);
+        Integer ancestorId = ids.get(ancestor);
+        if(nodeId == null || ancestorId == null)
+            return false;
+        if(ancestors != null)
+            return ancestors[component[nodeId]].get(component[ancestorId]);
+        return pre[ancestorId] <= pre[nodeId] && post[nodeId] <= post[ancestorId];
+    }
+
+    //every node that has the given one as an ancestor, itself included
+    public List<N> getDescendants(N node) {
+        ArrayList<N> descendants = new ArrayList<>();
+        Integer id = ids.get(node);
+        if(id == null)
+            return descendants;
+        if(ancestors == null) {
+            for(int i = pre[id]; i < pre[id] + subtreeSize[id]; i++)
+                descendants.add(nodes.get(nodeAtPre[i]));
+            return descendants;
+        }
+        for(int i = 0; i < nodes.size(); i++)
+            if(ancestors[component[i]].get(component[id]))
+                descendants.add(nodes.get(i));
+        return descendants;
+    }
+
+    //nodes of one hierarchy share the number; -1 for a node the graph has never seen
+    public int getHierarchy(N node) {
+        Integer id = ids.get(node);
+        return id == null ? -1 : hierarchy[id];
+    }
+
+    public boolean isInCycle(N node) {
+        Integer id = ids.get(node);
+        return id != null && inCycle[id];
+    }
+
+    //true when each node can reach the other, i.e. both are on one cycle (or are the same node on a self-loop)
+    public boolean areInSameCycle(N first, N second) {
+        Integer firstId = ids.get(first);
+        Integer secondId = ids.get(second);
+        return firstId != null && secondId != null && inCycle[firstId] && component[firstId] == component[secondId];
+    }
+}
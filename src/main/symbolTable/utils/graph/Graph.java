@@ -7,10 +7,12 @@ import java.util.*;
 
 public class Graph<N> {
     private Map<N, Set<N>> parentShipRelation = new HashMap<>();
+    private AncestorIndex<N> ancestorIndex;
 
     public void addNode(N desired) throws NodeAlreadyExistsException {
         if (parentShipRelation.containsKey(desired))
             throw new NodeAlreadyExistsException();
+        ancestorIndex = null;
         parentShipRelation.put(desired, new HashSet<>());
     }
 
@@ -21,9 +23,21 @@ public class Graph<N> {
     public void addNodeAsParentOf(N desired, N parentNode) throws GraphDoesNotContainNodeException {
         if (!parentShipRelation.containsKey(desired))
             throw new GraphDoesNotContainNodeException();
+        ancestorIndex = null;
         parentShipRelation.get(desired).add(parentNode);
     }
 
+    //builds the O(1) ancestor index once the graph is complete; any later change drops it again
+    public AncestorIndex<N> freeze() {
+        if (ancestorIndex == null)
+            ancestorIndex = new AncestorIndex<>(parentShipRelation);
+        return ancestorIndex;
+    }
+
+    public AncestorIndex<N> getAncestorIndex() {
+        return ancestorIndex;
+    }
+
     public Collection<N> getParentsOfNode(N desired) throws GraphDoesNotContainNodeException {
         if (!parentShipRelation.containsKey(desired))
             throw new GraphDoesNotContainNodeException();
@@ -31,6 +45,8 @@ public class Graph<N> {
     }
 
     public boolean isSecondNodeAncestorOf(N first , N second) {
+        if (ancestorIndex != null)
+            return ancestorIndex.isAncestorOrSelf(first, second);
         Set<N> visitedNodes = new HashSet<>();
         return _isSecondNodeAncestorOf(first,second, visitedNodes);
     }
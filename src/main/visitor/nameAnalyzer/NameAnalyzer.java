@@ -1,9 +1,8 @@
 package main.visitor.nameAnalyzer;
 
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
-import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.ClassSymbolTableItem;
 import main.symbolTable.utils.graph.Graph;
 import main.symbolTable.utils.graph.exceptions.GraphDoesNotContainNodeException;
@@ -11,17 +10,20 @@ import main.symbolTable.utils.graph.exceptions.NodeAlreadyExistsException;
 
 public class NameAnalyzer {
     private Program program;
-    private Graph<String> classHierarchy;
+    private final CompilationContext context;
 
-    public NameAnalyzer(Program program) {
+    public NameAnalyzer(Program program, CompilationContext context) {
         this.program = program;
+        this.context = context;
     }
 
     public void analyze() {
-        NameCollector nameCollector = new NameCollector();
+        NameCollector nameCollector = new NameCollector(context);
         this.program.accept(nameCollector);
         this.linkParentSymbolTables();
-        NameChecker nameChecker = new NameChecker(classHierarchy);
+        NameResolver nameResolver = new NameResolver(context);
+        this.program.accept(nameResolver);
+        NameChecker nameChecker = new NameChecker(context);
         this.program.accept(nameChecker);
     }
 
@@ -37,18 +39,20 @@ public class NameAnalyzer {
             String parentName = classDeclaration.getParentClassName().getName();
             try {
                 classHierarchy.addNodeAsParentOf(className, parentName);
-                ClassSymbolTableItem parentSTI = (ClassSymbolTableItem) SymbolTable.root
-                        .getItem(ClassSymbolTableItem.START_KEY + parentName, true);
-                ClassSymbolTableItem thisClassSTI = (ClassSymbolTableItem) SymbolTable.root
-                        .getItem(ClassSymbolTableItem.START_KEY + className, true);
+            } catch (GraphDoesNotContainNodeException ignored) {
+                continue;
+            }
+            ClassSymbolTableItem parentSTI = context.getRoot().findClass(parentName, true);
+            ClassSymbolTableItem thisClassSTI = context.getRoot().findClass(className, true);
+            if (parentSTI != null && thisClassSTI != null)
                 thisClassSTI.getClassSymbolTable().pre = parentSTI.getClassSymbolTable();
-            } catch (ItemNotFoundException | GraphDoesNotContainNodeException ignored) { }
         }
-        this.classHierarchy = classHierarchy;
+        classHierarchy.freeze();
+        this.context.setClassHierarchy(classHierarchy);
     }
 
     public Graph<String> getClassHierarchy() {
-        return classHierarchy;
+        return context.getClassHierarchy();
     }
 
 }
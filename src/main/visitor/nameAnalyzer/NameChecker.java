@@ -1,5 +1,6 @@
 package main.visitor.nameAnalyzer;
 
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
@@ -10,37 +11,61 @@ import main.compileErrorException.nameErrors.FieldRedefinition;
 import main.compileErrorException.nameErrors.MethodNameConflictWithField;
 import main.compileErrorException.nameErrors.MethodRedefinition;
 import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.ClassSymbolTableItem;
 import main.symbolTable.items.FieldSymbolTableItem;
 import main.symbolTable.items.MethodSymbolTableItem;
+import main.symbolTable.utils.graph.AncestorIndex;
 import main.symbolTable.utils.graph.Graph;
 import main.visitor.Visitor;
 
+import java.util.HashMap;
+import java.util.HashSet;
+
 public class NameChecker extends Visitor<Void> {
     private String currentClassName;
+    private ClassSymbolTableItem currentClass;
+    private final CompilationContext context;
     private Graph<String> classHierarchy;
+    private AncestorIndex<String> hierarchyIndex;
+    private HashMap<Integer, HashSet<String>> hierarchyFieldNames;
     Program root;
 
-    public NameChecker(Graph<String> classHierarchy) {
-        this.classHierarchy = classHierarchy;
+    public NameChecker(CompilationContext context) {
+        this.context = context;
+        this.classHierarchy = context.getClassHierarchy();
     }
 
     private SymbolTable getCurrentClassSymbolTable() {
-        try {
-            ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem)
-                    SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + this.currentClassName, true);
-            return classSymbolTableItem.getClassSymbolTable();
-        } catch (ItemNotFoundException ignored) {
-            return null;
-        }
+        return currentClass == null ? null : currentClass.getClassSymbolTable();
+    }
+
+    //the name collector already reported a redefinition, which the resolver bound to the first definition's item
+    private boolean isRedefinition(MethodDeclaration methodDeclaration) {
+        MethodSymbolTableItem methodSymbolTableItem = methodDeclaration.getSymbolTableItem();
+        return methodSymbolTableItem != null && methodSymbolTableItem.getMethodDeclaration() != methodDeclaration;
+    }
+
+    private boolean isRedefinition(FieldDeclaration fieldDeclaration) {
+        FieldSymbolTableItem fieldSymbolTableItem = (FieldSymbolTableItem) fieldDeclaration.getVarDeclaration().getVarName().getSymbolTableItem();
+        return fieldSymbolTableItem != null && fieldSymbolTableItem.getFieldDeclaration() != fieldDeclaration;
     }
 
     @Override
     public Void visit(Program program) {
+        context.getMetrics().nodeVisited();
         this.root = program;
+        //one linear SCC pass over the hierarchy finds every class on a cycle
+        this.hierarchyIndex = classHierarchy.freeze();
+        this.hierarchyFieldNames = new HashMap<>();
+        for(ClassDeclaration classDeclaration : program.getClasses()) {
+            int hierarchy = hierarchyIndex.getHierarchy(classDeclaration.getClassName().getName());
+            for(FieldDeclaration fieldDeclaration : classDeclaration.getFields())
+                hierarchyFieldNames.computeIfAbsent(hierarchy, h -> new HashSet<>())
+                        .add(fieldDeclaration.getVarDeclaration().getVarName().getName());
+        }
         for(ClassDeclaration classDeclaration : program.getClasses()) {
             this.currentClassName = classDeclaration.getClassName().getName();
+            this.currentClass = classDeclaration.getSymbolTableItem();
             classDeclaration.accept(this);
         }
         return null;
@@ -48,10 +73,12 @@ public class NameChecker extends Visitor<Void> {
 
     @Override
     public Void visit(ClassDeclaration classDeclaration) {
+        context.getMetrics().nodeVisited();
         if(classDeclaration.getParentClassName() != null) {
-            if (this.classHierarchy.isSecondNodeAncestorOf(classDeclaration.getParentClassName().getName(), classDeclaration.getClassName().getName())) {
+            //the class extends its parent, so the parent reaching it again means both are on one cycle
+            if (this.hierarchyIndex.areInSameCycle(classDeclaration.getClassName().getName(), classDeclaration.getParentClassName().getName())) {
                 ClassInCyclicInheritance exception = new ClassInCyclicInheritance(classDeclaration);
-                classDeclaration.addError(exception);
+                context.getDiagnostics().report(classDeclaration, exception);
             }
         }
         for(FieldDeclaration fieldDeclaration : classDeclaration.getFields()) {
@@ -68,43 +95,36 @@ public class NameChecker extends Visitor<Void> {
 
     @Override
     public Void visit(ConstructorDeclaration constructorDeclaration) {
+        context.getMetrics().nodeVisited();
         this.visit((MethodDeclaration) constructorDeclaration);
         return null;
     }
 
     @Override
     public Void visit(MethodDeclaration methodDeclaration) {
-        if(!methodDeclaration.hasError()) {
-            try {
-                SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
-                classSymbolTable.getItem(MethodSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), false);
-                MethodRedefinition exception = new MethodRedefinition(methodDeclaration);
-                methodDeclaration.addError(exception);
-            } catch (ItemNotFoundException ignored) {
-            }
+        context.getMetrics().nodeVisited();
+        SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
+        String methodName = methodDeclaration.getMethodName().getName();
+        if(!isRedefinition(methodDeclaration) && classSymbolTable.findMethod(methodName, false) != null) {
+            MethodRedefinition exception = new MethodRedefinition(methodDeclaration);
+            context.getDiagnostics().report(methodDeclaration, exception);
         }
         boolean errored = false;
-        try {
-            SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
-            classSymbolTable.getItem(FieldSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), true);
+        if(classSymbolTable.findField(methodName, true) != null) {
             MethodNameConflictWithField exception = new MethodNameConflictWithField(methodDeclaration);
-            methodDeclaration.addError(exception);
+            context.getDiagnostics().report(methodDeclaration, exception);
             errored = true;
-        } catch (ItemNotFoundException ignored) {
         }
-        if(!errored)
-            for(ClassDeclaration classDeclaration : root.getClasses()) {
-                String childName = classDeclaration.getClassName().getName();
-                if(classHierarchy.isSecondNodeAncestorOf(childName, currentClassName)) {
-                    try {
-                        ClassSymbolTableItem childSymbolTableItem = (ClassSymbolTableItem) SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + childName, true);
-                        SymbolTable childSymbolTable = childSymbolTableItem.getClassSymbolTable();
-                        childSymbolTable.getItem(FieldSymbolTableItem.START_KEY + methodDeclaration.getMethodName().getName(), true);
-                        MethodNameConflictWithField exception = new MethodNameConflictWithField(methodDeclaration);
-                        methodDeclaration.addError(exception);
-                        break;
-                    } catch (ItemNotFoundException ignored) {
-                    }
+        //a subclass can only see fields declared somewhere in this hierarchy, so most methods skip the walk
+        HashSet<String> fieldNames = hierarchyFieldNames.get(hierarchyIndex.getHierarchy(currentClassName));
+        if(!errored && fieldNames != null && fieldNames.contains(methodName))
+            for(String childName : hierarchyIndex.getDescendants(currentClassName)) {
+                ClassSymbolTableItem childSymbolTableItem = context.getRoot().findClass(childName, true);
+                if(childSymbolTableItem != null
+                        && childSymbolTableItem.getClassSymbolTable().findField(methodName, true) != null) {
+                    MethodNameConflictWithField exception = new MethodNameConflictWithField(methodDeclaration);
+                    context.getDiagnostics().report(methodDeclaration, exception);
+                    break;
                 }
             }
         return null;
@@ -112,13 +132,12 @@ public class NameChecker extends Visitor<Void> {
 
     @Override
     public Void visit(FieldDeclaration fieldDeclaration) {
-        if(!fieldDeclaration.hasError()) {
-            try {
-                SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
-                classSymbolTable.getItem(FieldSymbolTableItem.START_KEY + fieldDeclaration.getVarDeclaration().getVarName().getName(), false);
+        context.getMetrics().nodeVisited();
+        if(!isRedefinition(fieldDeclaration)) {
+            SymbolTable classSymbolTable = this.getCurrentClassSymbolTable();
+            if(classSymbolTable.findField(fieldDeclaration.getVarDeclaration().getVarName().getName(), false) != null) {
                 FieldRedefinition exception = new FieldRedefinition(fieldDeclaration);
-                fieldDeclaration.addError(exception);
-            } catch (ItemNotFoundException ignored) {
+                context.getDiagnostics().report(fieldDeclaration, exception);
             }
         }
         return null;
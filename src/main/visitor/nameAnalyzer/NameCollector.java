@@ -1,5 +1,6 @@
 package main.visitor.nameAnalyzer;
 
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
@@ -19,11 +20,17 @@ import main.symbolTable.items.MethodSymbolTableItem;
 import main.visitor.Visitor;
 
 public class NameCollector extends Visitor<Void> {
+    private final CompilationContext context;
+
+    public NameCollector(CompilationContext context) {
+        this.context = context;
+    }
 
     @Override
     public Void visit(Program program) {
-        SymbolTable.push(new SymbolTable());
-        SymbolTable.root = SymbolTable.top;
+        context.getMetrics().nodeVisited();
+        context.push(new SymbolTable(context.getMetrics()));
+        context.setRoot(context.getTop());
         for(ClassDeclaration classDeclaration : program.getClasses()) {
             classDeclaration.accept(this);
         }
@@ -32,15 +39,16 @@ public class NameCollector extends Visitor<Void> {
 
     @Override
     public Void visit(ClassDeclaration classDeclaration) {
+        context.getMetrics().nodeVisited();
         ClassSymbolTableItem classSymbolTableItem = new ClassSymbolTableItem(classDeclaration);
-        SymbolTable.push(new SymbolTable(SymbolTable.top));
-        classSymbolTableItem.setClassSymbolTable(SymbolTable.top);
+        context.push(new SymbolTable(context.getTop()));
+        classSymbolTableItem.setClassSymbolTable(context.getTop());
         try {
-            SymbolTable.root.put(classSymbolTableItem);
+            context.getRoot().put(classSymbolTableItem);
         } catch (ItemAlreadyExistsException e) {
             ClassRedefinition exception = new ClassRedefinition(classDeclaration);
-            classDeclaration.addError(exception);
-            exception.handleException();
+            context.getDiagnostics().report(classDeclaration, exception);
+            exception.handleException(context);
         }
         for(FieldDeclaration fieldDeclaration : classDeclaration.getFields()) {
             fieldDeclaration.accept(this);
@@ -51,56 +59,67 @@ public class NameCollector extends Visitor<Void> {
         for(MethodDeclaration methodDeclaration : classDeclaration.getMethods()) {
             methodDeclaration.accept(this);
         }
-        SymbolTable.pop();
+        context.pop();
         return null;
     }
 
     @Override
     public Void visit(ConstructorDeclaration constructorDeclaration) {
+        context.getMetrics().nodeVisited();
         this.visit((MethodDeclaration) constructorDeclaration);
         return null;
     }
 
     @Override
     public Void visit(MethodDeclaration methodDeclaration) {
+        context.getMetrics().nodeVisited();
+        //declared types are made canonical before any symbol table item copies them
+        methodDeclaration.setReturnType(context.getTypeFactory().canonical(methodDeclaration.getReturnType()));
+        for(VarDeclaration arg : methodDeclaration.getArgs())
+            arg.setType(context.getTypeFactory().canonical(arg.getType()));
         MethodSymbolTableItem methodSymbolTableItem = new MethodSymbolTableItem(methodDeclaration);
-        SymbolTable methodSymbolTable = new SymbolTable(SymbolTable.top);
+        SymbolTable methodSymbolTable = new SymbolTable(context.getTop());
         methodSymbolTableItem.setMethodSymbolTable(methodSymbolTable);
         try {
-            SymbolTable.top.put(methodSymbolTableItem);
+            context.getTop().put(methodSymbolTableItem);
         } catch (ItemAlreadyExistsException e) {
             MethodRedefinition exception = new MethodRedefinition(methodDeclaration);
-            methodDeclaration.addError(exception);
+            context.getDiagnostics().report(methodDeclaration, exception);
         }
-        SymbolTable.push(methodSymbolTable);
+        context.push(methodSymbolTable);
         for(VarDeclaration varDeclaration : methodDeclaration.getArgs()) {
             varDeclaration.accept(this);
         }
         for(VarDeclaration varDeclaration : methodDeclaration.getLocalVars()) {
             varDeclaration.accept(this);
         }
-        SymbolTable.pop();
+        context.pop();
         return null;
     }
 
     @Override
     public Void visit(FieldDeclaration fieldDeclaration) {
+        context.getMetrics().nodeVisited();
+        VarDeclaration field = fieldDeclaration.getVarDeclaration();
+        field.setType(context.getTypeFactory().canonical(field.getType()));
         try {
-            SymbolTable.top.put(new FieldSymbolTableItem(fieldDeclaration));
+            context.getTop().put(new FieldSymbolTableItem(fieldDeclaration));
         } catch (ItemAlreadyExistsException e) {
             FieldRedefinition exception = new FieldRedefinition(fieldDeclaration);
-            fieldDeclaration.addError(exception);
+            context.getDiagnostics().report(fieldDeclaration, exception);
         }
         return null;
     }
 
     @Override
     public Void visit(VarDeclaration varDeclaration) {
+        context.getMetrics().nodeVisited();
+        varDeclaration.setType(context.getTypeFactory().canonical(varDeclaration.getType()));
         try {
-            SymbolTable.top.put(new LocalVariableSymbolTableItem(varDeclaration));
+            context.getTop().put(new LocalVariableSymbolTableItem(varDeclaration));
         } catch (ItemAlreadyExistsException e) {
             LocalVarRedefinition exception = new LocalVarRedefinition(varDeclaration);
-            varDeclaration.addError(exception);
+            context.getDiagnostics().report(varDeclaration, exception);
         }
         return null;
     }
@@ -0,0 +1,245 @@
+package main.visitor.nameAnalyzer;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.values.ListValue;
+import main.ast.nodes.statement.*;
+import main.ast.nodes.statement.loop.ForStmt;
+import main.ast.nodes.statement.loop.ForeachStmt;
+import main.symbolTable.SymbolTable;
+import main.symbolTable.items.ClassSymbolTableItem;
+import main.symbolTable.items.MethodSymbolTableItem;
+import main.visitor.Visitor;
+
+//Binds declarations and variable references to their symbol table items once, after the parent tables are
+//linked, so the type checker reads them off the nodes instead of repeating the class -> method -> local chain.
+//Each binding is what that chain finds by name: a redefined class was renamed to its own item, a redefined
+//method gets the item of its first definition, and a name that resolves to nothing stays null.
+public class NameResolver extends Visitor<Void> {
+    private final CompilationContext context;
+    private SymbolTable classSymbolTable;
+    private SymbolTable methodSymbolTable;
+
+    public NameResolver(CompilationContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public Void visit(Program program) {
+        context.getMetrics().nodeVisited();
+        for(ClassDeclaration classDeclaration : program.getClasses()) {
+            classDeclaration.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(ClassDeclaration classDeclaration) {
+        context.getMetrics().nodeVisited();
+        ClassSymbolTableItem classSymbolTableItem = context.getRoot().findClass(classDeclaration.getClassName().getName(), true);
+        classDeclaration.setSymbolTableItem(classSymbolTableItem);
+        if(classSymbolTableItem == null)
+            return null;
+        this.classSymbolTable = classSymbolTableItem.getClassSymbolTable();
+        for(FieldDeclaration fieldDeclaration : classDeclaration.getFields()) {
+            fieldDeclaration.accept(this);
+        }
+        if(classDeclaration.getConstructor() != null) {
+            classDeclaration.getConstructor().accept(this);
+        }
+        for(MethodDeclaration methodDeclaration : classDeclaration.getMethods()) {
+            methodDeclaration.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(ConstructorDeclaration constructorDeclaration) {
+        context.getMetrics().nodeVisited();
+        this.visit((MethodDeclaration) constructorDeclaration);
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodDeclaration methodDeclaration) {
+        context.getMetrics().nodeVisited();
+        MethodSymbolTableItem methodSymbolTableItem = classSymbolTable.findMethod(methodDeclaration.getMethodName().getName(), true);
+        methodDeclaration.setSymbolTableItem(methodSymbolTableItem);
+        if(methodSymbolTableItem == null)
+            return null;
+        this.methodSymbolTable = methodSymbolTableItem.getMethodSymbolTable();
+        for(VarDeclaration varDeclaration : methodDeclaration.getArgs()) {
+            varDeclaration.accept(this);
+        }
+        for(VarDeclaration varDeclaration : methodDeclaration.getLocalVars()) {
+            varDeclaration.accept(this);
+        }
+        for(Statement statement : methodDeclaration.getBody()) {
+            statement.accept(this);
+        }
+        this.methodSymbolTable = null;
+        return null;
+    }
+
+    @Override
+    public Void visit(FieldDeclaration fieldDeclaration) {
+        context.getMetrics().nodeVisited();
+        Identifier fieldName = fieldDeclaration.getVarDeclaration().getVarName();
+        fieldName.setSymbolTableItem(classSymbolTable.findField(fieldName.getName(), true));
+        return null;
+    }
+
+    @Override
+    public Void visit(VarDeclaration varDeclaration) {
+        context.getMetrics().nodeVisited();
+        varDeclaration.getVarName().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(AssignmentStmt assignmentStmt) {
+        context.getMetrics().nodeVisited();
+        assignmentStmt.getlValue().accept(this);
+        assignmentStmt.getrValue().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(BlockStmt blockStmt) {
+        context.getMetrics().nodeVisited();
+        for(Statement statement : blockStmt.getStatements()) {
+            statement.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(ConditionalStmt conditionalStmt) {
+        context.getMetrics().nodeVisited();
+        conditionalStmt.getCondition().accept(this);
+        conditionalStmt.getThenBody().accept(this);
+        if(conditionalStmt.getElseBody() != null) {
+            conditionalStmt.getElseBody().accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCallStmt methodCallStmt) {
+        context.getMetrics().nodeVisited();
+        methodCallStmt.getMethodCall().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(PrintStmt print) {
+        context.getMetrics().nodeVisited();
+        print.getArg().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ReturnStmt returnStmt) {
+        context.getMetrics().nodeVisited();
+        returnStmt.getReturnedExpr().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ForeachStmt foreachStmt) {
+        context.getMetrics().nodeVisited();
+        foreachStmt.getVariable().accept(this);
+        foreachStmt.getList().accept(this);
+        foreachStmt.getBody().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ForStmt forStmt) {
+        context.getMetrics().nodeVisited();
+        if(forStmt.getInitialize() != null) {
+            forStmt.getInitialize().accept(this);
+        }
+        if(forStmt.getCondition() != null) {
+            forStmt.getCondition().accept(this);
+        }
+        if(forStmt.getUpdate() != null) {
+            forStmt.getUpdate().accept(this);
+        }
+        forStmt.getBody().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(BinaryExpression binaryExpression) {
+        context.getMetrics().nodeVisited();
+        binaryExpression.getFirstOperand().accept(this);
+        binaryExpression.getSecondOperand().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(UnaryExpression unaryExpression) {
+        context.getMetrics().nodeVisited();
+        unaryExpression.getOperand().accept(this);
+        return null;
+    }
+
+    //the member name is looked up in the instance's type by the type checker, not in this scope
+    @Override
+    public Void visit(ObjectOrListMemberAccess objectOrListMemberAccess) {
+        context.getMetrics().nodeVisited();
+        objectOrListMemberAccess.getInstance().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(Identifier identifier) {
+        context.getMetrics().nodeVisited();
+        identifier.setSymbolTableItem(methodSymbolTable.findLocal(identifier.getName(), true));
+        return null;
+    }
+
+    @Override
+    public Void visit(ListAccessByIndex listAccessByIndex) {
+        context.getMetrics().nodeVisited();
+        listAccessByIndex.getInstance().accept(this);
+        listAccessByIndex.getIndex().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCall methodCall) {
+        context.getMetrics().nodeVisited();
+        methodCall.getInstance().accept(this);
+        for(Expression expression : methodCall.getArgs()) {
+            expression.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(NewClassInstance newClassInstance) {
+        context.getMetrics().nodeVisited();
+        for(Expression expression : newClassInstance.getArgs()) {
+            expression.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(ListValue listValue) {
+        context.getMetrics().nodeVisited();
+        for(Expression expression : listValue.getElements()) {
+            expression.accept(this);
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,48 @@
+package main.visitor.typeChecker;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.Declaration;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.types.Type;
+import main.symbolTable.items.FieldSymbolTableItem;
+import main.symbolTable.items.MethodSymbolTableItem;
+
+import java.util.IdentityHashMap;
+
+//The sequential TypeChecker replaces invalid field and method return types with NoType as it reaches them,
+//so a body only sees the replacement for members checked before it. This keeps the order of those steps
+//so class bodies checked in parallel see exactly the member types the sequential pass would have shown them.
+public class DeclarationSchedule {
+    private final IdentityHashMap<Declaration, Integer> positions = new IdentityHashMap<>();
+
+    public DeclarationSchedule(Program program) {
+        int position = 0;
+        for(ClassDeclaration classDeclaration : program.getClasses()) {
+            if(classDeclaration.getConstructor() != null)
+                positions.put(classDeclaration.getConstructor(), position++);
+            for(FieldDeclaration fieldDeclaration : classDeclaration.getFields())
+                positions.put(fieldDeclaration, position);
+            position++;
+            for(MethodDeclaration methodDeclaration : classDeclaration.getMethods())
+                positions.put(methodDeclaration, position++);
+        }
+    }
+
+    public int positionOf(Declaration declaration) {
+        return positions.get(declaration);
+    }
+
+    public Type typeSeenAt(FieldSymbolTableItem field, int position) {
+        if(positionOf(field.getFieldDeclaration()) < position)
+            return field.getType();
+        return field.getFieldDeclaration().getVarDeclaration().getType();
+    }
+
+    public Type returnTypeSeenAt(MethodSymbolTableItem method, int position) {
+        if(positionOf(method.getMethodDeclaration()) <= position)
+            return method.getReturnType();
+        return method.getMethodDeclaration().getReturnType();
+    }
+}
@@ -1,5 +1,6 @@
 package main.visitor.typeChecker;
 
+import main.CompilationContext;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
@@ -14,6 +15,7 @@ import main.ast.nodes.expression.operators.*;
 import main.ast.types.NoType;
 import main.ast.types.NullType;
 import main.ast.types.Type;
+import main.ast.types.TypeFactory;
 import main.ast.types.functionPointer.FptrType;
 import main.ast.types.list.ListNameType;
 import main.ast.types.list.ListType;
@@ -21,28 +23,50 @@ import main.ast.types.single.BoolType;
 import main.ast.types.single.ClassType;
 import main.ast.types.single.IntType;
 import main.ast.types.single.StringType;
+import main.compileErrorException.Diagnostics;
 import main.compileErrorException.typeErrors.*;
-import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.*;
-import main.symbolTable.utils.graph.Graph;
 import main.visitor.Visitor;
-import main.symbolTable.SymbolTable;
 
 import javax.print.attribute.standard.NumberUp;
 import java.util.ArrayList;
+import java.util.List;
 
 
 public class ExpressionTypeChecker extends Visitor<Type> {
-    private final Graph<String> classHierarchy;
+    private final CompilationContext context;
+    private final SubtypeChecker subtypeChecker;
     public String currentClassName;
     public String previousClassName;
     public String currentMethodName;
     public boolean in_methodCallStatement = false;
     public boolean in_method = false;
     public boolean is_lvalue = true;
+    private DeclarationSchedule schedule;
+    private final Diagnostics diagnostics;
+    public int currentPosition;
 
-    public ExpressionTypeChecker(Graph<String> classHierarchy) {
-        this.classHierarchy = classHierarchy;
+    public ExpressionTypeChecker(CompilationContext context) {
+        this(context, null, context.getDiagnostics());
+    }
+
+    public ExpressionTypeChecker(CompilationContext context, DeclarationSchedule schedule, Diagnostics diagnostics) {
+        this.context = context;
+        this.subtypeChecker = context.getSubtypeChecker();
+        this.schedule = schedule;
+        this.diagnostics = diagnostics;
+    }
+
+    public Type typeOf(FieldSymbolTableItem field) {
+        if(schedule == null)
+            return field.getType();
+        return schedule.typeSeenAt(field, currentPosition);
+    }
+
+    public Type returnTypeOf(MethodSymbolTableItem method) {
+        if(schedule == null)
+            return method.getReturnType();
+        return schedule.returnTypeSeenAt(method, currentPosition);
     }
 
 
@@ -66,74 +90,16 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         return x;
     }
 
-    public boolean isFirstSubTypeOfSecond(Type first, Type second)
-    {
-        if(first instanceof NoType)
-            return true;
-        if(first instanceof NullType && (second instanceof ClassType || second instanceof FptrType)){
-            return true;
-        }
-
-        if(first instanceof ClassType && second instanceof ClassType){
-            return classHierarchy.isSecondNodeAncestorOf(((ClassType) first).getClassName().getName(),
-                    ((ClassType) second).getClassName().getName());
-        }
-
-        else if(first instanceof ListType) {
-            ArrayList<ListNameType> listNameTypes1 = ((ListType) first).getElementsTypes();
-            if (second instanceof ListType) {
-                ArrayList<ListNameType> listNameTypes2 = ((ListType) second).getElementsTypes();
-                if(listNameTypes1.size() == listNameTypes2.size()){
-                    for(int i = 0; i < listNameTypes1.size(); i++){
-                        if(!isFirstSubTypeOfSecond(listNameTypes1.get(i).getType(), listNameTypes2.get(i).getType())){
-
-                            return false;
-                        }
-                    }
-                }
-                else {
-                    return false;
-                }
-            }
-            else {
-                return false;
-            }
-        }
-        else if(first instanceof FptrType){
-            if(second instanceof FptrType){
-                Type t1 = ((FptrType) first).getReturnType();
-                Type t2 = ((FptrType) second).getReturnType();
-                ArrayList<Type> types1 = ((FptrType) first).getArgumentsTypes();
-                ArrayList<Type> types2 = ((FptrType) second).getArgumentsTypes();
-                if (isFirstSubTypeOfSecond(t2, t1)) {
-                    if(types1.size() == types2.size()){
-                        for(int i = 0; i < types1.size(); i++){
-                            if(!isFirstSubTypeOfSecond(types1.get(i),types2.get(i))){
-                                return false;
-                            }
-                        }
-                    }
-                    else
-                        return false;
-                }
-                else
-                    return false;
-            }
-            else
-                return false;
-        }
-        if(first.toString().equals(second.toString())){
-            return true;
-        }
-        else{return false;}
-        //return true;
+    public boolean isFirstSubTypeOfSecond(Type first, Type second) {
+        return subtypeChecker.isFirstSubTypeOfSecond(first, second);
     }
 
 
     @Override
     public Type visit(BinaryExpression binaryExpression) {
+        context.getMetrics().nodeVisited();
         if (binaryExpression == null)
-            return new NullType();
+            return TypeFactory.NULL;
 
         Expression left_exp = binaryExpression.getFirstOperand();
         Expression right_exp = binaryExpression.getSecondOperand();
@@ -143,7 +109,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
 
         if(t1 instanceof NoType && t2 instanceof NoType){
             is_lvalue = false;
-            return new NoType();
+            return TypeFactory.NO_TYPE;
         }
 
         // operator add   sub  mult  div   mod
@@ -153,9 +119,9 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                 binaryOperator.equals(BinaryOperator.gt)) {
             if (!(t1 instanceof IntType || t1 instanceof NoType) ||
                     !(t2 instanceof IntType || t2 instanceof NoType)) {
-                binaryExpression.addError(new UnsupportedOperandType(binaryExpression.getLine(), binaryOperator.toString()));
+                diagnostics.report(binaryExpression, new UnsupportedOperandType(binaryExpression.getLine(), binaryOperator.toString()));
                 is_lvalue = false;
-                return new NoType();
+                return TypeFactory.NO_TYPE;
 
             }
         }
@@ -164,9 +130,9 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         else if (binaryOperator.equals(BinaryOperator.and) ||  binaryOperator.equals(BinaryOperator.or)) {
             if (!(t1 instanceof BoolType || t1 instanceof NoType) ||
                     !(t2 instanceof BoolType || t2 instanceof NoType)) {
-                binaryExpression.addError(new UnsupportedOperandType(binaryExpression.getLine(), binaryOperator.toString()));
+                diagnostics.report(binaryExpression, new UnsupportedOperandType(binaryExpression.getLine(), binaryOperator.toString()));
                 is_lvalue = false;
-                return new NoType();
+                return TypeFactory.NO_TYPE;
 
             }
         }
@@ -174,70 +140,70 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         // op == !=
         else if (binaryOperator.equals(BinaryOperator.eq) || binaryOperator.equals(BinaryOperator.neq)) {
             if (t1 instanceof ListType || t2 instanceof ListType) {
-                binaryExpression.addError(new UnsupportedOperandType(binaryExpression.getLine(), binaryOperator.toString()));
+                diagnostics.report(binaryExpression, new UnsupportedOperandType(binaryExpression.getLine(), binaryOperator.toString()));
                 is_lvalue = false;
-                return new NoType();
+                return TypeFactory.NO_TYPE;
             }
             else if (t1 instanceof ClassType || t2 instanceof ClassType){
-                if(!t1.toString().equals(t2.toString()) && !(t1 instanceof NullType) && !(t2 instanceof NullType)){
-                    binaryExpression.addError(new UnsupportedOperandType(binaryExpression.getLine(), binaryOperator.toString()));
+                if(t1 != t2 && !(t1 instanceof NullType) && !(t2 instanceof NullType)){
+                    diagnostics.report(binaryExpression, new UnsupportedOperandType(binaryExpression.getLine(), binaryOperator.toString()));
                     is_lvalue = false;
-                    return new NoType();
+                    return TypeFactory.NO_TYPE;
                 }
             }
             else if ((t1 instanceof FptrType || t2 instanceof FptrType)){
                 if((!isFirstSubTypeOfSecond(t1, t2) || !isFirstSubTypeOfSecond(t2, t1))
                     &&!(t1 instanceof NullType) && !(t2 instanceof NullType)){
-                    binaryExpression.addError(new UnsupportedOperandType(binaryExpression.getLine(), binaryOperator.toString()));
+                    diagnostics.report(binaryExpression, new UnsupportedOperandType(binaryExpression.getLine(), binaryOperator.toString()));
                     is_lvalue = false;
-                    return new NoType();
+                    return TypeFactory.NO_TYPE;
                 }
             }
-            else if(!t1.toString().equals(t2.toString()) && !(t1 instanceof NoType || t2 instanceof NoType)){
-                binaryExpression.addError(new UnsupportedOperandType(binaryExpression.getLine(), binaryOperator.toString()));
+            else if(t1 != t2 && !(t1 instanceof NoType || t2 instanceof NoType)){
+                diagnostics.report(binaryExpression, new UnsupportedOperandType(binaryExpression.getLine(), binaryOperator.toString()));
                 is_lvalue = false;
-                return new NoType();
+                return TypeFactory.NO_TYPE;
             }
         }
         else if(binaryOperator.equals(BinaryOperator.assign)){
             if(!is_lvalue){
-                binaryExpression.addError(new LeftSideNotLvalue(binaryExpression.getLine()));
-                return new NoType();
+                diagnostics.report(binaryExpression, new LeftSideNotLvalue(binaryExpression.getLine()));
+                return TypeFactory.NO_TYPE;
             }
             if(!isFirstSubTypeOfSecond(t2, t1)){
-                binaryExpression.addError(new UnsupportedOperandType(binaryExpression.getLine(), binaryOperator.toString()));
+                diagnostics.report(binaryExpression, new UnsupportedOperandType(binaryExpression.getLine(), binaryOperator.toString()));
                 is_lvalue = false;
-                return new NoType();
+                return TypeFactory.NO_TYPE;
             }
         }
 
         if(t1 instanceof NoType || t2 instanceof NoType){
             is_lvalue = false;
-            return new NoType();
+            return TypeFactory.NO_TYPE;
         }
 
         if (binaryOperator.equals(BinaryOperator.add) || binaryOperator.equals(BinaryOperator.sub) ||
                 binaryOperator.equals(BinaryOperator.mult) || binaryOperator.equals(BinaryOperator.div) ||
                 binaryOperator.equals(BinaryOperator.mod)) {
             is_lvalue = false;
-            return new IntType();
+            return TypeFactory.INT;
         }
 
         if (binaryOperator.equals(BinaryOperator.lt) || binaryOperator.equals(BinaryOperator.gt)) {
             is_lvalue = false;
-            return new BoolType();
+            return TypeFactory.BOOL;
         }
 
         // operator and or
         if (binaryOperator.equals(BinaryOperator.and) ||  binaryOperator.equals(BinaryOperator.or)) {
             is_lvalue = false;
-            return new BoolType();
+            return TypeFactory.BOOL;
         }
 
         // op == !=
         if (binaryOperator.equals(BinaryOperator.eq) || binaryOperator.equals(BinaryOperator.neq)) {
             is_lvalue = false;
-            return new BoolType();
+            return TypeFactory.BOOL;
         }
 
         if(binaryOperator.equals(BinaryOperator.assign)){
@@ -245,13 +211,14 @@ public class ExpressionTypeChecker extends Visitor<Type> {
             return t2;
         }
 
-        return new NoType();
+        return TypeFactory.NO_TYPE;
     }
 
     @Override
     public Type visit(UnaryExpression unaryExpression) {
+        context.getMetrics().nodeVisited();
         if (unaryExpression == null)
-            return new NoType();
+            return TypeFactory.NO_TYPE;
         Expression exp = unaryExpression.getOperand();
         UnaryOperator unaryOperator = unaryExpression.getOperator();
         Type t = exp.accept(this);
@@ -259,125 +226,114 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         if(unaryOperator.equals(UnaryOperator.postdec) || unaryOperator.equals(UnaryOperator.postinc)
                 || unaryOperator.equals(UnaryOperator.predec) || unaryOperator.equals(UnaryOperator.preinc)){
             if(!is_lvalue){
-                unaryExpression.addError(new IncDecOperandNotLvalue(unaryExpression.getLine(), unaryOperator.toString()));
+                diagnostics.report(unaryExpression, new IncDecOperandNotLvalue(unaryExpression.getLine(), unaryOperator.toString()));
                 x = true;
             }
             is_lvalue = false;
             if(!(t instanceof IntType) && !(t instanceof NoType)){
-                unaryExpression.addError(new UnsupportedOperandType(unaryExpression.getLine(), unaryOperator.toString()));
+                diagnostics.report(unaryExpression, new UnsupportedOperandType(unaryExpression.getLine(), unaryOperator.toString()));
                 y = true;
             }
             if(x || y){
-                return new NoType();
+                return TypeFactory.NO_TYPE;
             }
-            return new IntType();
+            return TypeFactory.INT;
         }
         else if(unaryOperator.equals(UnaryOperator.minus)){
             is_lvalue = false;
             if(!(t instanceof IntType)){
-                unaryExpression.addError(new UnsupportedOperandType(unaryExpression.getLine(), unaryOperator.toString()));
-                return new NoType();
+                diagnostics.report(unaryExpression, new UnsupportedOperandType(unaryExpression.getLine(), unaryOperator.toString()));
+                return TypeFactory.NO_TYPE;
             }
-            return new IntType();
+            return TypeFactory.INT;
         }
         else if(unaryOperator.equals(UnaryOperator.not)){
             is_lvalue = false;
 
             if(!(t instanceof BoolType)){
-                unaryExpression.addError(new UnsupportedOperandType(unaryExpression.getLine(), unaryOperator.toString()));
-                return new NoType();
+                diagnostics.report(unaryExpression, new UnsupportedOperandType(unaryExpression.getLine(), unaryOperator.toString()));
+                return TypeFactory.NO_TYPE;
             }
-            return new BoolType();
+            return TypeFactory.BOOL;
         }
-        return new NoType();
+        return TypeFactory.NO_TYPE;
     }
 
     @Override
     public Type visit(ObjectOrListMemberAccess objectOrListMemberAccess) {
+        context.getMetrics().nodeVisited();
         Expression e = objectOrListMemberAccess.getInstance();
         Identifier i = objectOrListMemberAccess.getMemberName();
         Type t1 = e.accept(this);
         if(!(t1 instanceof ClassType) && !(t1 instanceof ListType) && !(t1 instanceof NoType)){
-            objectOrListMemberAccess.addError(new MemberAccessOnNoneObjOrListType(objectOrListMemberAccess.getLine()));
-            return new NoType();
+            diagnostics.report(objectOrListMemberAccess, new MemberAccessOnNoneObjOrListType(objectOrListMemberAccess.getLine()));
+            return TypeFactory.NO_TYPE;
         }
         String className = currentClassName;
         if(t1 instanceof ClassType){
-            try{
-                ClassSymbolTableItem currentClass = (ClassSymbolTableItem) SymbolTable.root
-                        .getItem(ClassSymbolTableItem.START_KEY + ((ClassType) t1).getClassName().getName(), true);
-                ArrayList<FieldDeclaration> fieldDeclarations = currentClass.getClassDeclaration().getFields();
-                ArrayList<MethodDeclaration> methodDeclarations = currentClass.getClassDeclaration().getMethods();
-
-                try {
-                    FieldSymbolTableItem calledField = (FieldSymbolTableItem) currentClass.getClassSymbolTable()
-                            .getItem(FieldSymbolTableItem.START_KEY + i.getName(), true);
-                    return calledField.getType();
-                }catch (ItemNotFoundException MethodNotFound) {
-                    try {
-                        MethodSymbolTableItem calledMethod = (MethodSymbolTableItem) currentClass.getClassSymbolTable()
-                                .getItem(MethodSymbolTableItem.START_KEY + i.getName(), true);
-                        is_lvalue = false;
-                        return new FptrType(calledMethod.getArgTypes(), calledMethod.getReturnType());
-
-                    }catch (ItemNotFoundException MemberNotFound){
-                        if(i.getName().equals(currentClass.getName())){
-                            return new FptrType(new ArrayList<>(), new NullType());
-                        }
-                        objectOrListMemberAccess.addError(new MemberNotAvailableInClass(objectOrListMemberAccess.getLine(),
-                                i.getName(), currentClass.getClassDeclaration().getClassName().getName()));
-                        return new NoType();
-                    }
-                }
-            }catch (ItemNotFoundException classNotFound){
+            ClassSymbolTableItem currentClass = context.getRoot().findClass(((ClassType) t1).getClassName().getName(), true);
+            if(currentClass == null)
                 System.out.println("error in objectAccess");
+            else {
+                FieldSymbolTableItem calledField = currentClass.getClassSymbolTable().findField(i.getName(), true);
+                if(calledField != null)
+                    return typeOf(calledField);
+                MethodSymbolTableItem calledMethod = currentClass.getClassSymbolTable().findMethod(i.getName(), true);
+                if(calledMethod != null) {
+                    is_lvalue = false;
+                    return context.getTypeFactory().fptrType(calledMethod.getArgTypes(), returnTypeOf(calledMethod));
+                }
+                if(i.getName().equals(currentClass.getName())){
+                    return context.getTypeFactory().fptrType(new ArrayList<>(), TypeFactory.NULL);
+                }
+                diagnostics.report(objectOrListMemberAccess, new MemberNotAvailableInClass(objectOrListMemberAccess.getLine(),
+                        i.getName(), currentClass.getClassDeclaration().getClassName().getName()));
+                return TypeFactory.NO_TYPE;
             }
         }
         if(t1 instanceof ListType){
-            ArrayList<ListNameType> listNameTypes = ((ListType) t1).getElementsTypes();
-            for(ListNameType l : listNameTypes){
-                if(l.getName().getName().equals(i.getName())) {
-                    return l.getType();
-                }
+            ListType listType = (ListType) t1;
+            int index = listType.indexOf(i.getName());
+            if(index != -1) {
+                return listType.getElementType(index).getType();
             }
-            objectOrListMemberAccess.addError(new ListMemberNotFound(objectOrListMemberAccess.getLine(), i.getName()));
-            return new NoType();
+            diagnostics.report(objectOrListMemberAccess, new ListMemberNotFound(objectOrListMemberAccess.getLine(), i.getName()));
+            return TypeFactory.NO_TYPE;
         }
-        return new NoType();
+        return TypeFactory.NO_TYPE;
     }
 
     @Override
     public Type visit(Identifier identifier) {
+        context.getMetrics().nodeVisited();
+        //bound by NameResolver; only a name that resolved to nothing goes through the lookups to report why
+        if(in_method && identifier.getSymbolTableItem() instanceof LocalVariableSymbolTableItem)
+            return ((LocalVariableSymbolTableItem) identifier.getSymbolTableItem()).getType();
         String className = currentClassName;
         String methodName = currentMethodName;
-        try {
-            ClassSymbolTableItem currentClass = (ClassSymbolTableItem) SymbolTable.root
-                    .getItem(ClassSymbolTableItem.START_KEY + className, true);
-            if(in_method) {
-                try {
-                    MethodSymbolTableItem currentMethod = (MethodSymbolTableItem) currentClass.getClassSymbolTable()
-                            .getItem(MethodSymbolTableItem.START_KEY + methodName, true);
-                    try {
-                        LocalVariableSymbolTableItem local = (LocalVariableSymbolTableItem) currentMethod.getMethodSymbolTable()
-                                .getItem(LocalVariableSymbolTableItem.START_KEY + identifier.getName(), true);
-                        return local.getType();
-                    } catch (ItemNotFoundException VariableNotFound) {
-                        identifier.addError(new VarNotDeclared(identifier.getLine(), identifier.getName()));
-                        return new NoType();
-                    }
-                }catch (ItemNotFoundException methodNotFound){
-                    System.out.println("error in identifier");
-                }
+        ClassSymbolTableItem currentClass = context.getRoot().findClass(className, true);
+        if(currentClass == null) {
+            diagnostics.report(identifier, new ClassNotDeclared(identifier.getLine(), className));
+            return TypeFactory.NO_TYPE;
+        }
+        if(in_method) {
+            MethodSymbolTableItem currentMethod = currentClass.getClassSymbolTable().findMethod(methodName, true);
+            if(currentMethod == null)
+                System.out.println("error in identifier");
+            else {
+                LocalVariableSymbolTableItem local = currentMethod.getMethodSymbolTable().findLocal(identifier.getName(), true);
+                if(local != null)
+                    return local.getType();
+                diagnostics.report(identifier, new VarNotDeclared(identifier.getLine(), identifier.getName()));
+                return TypeFactory.NO_TYPE;
             }
-        } catch (ItemNotFoundException classNotFound) {
-            identifier.addError( new ClassNotDeclared(identifier.getLine(), className));
-            return new NoType();
         }
-        return new NoType();
+        return TypeFactory.NO_TYPE;
     }
 
     @Override
     public Type visit(ListAccessByIndex listAccessByIndex) {
+        context.getMetrics().nodeVisited();
         Expression e1 = listAccessByIndex.getInstance();
         Expression e2 = listAccessByIndex.getIndex();
         Type t1 = e1.accept(this);
@@ -387,27 +343,21 @@ public class ExpressionTypeChecker extends Visitor<Type> {
         is_lvalue = temp;
         boolean  y = false, z = false;
         if(!(t2 instanceof IntType) && !(t2 instanceof NoType)){
-            listAccessByIndex.addError(new ListIndexNotInt(listAccessByIndex.getLine()));
+            diagnostics.report(listAccessByIndex, new ListIndexNotInt(listAccessByIndex.getLine()));
             y = true;
         }
         if(!(t1 instanceof ListType) && !(t1 instanceof NoType)){
-            listAccessByIndex.addError(new ListAccessByIndexOnNoneList(listAccessByIndex.getLine()));
-            return new NoType();
+            diagnostics.report(listAccessByIndex, new ListAccessByIndexOnNoneList(listAccessByIndex.getLine()));
+            return TypeFactory.NO_TYPE;
         }
         if(t1 instanceof ListType){
-            boolean flag = false;
-            ArrayList<ListNameType> l = ((ListType) t1).getElementsTypes();
+            List<ListNameType> l = ((ListType) t1).getElementsTypes();
             Type t = l.get(0).getType();
-            for(ListNameType x : l){
-                if(!(t.toString().equals(x.getType().toString()))){
-                    flag = true;
-                    break;
-                }
-            }
+            boolean flag = !((ListType) t1).isHomogeneous();
             if(flag){
                 if(!(e2 instanceof IntValue)){
-                    listAccessByIndex.addError(new CantUseExprAsIndexOfMultiTypeList(listAccessByIndex.getLine()));
-                    return new NoType();
+                    diagnostics.report(listAccessByIndex, new CantUseExprAsIndexOfMultiTypeList(listAccessByIndex.getLine()));
+                    return TypeFactory.NO_TYPE;
                 }
                 else{
                     return l.get(((IntValue) e2).getConstant()).getType() ;
@@ -415,7 +365,7 @@ public class ExpressionTypeChecker extends Visitor<Type> {
             }
             else{
                 if(y){
-                    return new NoType();
+                    return TypeFactory.NO_TYPE;
                 }
                 if(e2 instanceof IntValue){
                     if(((IntValue) e2).getConstant() < l.size()){
@@ -427,26 +377,27 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                 }
             }
         }
-        return new NoType();
+        return TypeFactory.NO_TYPE;
     }
 
     @Override
     public Type visit(MethodCall methodCall) {
+        context.getMetrics().nodeVisited();
         is_lvalue = false;
         Type instanceType = methodCall.getInstance().accept(this);
         if(!(instanceType instanceof FptrType)){
             if(instanceType instanceof NoType){
-                return new NoType();
+                return TypeFactory.NO_TYPE;
             }
-            methodCall.addError(new CallOnNoneFptrType(methodCall.getLine()));
-            return new NoType();
+            diagnostics.report(methodCall, new CallOnNoneFptrType(methodCall.getLine()));
+            return TypeFactory.NO_TYPE;
         }
         else {
             if (!in_methodCallStatement) {
                 boolean x = false , y = false, temp;
                 Type fptrType = ((FptrType) instanceType).getReturnType();
                 if(fptrType instanceof NullType){
-                    methodCall.addError(new CantUseValueOfVoidMethod(methodCall.getLine()));
+                    diagnostics.report(methodCall, new CantUseValueOfVoidMethod(methodCall.getLine()));
                     x = true;
                 }
                 ArrayList<Expression> actualParams = methodCall.getArgs();
@@ -460,11 +411,11 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                 }
                 ArrayList<Type> formalParamsTypes = ((FptrType) instanceType).getArgumentsTypes();
                 if (!areParametersTypeCorrespondence(formalParamsTypes, actualParamsTypes)) {
-                    methodCall.addError(new MethodCallNotMatchDefinition(methodCall.getLine()));
+                    diagnostics.report(methodCall, new MethodCallNotMatchDefinition(methodCall.getLine()));
                     y = true;
                 }
                 if (x || y) {
-                    return new NoType();
+                    return TypeFactory.NO_TYPE;
                 }
                 return fptrType;
             }
@@ -478,11 +429,11 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                 }
                 ArrayList<Type> formalParamsTypes = ((FptrType) instanceType).getArgumentsTypes();
                 if (!areParametersTypeCorrespondence(formalParamsTypes, actualParamsTypes)) {
-                    methodCall.addError(new MethodCallNotMatchDefinition(methodCall.getLine()));
+                    diagnostics.report(methodCall, new MethodCallNotMatchDefinition(methodCall.getLine()));
                     y = true;
                 }
                 if (y) {
-                    return new NoType();
+                    return TypeFactory.NO_TYPE;
                 }
             }
         }
@@ -491,94 +442,95 @@ public class ExpressionTypeChecker extends Visitor<Type> {
 
     @Override
     public Type visit(NewClassInstance newClassInstance) {
+        context.getMetrics().nodeVisited();
         is_lvalue = false;
         boolean temp;
         String className = newClassInstance.getClassType().getClassName().getName();
-        try {
-            ClassSymbolTableItem currentClass = (ClassSymbolTableItem) SymbolTable.root
-                    .getItem(ClassSymbolTableItem.START_KEY + className, true);
-            try {
-                MethodSymbolTableItem calledMethod = (MethodSymbolTableItem) currentClass.getClassSymbolTable()
-                        .getItem(MethodSymbolTableItem.START_KEY + className, true);
-                ArrayList<Expression> actualParams = newClassInstance.getArgs();
-                ArrayList<Type> actualParamsTypes = new ArrayList<>();
+        ClassSymbolTableItem currentClass = context.getRoot().findClass(className, true);
+        if(currentClass == null) {
+            diagnostics.report(newClassInstance, new ClassNotDeclared(newClassInstance.getLine(), className));
+            return TypeFactory.NO_TYPE;
+        }
+        MethodSymbolTableItem calledMethod = currentClass.getClassSymbolTable().findMethod(className, true);
+        if(calledMethod != null) {
+            ArrayList<Expression> actualParams = newClassInstance.getArgs();
+            ArrayList<Type> actualParamsTypes = new ArrayList<>();
+            for(Expression actualParam : actualParams){
+                temp = is_lvalue;
+                is_lvalue = true;
+                Type t = actualParam.accept(this);
+                is_lvalue = temp;
+                actualParamsTypes.add(t);
+            }
+            ArrayList<Type> formalParamsTypes = calledMethod.getArgTypes();
+            if (!areParametersTypeCorrespondence(formalParamsTypes,actualParamsTypes)){
+                diagnostics.report(newClassInstance, new ConstructorArgsNotMatchDefinition(newClassInstance));
+            }
+        }
+        else {
+            ArrayList<Expression> actualParams = newClassInstance.getArgs();
+            if(!actualParams.isEmpty()) {
+                diagnostics.report(newClassInstance, new ConstructorArgsNotMatchDefinition(newClassInstance));
                 for(Expression actualParam : actualParams){
                     temp = is_lvalue;
                     is_lvalue = true;
                     Type t = actualParam.accept(this);
                     is_lvalue = temp;
-                    actualParamsTypes.add(t);
-                }
-                ArrayList<Type> formalParamsTypes = calledMethod.getArgTypes();
-                if (!areParametersTypeCorrespondence(formalParamsTypes,actualParamsTypes)){
-                    newClassInstance.addError(new ConstructorArgsNotMatchDefinition(newClassInstance));
-                }
-
-            } catch (ItemNotFoundException methodNotFound) {
-                ArrayList<Expression> actualParams = newClassInstance.getArgs();
-                if(!actualParams.isEmpty()) {
-                    newClassInstance.addError(new ConstructorArgsNotMatchDefinition(newClassInstance));
-                    for(Expression actualParam : actualParams){
-                        temp = is_lvalue;
-                        is_lvalue = true;
-                        Type t = actualParam.accept(this);
-                        is_lvalue = temp;
-                    }
-                    return new NoType();
                 }
+                return TypeFactory.NO_TYPE;
             }
-        } catch (ItemNotFoundException classNotFound) {
-            newClassInstance.addError( new ClassNotDeclared(newClassInstance.getLine(), className));
-            return new NoType();
         }
 
-        return newClassInstance.getClassType();
+        return context.getTypeFactory().classType(newClassInstance.getClassType().getClassName());
     }
 
     @Override
     public Type visit(ThisClass thisClass) {
+        context.getMetrics().nodeVisited();
         //is_lvalue = false;
-        try {
-            ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem)
-                    SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + this.currentClassName, true);
-            return new ClassType(classSymbolTableItem.getClassDeclaration().getClassName());
-        } catch (ItemNotFoundException ignored) {
+        ClassSymbolTableItem classSymbolTableItem = context.getRoot().findClass(this.currentClassName, true);
+        if(classSymbolTableItem == null)
             return null;
-        }
+        return context.getTypeFactory().classType(classSymbolTableItem.getClassDeclaration().getClassName());
     }
 
     @Override
     public Type visit(ListValue listValue) {
+        context.getMetrics().nodeVisited();
         is_lvalue = false;
         ArrayList<ListNameType> listNameTypes = new ArrayList<>();
         for(Expression exp : listValue.getElements()){
             Type t = exp.accept(this);
             listNameTypes.add(new ListNameType(t));
         }
-        return new ListType(listNameTypes);
+        return context.getTypeFactory().listType(listNameTypes);
     }
 
     @Override
     public Type visit(NullValue nullValue) {
+        context.getMetrics().nodeVisited();
         is_lvalue = false;
-        return new NullType();
+        return TypeFactory.NULL;
     }
 
     @Override
     public Type visit(IntValue intValue) {
+        context.getMetrics().nodeVisited();
         is_lvalue = false;
-        return new IntType();
+        return TypeFactory.INT;
     }
 
     @Override
     public Type visit(BoolValue boolValue) {
+        context.getMetrics().nodeVisited();
        is_lvalue = false;
-        return new BoolType();
+        return TypeFactory.BOOL;
     }
 
     @Override
     public Type visit(StringValue stringValue) {
+        context.getMetrics().nodeVisited();
         is_lvalue = false;
-        return new StringType();
+        return TypeFactory.STRING;
     }
 }
@@ -0,0 +1,79 @@
+package main.visitor.typeChecker;
+
+import main.CompilationContext;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.compileErrorException.Diagnostics;
+import main.compileErrorException.typeErrors.NoMainClass;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+//Checks every class with its own TypeChecker on a ForkJoinPool. Declarations of all classes are checked
+//first, then bodies, with a DeclarationSchedule standing in for the sequential visiting order. Each class
+//reports into its own Diagnostics, merged in class order afterwards, so the errors come out in the same order
+//as after TypeChecker.visit(Program).
+public class ParallelTypeChecker {
+    private final CompilationContext context;
+    private final ForkJoinPool pool;
+
+    public ParallelTypeChecker(CompilationContext context, ForkJoinPool pool) {
+        this.context = context;
+        this.pool = pool;
+    }
+
+    public void check(Program program) {
+        DeclarationSchedule schedule = new DeclarationSchedule(program);
+        List<ClassDeclaration> classes = program.getClasses();
+        boolean hasMain = false;
+        for(ClassDeclaration classDeclaration : classes)
+            if(classDeclaration.getClassName().getName().equals("Main"))
+                hasMain = true;
+        if(!hasMain)
+            context.getDiagnostics().report(program, new NoMainClass());
+        List<Diagnostics> classDiagnostics = new ArrayList<>(classes.size());
+        for(int i = 0; i < classes.size(); i++)
+            classDiagnostics.add(new Diagnostics());
+        pool.invoke(new ClassesTask(classes, classDiagnostics, schedule, true));
+        pool.invoke(new ClassesTask(classes, classDiagnostics, schedule, false));
+        for(Diagnostics diagnostics : classDiagnostics)
+            context.getDiagnostics().addAll(diagnostics);
+    }
+
+    private class ClassesTask extends RecursiveAction {
+        private final List<ClassDeclaration> classes;
+        private final List<Diagnostics> classDiagnostics;
+        private final DeclarationSchedule schedule;
+        private final boolean declarations;
+
+        ClassesTask(List<ClassDeclaration> classes, List<Diagnostics> classDiagnostics, DeclarationSchedule schedule,
+                    boolean declarations) {
+            this.classes = classes;
+            this.classDiagnostics = classDiagnostics;
+            this.schedule = schedule;
+            this.declarations = declarations;
+        }
+
+        @Override
+        protected void compute() {
+            if(classes.size() > 1) {
+                int middle = classes.size() / 2;
+                invokeAll(new ClassesTask(classes.subList(0, middle), classDiagnostics.subList(0, middle), schedule,
+                                declarations),
+                        new ClassesTask(classes.subList(middle, classes.size()),
+                                classDiagnostics.subList(middle, classes.size()), schedule, declarations));
+                return;
+            }
+            for(int i = 0; i < classes.size(); i++) {
+                ClassDeclaration classDeclaration = classes.get(i);
+                TypeChecker typeChecker = new TypeChecker(context, schedule, classDiagnostics.get(i));
+                if(declarations)
+                    typeChecker.checkDeclarations(classDeclaration);
+                else
+                    typeChecker.checkBodies(classDeclaration);
+            }
+        }
+    }
+}
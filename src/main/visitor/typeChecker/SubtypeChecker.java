@@ -0,0 +1,89 @@
+package main.visitor.typeChecker;
+
+import main.CompilerMetrics;
+import main.ast.types.NoType;
+import main.ast.types.NullType;
+import main.ast.types.Type;
+import main.ast.types.functionPointer.FptrType;
+import main.ast.types.list.ListType;
+import main.ast.types.single.ClassType;
+import main.symbolTable.utils.graph.Graph;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+//The subtype relation of one compilation, shared by TypeChecker and ExpressionTypeChecker. Works on canonical
+//types from TypeFactory: equal types are the same object, so results for list and function pointer types are
+//memoized by (subtype, supertype) identity and every nested comparison is done at most once.
+public class SubtypeChecker {
+    private final Graph<String> classHierarchy;
+    private final CompilerMetrics metrics;
+    private final ConcurrentHashMap<Type, ConcurrentHashMap<Type, Boolean>> cache = new ConcurrentHashMap<>();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    public SubtypeChecker(Graph<String> classHierarchy, CompilerMetrics metrics) {
+        this.classHierarchy = classHierarchy;
+        this.metrics = metrics;
+    }
+
+    public boolean isFirstSubTypeOfSecond(Type first, Type second) {
+        metrics.subtypeCheck();
+        if(first == second || first instanceof NoType)
+            return true;
+        if(first instanceof NullType && (second instanceof ClassType || second instanceof FptrType))
+            return true;
+        if(first instanceof ClassType && second instanceof ClassType)
+            return classHierarchy.isSecondNodeAncestorOf(((ClassType) first).getClassName().getName(),
+                    ((ClassType) second).getClassName().getName());
+        if(!(first instanceof ListType && second instanceof ListType) && !(first instanceof FptrType && second instanceof FptrType))
+            return false;
+        ConcurrentHashMap<Type, Boolean> supertypes = cache.computeIfAbsent(first, t -> new ConcurrentHashMap<>());
+        Boolean cached = supertypes.get(second);
+        if(cached != null) {
+            cacheHits.increment();
+            metrics.subtypeCacheHit();
+            return cached;
+        }
+        cacheMisses.increment();
+        metrics.subtypeCacheMiss();
+        boolean result = first instanceof ListType ? this.isListSubtype((ListType) first, (ListType) second)
+                : this.isFptrSubtype((FptrType) first, (FptrType) second);
+        supertypes.put(second, result);
+        return result;
+    }
+
+    private boolean isListSubtype(ListType first, ListType second) {
+        if(first.size() != second.size())
+            return false;
+        if(first.isRepeated() && second.isRepeated())
+            return this.isFirstSubTypeOfSecond(first.getRepeatedElement().getType(), second.getRepeatedElement().getType());
+        for(int i = 0; i < first.size(); i++)
+            if(!this.isFirstSubTypeOfSecond(first.getElementType(i).getType(), second.getElementType(i).getType()))
+                return false;
+        return true;
+    }
+
+    //as the checker always had it: the second pointer's return type against the first's, arguments the other way
+    private boolean isFptrSubtype(FptrType first, FptrType second) {
+        if(!this.isFirstSubTypeOfSecond(second.getReturnType(), first.getReturnType()))
+            return false;
+        ArrayList<Type> arguments1 = first.getArgumentsTypes();
+        ArrayList<Type> arguments2 = second.getArgumentsTypes();
+        if(arguments1.size() != arguments2.size())
+            return false;
+        for(int i = 0; i < arguments1.size(); i++)
+            if(!this.isFirstSubTypeOfSecond(arguments1.get(i), arguments2.get(i)))
+                return false;
+        return true;
+    }
+
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+}
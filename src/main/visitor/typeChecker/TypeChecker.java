@@ -1,5 +1,6 @@
 package main.visitor.typeChecker;
 
+import main.CompilationContext;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.classDec.ClassDeclaration;
 import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
@@ -15,15 +16,15 @@ import main.ast.nodes.statement.loop.ContinueStmt;
 import main.ast.nodes.statement.loop.ForStmt;
 import main.ast.nodes.statement.loop.ForeachStmt;
 import main.ast.types.single.BoolType;
+import main.compileErrorException.Diagnostics;
 import main.compileErrorException.typeErrors.*;
 import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.*;
-import main.symbolTable.utils.graph.Graph;
 import main.visitor.Visitor;
 import main.ast.types.NullType;
 import main.ast.types.NoType;
 import main.ast.types.Type;
+import main.ast.types.TypeFactory;
 import main.ast.types.functionPointer.FptrType;
 import main.ast.types.single.*;
 import main.ast.types.list.*;
@@ -31,38 +32,63 @@ import main.ast.types.list.*;
 import javax.lang.model.element.TypeElement;
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.List;
 
 public class TypeChecker extends Visitor<Void> {
-    private final Graph<String> classHierarchy;
+    private final CompilationContext context;
+    private final SubtypeChecker subtypeChecker;
+    private final TypeValidator typeValidator;
     private final ExpressionTypeChecker expressionTypeChecker;
     private int in_for = 0;
     private boolean has_main = false;
     private String currentClassName;
     private String currentMethodName;
+    private ClassSymbolTableItem currentClass;
+    private MethodSymbolTableItem currentMethod;
     boolean has_return = false;
+    private final DeclarationSchedule schedule;
+    private final Diagnostics diagnostics;
+    private boolean checkDeclarations = true;
+    private boolean checkBodies = true;
 
-    public TypeChecker(Graph<String> classHierarchy) {
-        this.classHierarchy = classHierarchy;
-        this.expressionTypeChecker = new ExpressionTypeChecker(classHierarchy);
+    public TypeChecker(CompilationContext context) {
+        this(context, null, context.getDiagnostics());
+    }
+
+    public TypeChecker(CompilationContext context, DeclarationSchedule schedule, Diagnostics diagnostics) {
+        this.context = context;
+        this.subtypeChecker = context.getSubtypeChecker();
+        this.typeValidator = context.getTypeValidator();
+        this.schedule = schedule;
+        this.diagnostics = diagnostics;
+        this.expressionTypeChecker = new ExpressionTypeChecker(context, schedule, diagnostics);
+    }
+
+    //the class and constructor headers, fields, arguments, locals and method return types; touches no other class's
+    //symbols beyond asking whether a class exists
+    public void checkDeclarations(ClassDeclaration classDeclaration) {
+        checkDeclarations = true;
+        checkBodies = false;
+        classDeclaration.accept(this);
+    }
+
+    //everything checkDeclarations skipped; needs the declarations of every class checked first
+    public void checkBodies(ClassDeclaration classDeclaration) {
+        checkDeclarations = false;
+        checkBodies = true;
+        classDeclaration.accept(this);
+    }
+
+    private void enterMember(MethodDeclaration methodDeclaration) {
+        if(schedule != null)
+            expressionTypeChecker.currentPosition = schedule.positionOf(methodDeclaration);
     }
 
     private SymbolTable getCurrentClassSymbolTable() {
-        try {
-            ClassSymbolTableItem classSymbolTableItem = (ClassSymbolTableItem)
-                    SymbolTable.root.getItem(ClassSymbolTableItem.START_KEY + this.currentClassName, true);
-            return classSymbolTableItem.getClassSymbolTable();
-        } catch (ItemNotFoundException ignored) {
-            return null;
-        }
+        return currentClass == null ? null : currentClass.getClassSymbolTable();
     }
     private SymbolTable getCurrentMethodSymbolTable() {
-        try {
-            MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem)
-                    SymbolTable.root.getItem(MethodSymbolTableItem.START_KEY + this.currentMethodName, true);
-            return methodSymbolTableItem.getMethodSymbolTable();
-        } catch (ItemNotFoundException ignored) {
-            return null;
-        }
+        return currentMethod == null ? null : currentMethod.getMethodSymbolTable();
     }
 
     private boolean isLValue(Expression exp){
@@ -70,386 +96,144 @@ public class TypeChecker extends Visitor<Void> {
                 exp instanceof ObjectOrListMemberAccess);
     }
 
-    public boolean isFirstSubTypeOfSecond(Type first, Type second)
-    {
-        if(first instanceof NoType)
-            return true;
-        if(first instanceof NullType && (second instanceof ClassType || second instanceof FptrType)){
-            return true;
-        }
-
-        if(first instanceof ClassType && second instanceof ClassType){
-            return classHierarchy.isSecondNodeAncestorOf(((ClassType) first).getClassName().getName(),
-                    ((ClassType) second).getClassName().getName());
-        }
-
-        else if(first instanceof ListType) {
-            ArrayList<ListNameType> listNameTypes1 = ((ListType) first).getElementsTypes();
-            if (second instanceof ListType) {
-                ArrayList<ListNameType> listNameTypes2 = ((ListType) second).getElementsTypes();
-                if(listNameTypes1.size() == listNameTypes2.size()){
-                    for(int i = 0; i < listNameTypes1.size(); i++){
-                        if(!isFirstSubTypeOfSecond(listNameTypes1.get(i).getType(), listNameTypes2.get(i).getType())){
-
-                            return false;
-                        }
-                    }
-                }
-                else {
-                    return false;
-                }
-            }
-            else {
-                return false;
-            }
-        }
-        else if(first instanceof FptrType){
-            if(second instanceof FptrType){
-                Type t1 = ((FptrType) first).getReturnType();
-                Type t2 = ((FptrType) second).getReturnType();
-                ArrayList<Type> types1 = ((FptrType) first).getArgumentsTypes();
-                ArrayList<Type> types2 = ((FptrType) second).getArgumentsTypes();
-                if (isFirstSubTypeOfSecond(t2, t1)) {
-                    if(types1.size() == types2.size()){
-                        for(int i = 0; i < types1.size(); i++){
-                            if(!isFirstSubTypeOfSecond(types1.get(i),types2.get(i))){
-                                return false;
-                            }
-                        }
-                    }
-                    else
-                        return false;
-                }
-                else
-                    return false;
-            }
-            else
-                return false;
-        }
-        if(first.toString().equals(second.toString())){
-            return true;
-        }
-        else{return false;}
-        //return true;
+    public boolean isFirstSubTypeOfSecond(Type first, Type second) {
+        return subtypeChecker.isFirstSubTypeOfSecond(first, second);
     }
 
     public void listChecker(Type type, VarDeclaration varDeclaration) {
-        LocalVariableSymbolTableItem local;
-        FieldSymbolTableItem field;
-        try {
-            ClassSymbolTableItem currentClass = (ClassSymbolTableItem) SymbolTable.root
-                    .getItem(ClassSymbolTableItem.START_KEY + currentClassName, true);
-            if(expressionTypeChecker.in_method){
-                MethodSymbolTableItem method = (MethodSymbolTableItem) currentClass.getClassSymbolTable()
-                        .getItem(MethodSymbolTableItem.START_KEY + currentMethodName, true);
-                local = (LocalVariableSymbolTableItem) method.getMethodSymbolTable()
-                        .getItem(LocalVariableSymbolTableItem.START_KEY + varDeclaration.getVarName().getName(), true);
-                if (type instanceof ListType) {
-
-                    if (((ListType) type).getElementsTypes().isEmpty()) {
-                        varDeclaration.addError(new CannotHaveEmptyList(varDeclaration.getLine()));
-                        local.setType(new NoType());
-                    }
-
-                    ArrayList<ListNameType> listNameTypes = ((ListType) type).getElementsTypes();
-                    for (ListNameType l : listNameTypes) {
-                        if(l.getType() instanceof ClassType) {
-                            try {
-                                ClassSymbolTableItem foundClass = (ClassSymbolTableItem) SymbolTable.root
-                                        .getItem(ClassSymbolTableItem.START_KEY +
-                                                ((ClassType) l.getType()).getClassName().getName(), true);
-                            }catch (ItemNotFoundException classNotFound){
-                                varDeclaration.addError(new ClassNotDeclared(varDeclaration.getLine(),
-                                        ((ClassType) l.getType()).getClassName().getName()));
-                                local.setType(new NoType());
-                            }
-                        }
-                        listChecker(l.getType(), varDeclaration);
-                    }
-                    int i, j, k = 0;
-                    for (i = 0; i < listNameTypes.size() - 1; i++) {
-                        for (j = i + 1; j < listNameTypes.size(); j++) {
-                            if (listNameTypes.get(i).getName().getName().equals(listNameTypes.get(j).getName().getName())
-                                    && !listNameTypes.get(i).getName().getName().equals("") &&
-                                    !listNameTypes.get(j).getName().getName().equals("")) {
-                                varDeclaration.addError(new DuplicateListId(varDeclaration.getLine()));
-                                local.setType(new NoType());
-                                k = 1;
-                                break;
-                            }
-                        }
-                        if (k == 1)
-                            break;
-                    }
-                } else if (type instanceof FptrType) {
-                    Type t1 = ((FptrType) type).getReturnType();
-                    if(t1 instanceof ClassType) {
-                        try {
-                            ClassSymbolTableItem foundClass = (ClassSymbolTableItem) SymbolTable.root
-                                    .getItem(ClassSymbolTableItem.START_KEY +
-                                            ((ClassType)  t1).getClassName().getName(), true);
-                        }catch (ItemNotFoundException classNotFound){
-                            varDeclaration.addError(new ClassNotDeclared(varDeclaration.getLine(),
-                                    ((ClassType) t1).getClassName().getName()));
-                            local.setType(new NoType());
-                        }
-                    }
-                    listChecker(t1, varDeclaration);
-                    ArrayList<Type> types = ((FptrType) type).getArgumentsTypes();
-                    for (Type x : types) {
-                        if(x instanceof ClassType) {
-                            try {
-                                ClassSymbolTableItem foundClass = (ClassSymbolTableItem) SymbolTable.root
-                                        .getItem(ClassSymbolTableItem.START_KEY +
-                                                ((ClassType)  x).getClassName().getName(), true);
-                            }catch (ItemNotFoundException classNotFound){
-                                varDeclaration.addError(new ClassNotDeclared(varDeclaration.getLine(),
-                                        ((ClassType)  x).getClassName().getName()));
-                                local.setType(new NoType());
-                            }
-                        }
-                        listChecker(x, varDeclaration);
-                    }
-                }
+        if(currentClass == null) {
+            System.out.println("Error dar listChecker    " + varDeclaration.getLine());
+            return;
+        }
+        if(expressionTypeChecker.in_method){
+            LocalVariableSymbolTableItem local = currentMethod == null ? null
+                    : (LocalVariableSymbolTableItem) varDeclaration.getVarName().getSymbolTableItem();
+            if(local == null) {
+                System.out.println("Error dar listChecker    " + varDeclaration.getLine());
+                return;
             }
-            else{
-                field = (FieldSymbolTableItem) currentClass.getClassSymbolTable()
-                        .getItem(FieldSymbolTableItem.START_KEY + varDeclaration.getVarName().getName(), true);
-                if (type instanceof ListType) {
-                    if (((ListType) type).getElementsTypes().isEmpty()) {
-                        varDeclaration.addError(new CannotHaveEmptyList(varDeclaration.getLine()));
-                        field.setType(new NoType());
-                    }
-
-                    ArrayList<ListNameType> listNameTypes = ((ListType) type).getElementsTypes();
-                    for (ListNameType l : listNameTypes) {
-                        if(l.getType() instanceof ClassType) {
-                            try {
-                                ClassSymbolTableItem foundClass = (ClassSymbolTableItem) SymbolTable.root
-                                        .getItem(ClassSymbolTableItem.START_KEY +
-                                                ((ClassType) l.getType()).getClassName().getName(), true);
-                            }catch (ItemNotFoundException classNotFound){
-                                varDeclaration.addError(new ClassNotDeclared(varDeclaration.getLine(),
-                                        ((ClassType) l.getType()).getClassName().getName()));
-                                field   .setType(new NoType());
-                            }
-                        }
-                        listChecker(l.getType(), varDeclaration);
-                    }
-                    int i, j, k = 0;
-                    for (i = 0; i < listNameTypes.size() - 1; i++) {
-                        for (j = i + 1; j < listNameTypes.size(); j++) {
-                            if (listNameTypes.get(i).getName().getName().equals(listNameTypes.get(j).getName().getName())
-                                    && !listNameTypes.get(i).getName().getName().equals("") &&
-                                    !listNameTypes.get(j).getName().getName().equals("")) {
-                                varDeclaration.addError(new DuplicateListId(varDeclaration.getLine()));
-                                field.setType(new NoType());
-                                k = 1;
-                                break;
-                            }
-                        }
-                        if (k == 1)
-                            break;
-                    }
-                } else if (type instanceof FptrType) {
-                    Type t1 = ((FptrType) type).getReturnType();
-                    if(t1 instanceof ClassType) {
-                        try {
-                            ClassSymbolTableItem foundClass = (ClassSymbolTableItem) SymbolTable.root
-                                    .getItem(ClassSymbolTableItem.START_KEY +
-                                            ((ClassType)  t1).getClassName().getName(), true);
-                        }catch (ItemNotFoundException classNotFound){
-                            varDeclaration.addError(new ClassNotDeclared(varDeclaration.getLine(),
-                                    ((ClassType) t1).getClassName().getName()));
-                            field.setType(new NoType());
-                        }
-                    }
-
-                    listChecker(t1, varDeclaration);
-                    ArrayList<Type> types = ((FptrType) type).getArgumentsTypes();
-                    for (Type x : types) {
-                        if(x instanceof ClassType) {
-                            try {
-                                ClassSymbolTableItem foundClass = (ClassSymbolTableItem) SymbolTable.root
-                                        .getItem(ClassSymbolTableItem.START_KEY +
-                                                ((ClassType)  x).getClassName().getName(), true);
-                            }catch (ItemNotFoundException classNotFound){
-                                varDeclaration.addError(new ClassNotDeclared(varDeclaration.getLine(),
-                                        ((ClassType)  x).getClassName().getName()));
-                                field.setType(new NoType());
-                            }
-                        }
-                        listChecker(x, varDeclaration);
-                    }
-                }
+            if(!typeValidator.validate(type, varDeclaration, diagnostics))
+                local.setType(TypeFactory.NO_TYPE);
+        }
+        else{
+            FieldSymbolTableItem field = (FieldSymbolTableItem) varDeclaration.getVarName().getSymbolTableItem();
+            if(field == null) {
+                System.out.println("Error dar listChecker    " + varDeclaration.getLine());
+                return;
             }
-        }catch(ItemNotFoundException classNotFound){
-            System.out.println("Error dar listChecker    " + varDeclaration.getLine());
+            if(!typeValidator.validate(type, varDeclaration, diagnostics))
+                field.setType(TypeFactory.NO_TYPE);
         }
     }
 
     public void listChecker_methodReturnMethod(Type type, MethodDeclaration methodDeclaration) {
-        LocalVariableSymbolTableItem local;
-        FieldSymbolTableItem field;
-        try {
-            ClassSymbolTableItem currentClass = (ClassSymbolTableItem) SymbolTable.root
-                    .getItem(ClassSymbolTableItem.START_KEY + currentClassName, true);
-            try {
-                MethodSymbolTableItem method = (MethodSymbolTableItem) currentClass.getClassSymbolTable()
-                        .getItem(MethodSymbolTableItem.START_KEY + currentMethodName, true);
-
-                if (type instanceof ListType) {
-
-                    if (((ListType) type).getElementsTypes().isEmpty()) {
-                        methodDeclaration.addError(new CannotHaveEmptyList(methodDeclaration.getLine()));
-                        method.setReturnType(new NoType());
-                    }
-
-                    ArrayList<ListNameType> listNameTypes = ((ListType) type).getElementsTypes();
-                    for (ListNameType l : listNameTypes) {
-                        if (l.getType() instanceof ClassType) {
-                            try {
-                                ClassSymbolTableItem foundClass = (ClassSymbolTableItem) SymbolTable.root
-                                        .getItem(ClassSymbolTableItem.START_KEY +
-                                                ((ClassType) l.getType()).getClassName().getName(), true);
-                            } catch (ItemNotFoundException classNotFound) {
-                                methodDeclaration.addError(new ClassNotDeclared(methodDeclaration.getLine(),
-                                        ((ClassType) l.getType()).getClassName().getName()));
-                                method.setReturnType(new NoType());
-                            }
-                        }
-                        listChecker_methodReturnMethod(l.getType(), methodDeclaration);
-                    }
-                    int i, j, k = 0;
-                    for (i = 0; i < listNameTypes.size() - 1; i++) {
-                        for (j = i + 1; j < listNameTypes.size(); j++) {
-                            if (listNameTypes.get(i).getName().getName().equals(listNameTypes.get(j).getName().getName())
-                                    && !listNameTypes.get(i).getName().getName().equals("") &&
-                                    !listNameTypes.get(j).getName().getName().equals("")) {
-                                methodDeclaration.addError(new DuplicateListId(methodDeclaration.getLine()));
-                                method.setReturnType(new NoType());
-                                k = 1;
-                                break;
-                            }
-                        }
-                        if (k == 1)
-                            break;
-                    }
-                } else if (type instanceof FptrType) {
-                    Type t1 = ((FptrType) type).getReturnType();
-                    if (t1 instanceof ClassType) {
-                        try {
-                            ClassSymbolTableItem foundClass = (ClassSymbolTableItem) SymbolTable.root
-                                    .getItem(ClassSymbolTableItem.START_KEY +
-                                            ((ClassType) t1).getClassName().getName(), true);
-                        } catch (ItemNotFoundException classNotFound) {
-                            methodDeclaration.addError(new ClassNotDeclared(methodDeclaration.getLine(),
-                                    ((ClassType) t1).getClassName().getName()));
-                            method.setReturnType(new NoType());
-                        }
-                    }
-                    listChecker_methodReturnMethod(t1, methodDeclaration);
-                    ArrayList<Type> types = ((FptrType) type).getArgumentsTypes();
-                    for (Type x : types) {
-                        if (x instanceof ClassType) {
-                            try {
-                                ClassSymbolTableItem foundClass = (ClassSymbolTableItem) SymbolTable.root
-                                        .getItem(ClassSymbolTableItem.START_KEY +
-                                                ((ClassType) x).getClassName().getName(), true);
-                            } catch (ItemNotFoundException classNotFound) {
-                                methodDeclaration.addError(new ClassNotDeclared(methodDeclaration.getLine(),
-                                        ((ClassType) x).getClassName().getName()));
-                                method.setReturnType(new NoType());
-                            }
-                        }
-                        listChecker_methodReturnMethod(x, methodDeclaration);
-                    }
-                }
-            } catch (ItemNotFoundException methodNotFound) {
-                System.out.println("Error dar listChecker    " + methodDeclaration.getLine());
-            }
-        }catch(ItemNotFoundException classNotFound){
+        MethodSymbolTableItem method = currentMethod;
+        if(method == null) {
             System.out.println("Error dar listChecker    " + methodDeclaration.getLine());
+            return;
         }
+        if(!typeValidator.validate(type, methodDeclaration, diagnostics))
+            method.setReturnType(TypeFactory.NO_TYPE);
     }
 
     @Override
     public Void visit(Program program) {
+        context.getMetrics().nodeVisited();
         ArrayList<ClassDeclaration> classes = program.getClasses();
         for (ClassDeclaration classDeclaration : classes) {
             if(classDeclaration.getClassName().getName().equals("Main")){
                 has_main = true;
             }
-            classDeclaration.accept(this);
         }
+        //reported before anything else on its line, as it always was
         if(!has_main){
-            program.addError(new NoMainClass());
+            diagnostics.report(program, new NoMainClass());
+        }
+        for (ClassDeclaration classDeclaration : classes) {
+            classDeclaration.accept(this);
         }
         return null;
     }
 
     @Override
     public Void visit(ClassDeclaration classDeclaration) {
-
+        context.getMetrics().nodeVisited();
+        expressionTypeChecker.is_lvalue = true;
+        expressionTypeChecker.in_methodCallStatement = false;
         expressionTypeChecker.currentClassName = classDeclaration.getClassName().getName();
         currentClassName = classDeclaration.getClassName().getName();
         currentMethodName = classDeclaration.getClassName().getName();
+        currentClass = classDeclaration.getSymbolTableItem();
+        currentMethod = null;
         expressionTypeChecker.currentMethodName = classDeclaration.getClassName().getName();
         String parentName = "";
         if(classDeclaration.getParentClassName() != null){
             parentName = classDeclaration.getParentClassName().getName();
         }
 
-        if(currentClassName.equals("Main")){
-            if(!(parentName.equals("Main")) && (classDeclaration.getParentClassName() != null)){
-                classDeclaration.addError(new MainClassCantExtend(classDeclaration.getLine()));
-            }
-        }
-
-        if(!parentName.equals("")){
-            try {
-                ClassSymbolTableItem currentClass = (ClassSymbolTableItem) SymbolTable.root
-                        .getItem(ClassSymbolTableItem.START_KEY + parentName, true);
-            }catch (ItemNotFoundException classNotFound){
-                classDeclaration.addError(new ClassNotDeclared(classDeclaration.getLine(), parentName));
-            }
-
-            if(parentName.equals("Main") && !currentClassName.equals("Main")){
-                classDeclaration.addError(new CannotExtendFromMainClass(classDeclaration.getParentClassName().getLine()));
-            }
+        //both passes over a class number its parts alike, so their errors merge back in visiting order
+        int section = 0;
+        diagnostics.setSection(section++);
+        if(checkDeclarations) {
+            checkClassHeader(classDeclaration, parentName);
         }
         ConstructorDeclaration constructorDeclaration;
+        diagnostics.setSection(section++);
         if( classDeclaration.getConstructor() != null) {
             constructorDeclaration = classDeclaration.getConstructor();
             constructorDeclaration.accept(this);
         }
-        if(currentClassName.equals("Main")){
+        diagnostics.setSection(section++);
+        if(checkDeclarations && currentClassName.equals("Main")){
             if(classDeclaration.getConstructor() == null){
-                classDeclaration.addError(new NoConstructorInMainClass(classDeclaration));
+                diagnostics.report(classDeclaration, new NoConstructorInMainClass(classDeclaration));
             }
         }
         ArrayList<FieldDeclaration> fieldDeclarations = classDeclaration.getFields();
         for(FieldDeclaration fieldDeclaration : fieldDeclarations){
+            diagnostics.setSection(section++);
             fieldDeclaration.accept(this);
         }
         ArrayList<MethodDeclaration> methodDeclarations =  classDeclaration.getMethods();
         for(MethodDeclaration methodDeclaration : methodDeclarations){
+            diagnostics.setSection(section++);
             methodDeclaration.accept(this);
         }
         return null;
     }
 
+    private void checkClassHeader(ClassDeclaration classDeclaration, String parentName) {
+        if(currentClassName.equals("Main")){
+            if(!(parentName.equals("Main")) && (classDeclaration.getParentClassName() != null)){
+                diagnostics.report(classDeclaration, new MainClassCantExtend(classDeclaration.getLine()));
+            }
+        }
+
+        if(!parentName.equals("")){
+            if(context.getRoot().findClass(parentName, true) == null) {
+                diagnostics.report(classDeclaration, new ClassNotDeclared(classDeclaration.getLine(), parentName));
+            }
+
+            if(parentName.equals("Main") && !currentClassName.equals("Main")){
+                diagnostics.report(classDeclaration, new CannotExtendFromMainClass(classDeclaration.getParentClassName().getLine()));
+            }
+        }
+    }
+
     @Override
     public Void visit(ConstructorDeclaration constructorDeclaration) {
+        context.getMetrics().nodeVisited();
         currentMethodName = constructorDeclaration.getMethodName().getName();
+        currentMethod = currentClass == null ? null : constructorDeclaration.getSymbolTableItem();
         expressionTypeChecker.currentMethodName = currentMethodName;
         expressionTypeChecker.in_method = true;
+        enterMember(constructorDeclaration);
         String constructorDeclarationName = constructorDeclaration.getMethodName().getName();
-        if(!constructorDeclarationName.equals(currentClassName)){
-            constructorDeclaration.addError(new ConstructorNotSameNameAsClass(constructorDeclaration.getLine()));
+        if(checkDeclarations && !constructorDeclarationName.equals(currentClassName)){
+            diagnostics.report(constructorDeclaration, new ConstructorNotSameNameAsClass(constructorDeclaration.getLine()));
         }
-        if(!constructorDeclaration.getArgs().isEmpty() && constructorDeclarationName.equals("Main")){
-            constructorDeclaration.addError(new MainConstructorCantHaveArgs(constructorDeclaration.getLine()));
+        if(checkDeclarations && !constructorDeclaration.getArgs().isEmpty() && constructorDeclarationName.equals("Main")){
+            diagnostics.report(constructorDeclaration, new MainConstructorCantHaveArgs(constructorDeclaration.getLine()));
         }
         ArrayList<VarDeclaration> args = constructorDeclaration.getArgs();
         for (VarDeclaration arg : args){
@@ -461,9 +245,11 @@ public class TypeChecker extends Visitor<Void> {
             varDeclaration.accept(this);
         }
 
-        ArrayList<Statement> statements =  constructorDeclaration.getBody();
-        for(Statement statement : statements){
-            statement.accept(this);
+        if(checkBodies) {
+            ArrayList<Statement> statements = constructorDeclaration.getBody();
+            for (Statement statement : statements) {
+                statement.accept(this);
+            }
         }
         expressionTypeChecker.in_method = false;
         return null;
@@ -471,13 +257,17 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(MethodDeclaration methodDeclaration) {
+        context.getMetrics().nodeVisited();
         //String methodDeclarationName = methodDeclaration.getMethodName().getName();
         expressionTypeChecker.in_method = true;
         currentMethodName = methodDeclaration.getMethodName().getName();
+        currentMethod = currentClass == null ? null : methodDeclaration.getSymbolTableItem();
         expressionTypeChecker.currentMethodName = methodDeclaration.getMethodName().getName();
+        enterMember(methodDeclaration);
 
         Type type = methodDeclaration.getReturnType();
-        listChecker_methodReturnMethod(type,methodDeclaration);
+        if(checkDeclarations)
+            listChecker_methodReturnMethod(type,methodDeclaration);
         ArrayList<VarDeclaration> args = methodDeclaration.getArgs();
         for (VarDeclaration arg : args){
             arg.accept(this);
@@ -488,16 +278,18 @@ public class TypeChecker extends Visitor<Void> {
             varDeclaration.accept(this);
         }
 
-        if(!(methodDeclaration.getReturnType() instanceof NullType)){
-            has_return = true;
-        }
-        ArrayList<Statement> statements = methodDeclaration.getBody();
-        for(Statement statement : statements){
-            statement.accept(this);
+        if(checkBodies) {
+            if (!(methodDeclaration.getReturnType() instanceof NullType)) {
+                has_return = true;
+            }
+            ArrayList<Statement> statements = methodDeclaration.getBody();
+            for (Statement statement : statements) {
+                statement.accept(this);
+            }
         }
         expressionTypeChecker.in_method = false;
         if(has_return){
-            methodDeclaration.addError(new MissingReturnStatement(methodDeclaration));
+            diagnostics.report(methodDeclaration, new MissingReturnStatement(methodDeclaration));
         }
         has_return = false;
         return null;
@@ -505,44 +297,37 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(FieldDeclaration fieldDeclaration) {
+        context.getMetrics().nodeVisited();
         fieldDeclaration.getVarDeclaration().accept(this);
         return null;
     }
 
     @Override
     public Void visit(VarDeclaration varDeclaration) {
+        context.getMetrics().nodeVisited();
+        if(!checkDeclarations)
+            return null;
         Type t = varDeclaration.getType();
         listChecker(t, varDeclaration);
 
         if(t instanceof ClassType){
-            try {
-                ClassSymbolTableItem currentClass = (ClassSymbolTableItem) SymbolTable.root
-                        .getItem(ClassSymbolTableItem.START_KEY + ((ClassType) t).getClassName().getName(), true);
-            }catch (ItemNotFoundException classNotFound){
-                varDeclaration.addError(new ClassNotDeclared(varDeclaration.getLine(), ((ClassType) t).getClassName().getName()));
+            if(context.getRoot().findClass(((ClassType) t).getClassName().getName(), true) == null) {
+                diagnostics.report(varDeclaration, new ClassNotDeclared(varDeclaration.getLine(), ((ClassType) t).getClassName().getName()));
                 if(expressionTypeChecker.in_method){
-                    try{
-                        ClassSymbolTableItem currentClass = (ClassSymbolTableItem) SymbolTable.root
-                                .getItem(ClassSymbolTableItem.START_KEY +currentClassName, true);
-                        MethodSymbolTableItem method = (MethodSymbolTableItem) currentClass.getClassSymbolTable()
-                                .getItem(MethodSymbolTableItem.START_KEY + currentMethodName, true);
-                        LocalVariableSymbolTableItem local = (LocalVariableSymbolTableItem) method.getMethodSymbolTable()
-                                .getItem(LocalVariableSymbolTableItem.START_KEY + varDeclaration.getVarName().getName(), true);
-                        local.setType(new NoType());
-                    }catch (ItemNotFoundException x){
+                    LocalVariableSymbolTableItem local = currentMethod == null ? null
+                            : (LocalVariableSymbolTableItem) varDeclaration.getVarName().getSymbolTableItem();
+                    if(local != null)
+                        local.setType(TypeFactory.NO_TYPE);
+                    else
                         System.out.println("error in varDec");
-                    }
                 }
                 else{
-                    try{
-                        ClassSymbolTableItem currentClass = (ClassSymbolTableItem) SymbolTable.root
-                                .getItem(ClassSymbolTableItem.START_KEY +currentClassName, true);
-                        FieldSymbolTableItem field = (FieldSymbolTableItem) currentClass.getClassSymbolTable()
-                                .getItem(FieldSymbolTableItem.START_KEY + varDeclaration.getVarName().getName(), true);
-                        field.setType(new NoType());
-                    }catch (ItemNotFoundException x){
+                    FieldSymbolTableItem field = currentClass == null ? null
+                            : (FieldSymbolTableItem) varDeclaration.getVarName().getSymbolTableItem();
+                    if(field != null)
+                        field.setType(TypeFactory.NO_TYPE);
+                    else
                         System.out.println("error in varDec");
-                    }
                 }
             }
         }
@@ -551,6 +336,7 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(AssignmentStmt assignmentStmt) {
+        context.getMetrics().nodeVisited();
         Expression lvalue = assignmentStmt.getlValue();
         Expression rvalue = assignmentStmt.getrValue();
         //System.out.println(rvalue.toString() + "  [[[[[[[[[[[[[[[[[[[[[[[[[[[[[");
@@ -565,18 +351,19 @@ public class TypeChecker extends Visitor<Void> {
         //System.out.println(t1.toString() + "   " + t2.toString() + "   " + assignmentStmt.getLine());
 
         if (!expressionTypeChecker.is_lvalue) {
-            assignmentStmt.addError(new LeftSideNotLvalue(assignmentStmt.getLine()));
+            diagnostics.report(assignmentStmt, new LeftSideNotLvalue(assignmentStmt.getLine()));
         }
 
         //System.out.println(t1.toString() + "qqqqqqqqq");
         if(!isFirstSubTypeOfSecond(t2, t1) && !(t1 instanceof NoType)){
-            assignmentStmt.addError(new UnsupportedOperandType(assignmentStmt.getLine(), BinaryOperator.assign.toString()));
+            diagnostics.report(assignmentStmt, new UnsupportedOperandType(assignmentStmt.getLine(), BinaryOperator.assign.toString()));
         }
         return null;
     }
 
     @Override
     public Void visit(BlockStmt blockStmt) {
+        context.getMetrics().nodeVisited();
         if (blockStmt == null)
             return null;
         ArrayList<Statement> statements = blockStmt.getStatements();
@@ -587,11 +374,12 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(ConditionalStmt conditionalStmt) {
+        context.getMetrics().nodeVisited();
         Expression exp = conditionalStmt.getCondition();
         Type t = exp.accept(expressionTypeChecker);
         if(!(t instanceof BoolType) && !(t instanceof NoType)){
             int line = conditionalStmt.getLine();
-            conditionalStmt.addError(new ConditionNotBool(line));
+            diagnostics.report(conditionalStmt, new ConditionNotBool(line));
         }
         conditionalStmt.getThenBody().accept(this);
         if(conditionalStmt.getElseBody() != null){
@@ -602,6 +390,7 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(MethodCallStmt methodCallStmt) {
+        context.getMetrics().nodeVisited();
         expressionTypeChecker.in_methodCallStatement = true;
         MethodCall methodCall = methodCallStmt.getMethodCall();
         methodCall.accept(expressionTypeChecker);
@@ -611,62 +400,62 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(PrintStmt print) {
+        context.getMetrics().nodeVisited();
         Expression exp = print.getArg();
         Type t = exp.accept(expressionTypeChecker);
         if(!(t instanceof StringType) && !(t instanceof BoolType) && !(t instanceof IntType) && !(t instanceof NoType)){
             int line = print.getLine();
-            print.addError(new UnsupportedTypeForPrint(line));
+            diagnostics.report(print, new UnsupportedTypeForPrint(line));
         }
         return null;
     }
 
     @Override
     public Void visit(ReturnStmt returnStmt) {
+        context.getMetrics().nodeVisited();
         has_return = false;
         Type t1 = returnStmt.getReturnedExpr().accept(expressionTypeChecker);
-        try {
-            ClassSymbolTableItem currentClass = (ClassSymbolTableItem) SymbolTable.root
-                    .getItem(ClassSymbolTableItem.START_KEY + currentClassName, true);
-            try {
-                MethodSymbolTableItem methodSymbolTableItem = (MethodSymbolTableItem) currentClass.getClassSymbolTable()
-                        .getItem(MethodSymbolTableItem.START_KEY + currentMethodName, true);
-                Type t2 = methodSymbolTableItem.getReturnType();
-
-                if(!isFirstSubTypeOfSecond(t1, t2)  && !(t1 instanceof NoType)){
-                    returnStmt.addError(new ReturnValueNotMatchMethodReturnType(returnStmt));
-                    return null;
-                }
-            }catch (ItemNotFoundException methodNotFound){
-                System.out.println("error 1 in returnStmt");
-                return null;
-            }
-        } catch (ItemNotFoundException ignored) {
+        if(currentClass == null) {
             System.out.println("error 2 in returnStmt");
             return null;
         }
+        MethodSymbolTableItem methodSymbolTableItem = currentMethod;
+        if(methodSymbolTableItem == null) {
+            System.out.println("error 1 in returnStmt");
+            return null;
+        }
+        Type t2 = expressionTypeChecker.returnTypeOf(methodSymbolTableItem);
+
+        if(!isFirstSubTypeOfSecond(t1, t2)  && !(t1 instanceof NoType)){
+            diagnostics.report(returnStmt, new ReturnValueNotMatchMethodReturnType(returnStmt));
+            return null;
+        }
         return null;
     }
 
     @Override
     public Void visit(BreakStmt breakStmt) {
+        context.getMetrics().nodeVisited();
         if(in_for <= 0){
             int line = breakStmt.getLine();
-            breakStmt.addError(new ContinueBreakNotInLoop(line, 0));
+            diagnostics.report(breakStmt, new ContinueBreakNotInLoop(line, 0));
         }
         return null;
     }
 
     @Override
     public Void visit(ContinueStmt continueStmt) {
+        context.getMetrics().nodeVisited();
         if(in_for <= 0){
             int line = continueStmt.getLine();
-            continueStmt.addError(new ContinueBreakNotInLoop(line, 1));
+            diagnostics.report(continueStmt, new ContinueBreakNotInLoop(line, 1));
         }
         return null;
     }
 
     @Override
     public Void visit(ForeachStmt foreachStmt) {
+        context.getMetrics().nodeVisited();
         //boolean flag = false;
         in_for++;
         int line = foreachStmt.getLine();
@@ -677,16 +466,21 @@ public class TypeChecker extends Visitor<Void> {
 
         if(list instanceof NoType){
             foreachStmt.getBody().accept(this);
+            in_for--;
             return null;
         }
         if(!(list instanceof ListType)){
-            foreachStmt.addError(new ForeachCantIterateNoneList(line));
+            diagnostics.report(foreachStmt, new ForeachCantIterateNoneList(line));
+            in_for--;
             return null;
         }
 
 
 
-        ArrayList<ListNameType> exp_list = ((ListType) list).getElementsTypes();
+        //when every element has one type the first element decides
+        ListType listType = (ListType) list;
+        List<ListNameType> exp_list = listType.isHomogeneous() ? listType.getElementsTypes().subList(0, 1)
+                : listType.getElementsTypes();
         Type y = exp_list.get(0).getType();
         Type a;
         Type b = null;
@@ -704,9 +498,9 @@ public class TypeChecker extends Visitor<Void> {
                 continue;
             }
             if(!(isFirstSubTypeOfSecond(a, b)) || !isFirstSubTypeOfSecond(b, a)){
-                foreachStmt.addError(new ForeachListElementsNotSameType(foreachStmt.getLine()));
+                diagnostics.report(foreachStmt, new ForeachListElementsNotSameType(foreachStmt.getLine()));
                 if(!(id instanceof NoType) && !isFirstSubTypeOfSecond(id, y) && !isFirstSubTypeOfSecond(y, id)){
-                    foreachStmt.addError(new ForeachVarNotMatchList(foreachStmt));
+                    diagnostics.report(foreachStmt, new ForeachVarNotMatchList(foreachStmt));
                 }
                 flag = true;
                 break;
@@ -714,7 +508,7 @@ public class TypeChecker extends Visitor<Void> {
         }
 
         if(!flag && !(id instanceof NoType) && b != null && !isFirstSubTypeOfSecond(id, b) && !isFirstSubTypeOfSecond(b, id)){
-            foreachStmt.addError(new ForeachVarNotMatchList(foreachStmt));
+            diagnostics.report(foreachStmt, new ForeachVarNotMatchList(foreachStmt));
         }
 
         Statement stat = foreachStmt.getBody();
@@ -725,13 +519,14 @@ public class TypeChecker extends Visitor<Void> {
 
     @Override
     public Void visit(ForStmt forStmt) {
+        context.getMetrics().nodeVisited();
         in_for++;
         forStmt.getInitialize().accept(this);
         Expression exp = forStmt.getCondition();
         Type t = exp.accept(expressionTypeChecker);
         if(!(t instanceof BoolType) && !(t instanceof NoType)){
             int line = forStmt.getLine();
-            forStmt.addError(new ConditionNotBool(line));
+            diagnostics.report(forStmt, new ConditionNotBool(line));
         }
         if(forStmt.getUpdate() != null) {
             forStmt.getUpdate().accept(this);
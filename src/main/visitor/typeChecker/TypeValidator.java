@@ -0,0 +1,120 @@
+package main.visitor.typeChecker;
+
+import main.ast.nodes.Node;
+import main.ast.types.Type;
+import main.ast.types.functionPointer.FptrType;
+import main.ast.types.list.ListNameType;
+import main.ast.types.list.ListType;
+import main.ast.types.single.ClassType;
+import main.compileErrorException.CompileErrorException;
+import main.compileErrorException.Diagnostics;
+import main.compileErrorException.typeErrors.CannotHaveEmptyList;
+import main.compileErrorException.typeErrors.ClassNotDeclared;
+import main.compileErrorException.typeErrors.DuplicateListId;
+import main.symbolTable.SymbolTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+//Checks that a declared type is well formed: no empty lists, no duplicate element names, no undeclared classes
+//anywhere inside nested list and function pointer types. The problems of a type do not depend on where it is
+//declared, only their line does, so they are worked out once per canonical type and replayed at each declaration.
+//The order is the one the recursive check always reported them in: a list's emptiness, then each element's class
+//followed by that element's own problems, then its duplicate names; a function pointer's return type, then its
+//arguments.
+public class TypeValidator {
+    private final SymbolTable root;
+    private final ConcurrentHashMap<Type, List<Diagnostic>> cache = new ConcurrentHashMap<>();
+
+    private enum Kind { EMPTY_LIST, CLASS_NOT_DECLARED, DUPLICATE_LIST_ID }
+
+    private static class Diagnostic {
+        private final Kind kind;
+        private final String className;
+
+        Diagnostic(Kind kind, String className) {
+            this.kind = kind;
+            this.className = className;
+        }
+
+        CompileErrorException at(int line) {
+            switch(kind) {
+                case EMPTY_LIST:
+                    return new CannotHaveEmptyList(line);
+                case CLASS_NOT_DECLARED:
+                    return new ClassNotDeclared(line, className);
+                default:
+                    return new DuplicateListId(line);
+            }
+        }
+    }
+
+    private static final Diagnostic EMPTY_LIST = new Diagnostic(Kind.EMPTY_LIST, null);
+    private static final Diagnostic DUPLICATE_LIST_ID = new Diagnostic(Kind.DUPLICATE_LIST_ID, null);
+
+    public TypeValidator(SymbolTable root) {
+        this.root = root;
+    }
+
+    //reports the problems of type on node's line; true when there were none
+    public boolean validate(Type type, Node node, Diagnostics sink) {
+        List<Diagnostic> diagnostics = this.diagnosticsOf(type);
+        for(Diagnostic diagnostic : diagnostics)
+            sink.report(node, diagnostic.at(node.getLine()));
+        return diagnostics.isEmpty();
+    }
+
+    private List<Diagnostic> diagnosticsOf(Type type) {
+        if(!(type instanceof ListType) && !(type instanceof FptrType))
+            return Collections.emptyList();
+        List<Diagnostic> diagnostics = cache.get(type);
+        if(diagnostics != null)
+            return diagnostics;
+        diagnostics = type instanceof ListType ? this.listDiagnostics((ListType) type)
+                : this.fptrDiagnostics((FptrType) type);
+        cache.putIfAbsent(type, diagnostics);
+        return diagnostics;
+    }
+
+    private List<Diagnostic> listDiagnostics(ListType listType) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        if(listType.size() == 0)
+            diagnostics.add(EMPTY_LIST);
+        if(listType.isRepeated()) {
+            List<Diagnostic> element = new ArrayList<>();
+            this.addMember(listType.getRepeatedElement().getType(), element);
+            for(int i = 0; !element.isEmpty() && i < listType.size(); i++)
+                diagnostics.addAll(element);
+        }
+        else {
+            for(ListNameType listNameType : listType.getElementsTypes())
+                this.addMember(listNameType.getType(), diagnostics);
+        }
+        if(listType.hasDuplicateNames())
+            diagnostics.add(DUPLICATE_LIST_ID);
+        return this.seal(diagnostics);
+    }
+
+    private List<Diagnostic> fptrDiagnostics(FptrType fptrType) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        this.addMember(fptrType.getReturnType(), diagnostics);
+        for(Type argument : fptrType.getArgumentsTypes())
+            this.addMember(argument, diagnostics);
+        return this.seal(diagnostics);
+    }
+
+    private void addMember(Type member, List<Diagnostic> diagnostics) {
+        if(member instanceof ClassType) {
+            String className = ((ClassType) member).getClassName().getName();
+            if(root.findClass(className, true) == null)
+                diagnostics.add(new Diagnostic(Kind.CLASS_NOT_DECLARED, className));
+        }
+        diagnostics.addAll(this.diagnosticsOf(member));
+    }
+
+    private List<Diagnostic> seal(List<Diagnostic> diagnostics) {
+        return diagnostics.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(diagnostics);
+    }
+}
@@ -0,0 +1,293 @@
+package main.visitor.utils;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.classDec.ClassDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.ConstructorDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.FieldDeclaration;
+import main.ast.nodes.declaration.classDec.classMembersDec.MethodDeclaration;
+import main.ast.nodes.declaration.variableDec.VarDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.values.ListValue;
+import main.ast.nodes.expression.values.NullValue;
+import main.ast.nodes.expression.values.primitive.BoolValue;
+import main.ast.nodes.expression.values.primitive.IntValue;
+import main.ast.nodes.expression.values.primitive.StringValue;
+import main.ast.nodes.statement.*;
+import main.ast.nodes.statement.loop.BreakStmt;
+import main.ast.nodes.statement.loop.ContinueStmt;
+import main.ast.nodes.statement.loop.ForStmt;
+import main.ast.nodes.statement.loop.ForeachStmt;
+import main.visitor.Visitor;
+
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+//Positions of some nodes in a pre-order walk of the AST: a node before its children, the children in source order
+//and a class's fields, then its constructor, then its methods. Only the asked for nodes are kept; a node reachable
+//twice keeps its first position.
+public class PreorderIndex extends Visitor<Void> {
+    private final Set<Node> nodes;
+    private final IdentityHashMap<Node, Integer> positions = new IdentityHashMap<>();
+    private int next = 0;
+
+    public PreorderIndex(Set<Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    public static IdentityHashMap<Node, Integer> of(Program program, Set<Node> nodes) {
+        PreorderIndex preorderIndex = new PreorderIndex(nodes);
+        program.accept(preorderIndex);
+        return preorderIndex.positions;
+    }
+
+    private void number(Node node) {
+        if(nodes.contains(node))
+            positions.putIfAbsent(node, next);
+        next++;
+    }
+
+    @Override
+    public Void visit(Program program) {
+        number(program);
+        for(ClassDeclaration classDeclaration : program.getClasses()) {
+            classDeclaration.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(ClassDeclaration classDeclaration) {
+        number(classDeclaration);
+        classDeclaration.getClassName().accept(this);
+        if(classDeclaration.getParentClassName() != null) {
+            classDeclaration.getParentClassName().accept(this);
+        }
+        for(FieldDeclaration fieldDeclaration : classDeclaration.getFields()) {
+            fieldDeclaration.accept(this);
+        }
+        if(classDeclaration.getConstructor() != null) {
+            classDeclaration.getConstructor().accept(this);
+        }
+        for(MethodDeclaration methodDeclaration : classDeclaration.getMethods()) {
+            methodDeclaration.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(ConstructorDeclaration constructorDeclaration) {
+        return this.visit((MethodDeclaration) constructorDeclaration);
+    }
+
+    @Override
+    public Void visit(MethodDeclaration methodDeclaration) {
+        number(methodDeclaration);
+        methodDeclaration.getMethodName().accept(this);
+        for(VarDeclaration varDeclaration : methodDeclaration.getArgs()) {
+            varDeclaration.accept(this);
+        }
+        for(VarDeclaration varDeclaration : methodDeclaration.getLocalVars()) {
+            varDeclaration.accept(this);
+        }
+        for(Statement statement : methodDeclaration.getBody()) {
+            statement.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(FieldDeclaration fieldDeclaration) {
+        number(fieldDeclaration);
+        fieldDeclaration.getVarDeclaration().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(VarDeclaration varDeclaration) {
+        number(varDeclaration);
+        varDeclaration.getVarName().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(AssignmentStmt assignmentStmt) {
+        number(assignmentStmt);
+        assignmentStmt.getlValue().accept(this);
+        assignmentStmt.getrValue().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(BlockStmt blockStmt) {
+        number(blockStmt);
+        for(Statement statement : blockStmt.getStatements()) {
+            statement.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(ConditionalStmt conditionalStmt) {
+        number(conditionalStmt);
+        conditionalStmt.getCondition().accept(this);
+        conditionalStmt.getThenBody().accept(this);
+        if(conditionalStmt.getElseBody() != null) {
+            conditionalStmt.getElseBody().accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCallStmt methodCallStmt) {
+        number(methodCallStmt);
+        methodCallStmt.getMethodCall().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(PrintStmt print) {
+        number(print);
+        print.getArg().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ReturnStmt returnStmt) {
+        number(returnStmt);
+        returnStmt.getReturnedExpr().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(BreakStmt breakStmt) {
+        number(breakStmt);
+        return null;
+    }
+
+    @Override
+    public Void visit(ContinueStmt continueStmt) {
+        number(continueStmt);
+        return null;
+    }
+
+    @Override
+    public Void visit(ForeachStmt foreachStmt) {
+        number(foreachStmt);
+        foreachStmt.getVariable().accept(this);
+        foreachStmt.getList().accept(this);
+        foreachStmt.getBody().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ForStmt forStmt) {
+        number(forStmt);
+        if(forStmt.getInitialize() != null) {
+            forStmt.getInitialize().accept(this);
+        }
+        if(forStmt.getCondition() != null) {
+            forStmt.getCondition().accept(this);
+        }
+        if(forStmt.getUpdate() != null) {
+            forStmt.getUpdate().accept(this);
+        }
+        forStmt.getBody().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(BinaryExpression binaryExpression) {
+        number(binaryExpression);
+        binaryExpression.getFirstOperand().accept(this);
+        binaryExpression.getSecondOperand().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(UnaryExpression unaryExpression) {
+        number(unaryExpression);
+        unaryExpression.getOperand().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(ObjectOrListMemberAccess objectOrListMemberAccess) {
+        number(objectOrListMemberAccess);
+        objectOrListMemberAccess.getInstance().accept(this);
+        objectOrListMemberAccess.getMemberName().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(Identifier identifier) {
+        number(identifier);
+        return null;
+    }
+
+    @Override
+    public Void visit(ListAccessByIndex listAccessByIndex) {
+        number(listAccessByIndex);
+        listAccessByIndex.getInstance().accept(this);
+        listAccessByIndex.getIndex().accept(this);
+        return null;
+    }
+
+    @Override
+    public Void visit(MethodCall methodCall) {
+        number(methodCall);
+        methodCall.getInstance().accept(this);
+        for(Expression expression : methodCall.getArgs()) {
+            expression.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(NewClassInstance newClassInstance) {
+        number(newClassInstance);
+        for(Expression expression : newClassInstance.getArgs()) {
+            expression.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(ThisClass thisClass) {
+        number(thisClass);
+        return null;
+    }
+
+    @Override
+    public Void visit(ListValue listValue) {
+        number(listValue);
+        for(Expression expression : listValue.getElements()) {
+            expression.accept(this);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(NullValue nullValue) {
+        number(nullValue);
+        return null;
+    }
+
+    @Override
+    public Void visit(IntValue intValue) {
+        number(intValue);
+        return null;
+    }
+
+    @Override
+    public Void visit(BoolValue boolValue) {
+        number(boolValue);
+        return null;
+    }
+
+    @Override
+    public Void visit(StringValue stringValue) {
+        number(stringValue);
+        return null;
+    }
+}
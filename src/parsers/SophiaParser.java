@@ -251,6 +251,7 @@ public class SophiaParser extends Parser {
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
+			 _localctx.programRet.getClasses().trimToSize(); 
 			}
 		}
 		catch (RecognitionException re) {
@@ -326,47 +327,47 @@ public class SophiaParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(105);
+			setState(107);
 			((SophiaClassContext)_localctx).cl = match(CLASS);
-			setState(106);
+			setState(108);
 			((SophiaClassContext)_localctx).name = identifier();
 
 			        ((SophiaClassContext)_localctx).sophiaClassRet =  new ClassDeclaration(((SophiaClassContext)_localctx).name.idRet);
 			        _localctx.sophiaClassRet.setLine(((SophiaClassContext)_localctx).cl.getLine());
 			    
-			setState(112);
+			setState(114);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==EXTENDS) {
 				{
-				setState(108);
+				setState(110);
 				match(EXTENDS);
-				setState(109);
+				setState(111);
 				((SophiaClassContext)_localctx).parentName = identifier();
 				 _localctx.sophiaClassRet.setParentClassName(((SophiaClassContext)_localctx).parentName.idRet); 
 				}
 			}
 
-			setState(114);
+			setState(116);
 			match(LBRACE);
-			setState(151);
+			setState(153);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
 			case 1:
 				{
 				{
-				setState(123);
+				setState(125);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
 				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 					if ( _alt==1 ) {
 						{
-						setState(121);
+						setState(123);
 						_errHandler.sync(this);
 						switch (_input.LA(1)) {
 						case IDENTIFIER:
 							{
-							setState(115);
+							setState(117);
 							((SophiaClassContext)_localctx).v1 = varDeclaration();
 
 							        FieldDeclaration f1 = new FieldDeclaration(((SophiaClassContext)_localctx).v1.varDeclarationRet);
@@ -377,7 +378,7 @@ public class SophiaParser extends Parser {
 							break;
 						case DEF:
 							{
-							setState(118);
+							setState(120);
 							((SophiaClassContext)_localctx).m1 = method();
 							 _localctx.sophiaClassRet.addMethod(((SophiaClassContext)_localctx).m1.methodRet); 
 							}
@@ -387,26 +388,26 @@ public class SophiaParser extends Parser {
 						}
 						} 
 					}
-					setState(125);
+					setState(127);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
 				}
 				{
-				setState(126);
+				setState(128);
 				((SophiaClassContext)_localctx).c = constructor();
 				 _localctx.sophiaClassRet.setConstructor(((SophiaClassContext)_localctx).c.constructorRet); 
 				}
-				setState(137);
+				setState(139);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==DEF || _la==IDENTIFIER) {
 					{
-					setState(135);
+					setState(137);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case IDENTIFIER:
 						{
-						setState(129);
+						setState(131);
 						((SophiaClassContext)_localctx).v2 = varDeclaration();
 
 						        FieldDeclaration f2 = new FieldDeclaration(((SophiaClassContext)_localctx).v2.varDeclarationRet);
@@ -417,7 +418,7 @@ public class SophiaParser extends Parser {
 						break;
 					case DEF:
 						{
-						setState(132);
+						setState(134);
 						((SophiaClassContext)_localctx).m2 = method();
 						 _localctx.sophiaClassRet.addMethod(((SophiaClassContext)_localctx).m2.methodRet); 
 						}
@@ -426,7 +427,7 @@ public class SophiaParser extends Parser {
 						throw new NoViableAltException(this);
 					}
 					}
-					setState(139);
+					setState(141);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -436,17 +437,17 @@ public class SophiaParser extends Parser {
 			case 2:
 				{
 				{
-				setState(148);
+				setState(150);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==DEF || _la==IDENTIFIER) {
 					{
-					setState(146);
+					setState(148);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case IDENTIFIER:
 						{
-						setState(140);
+						setState(142);
 						((SophiaClassContext)_localctx).v2 = varDeclaration();
 
 						        FieldDeclaration f2 = new FieldDeclaration(((SophiaClassContext)_localctx).v2.varDeclarationRet);
@@ -457,7 +458,7 @@ public class SophiaParser extends Parser {
 						break;
 					case DEF:
 						{
-						setState(143);
+						setState(145);
 						((SophiaClassContext)_localctx).m2 = method();
 						 _localctx.sophiaClassRet.addMethod(((SophiaClassContext)_localctx).m2.methodRet); 
 						}
@@ -466,7 +467,7 @@ public class SophiaParser extends Parser {
 						throw new NoViableAltException(this);
 					}
 					}
-					setState(150);
+					setState(152);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -474,8 +475,12 @@ public class SophiaParser extends Parser {
 				}
 				break;
 			}
-			setState(153);
+			setState(155);
 			match(RBRACE);
+
+			        _localctx.sophiaClassRet.getFields().trimToSize();
+			        _localctx.sophiaClassRet.getMethods().trimToSize();
+			    
 			}
 		}
 		catch (RecognitionException re) {
@@ -527,18 +532,18 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(155);
+			setState(158);
 			((VarDeclarationContext)_localctx).id = identifier();
-			setState(156);
+			setState(159);
 			match(COLON);
-			setState(157);
+			setState(160);
 			((VarDeclarationContext)_localctx).t = type();
 
 			        ((VarDeclarationContext)_localctx).varDeclarationRet =  new VarDeclaration(((VarDeclarationContext)_localctx).id.idRet, ((VarDeclarationContext)_localctx).t.typeRet);
 			        _localctx.varDeclarationRet.setLine(((VarDeclarationContext)_localctx).id.line);
 			        ((VarDeclarationContext)_localctx).line =  ((VarDeclarationContext)_localctx).id.line;
 			    
-			setState(159);
+			setState(162);
 			match(SEMICOLLON);
 			}
 		}
@@ -604,9 +609,9 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(161);
+			setState(164);
 			((MethodContext)_localctx).d = match(DEF);
-			setState(167);
+			setState(170);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case FUNC:
@@ -617,7 +622,7 @@ public class SophiaParser extends Parser {
 			case IDENTIFIER:
 				{
 				{
-				setState(162);
+				setState(165);
 				((MethodContext)_localctx).t = type();
 				 ((MethodContext)_localctx).returnType =  ((MethodContext)_localctx).t.typeRet; 
 				}
@@ -626,37 +631,37 @@ public class SophiaParser extends Parser {
 			case VOID:
 				{
 				{
-				setState(165);
+				setState(168);
 				match(VOID);
-				 ((MethodContext)_localctx).returnType =  new NullType(); 
+				 ((MethodContext)_localctx).returnType =  TypeFactory.NULL; 
 				}
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(169);
+			setState(172);
 			((MethodContext)_localctx).name = identifier();
 
 			        ((MethodContext)_localctx).methodRet =  new MethodDeclaration(((MethodContext)_localctx).name.idRet, _localctx.returnType);
 			        _localctx.methodRet.setLine(((MethodContext)_localctx).d.getLine());
 			    
-			setState(171);
+			setState(174);
 			match(LPAR);
-			setState(172);
+			setState(175);
 			((MethodContext)_localctx).args = methodArguments();
 			 _localctx.methodRet.setArgs(((MethodContext)_localctx).args.argsRet); 
-			setState(174);
+			setState(177);
 			match(RPAR);
-			setState(175);
+			setState(178);
 			match(LBRACE);
-			setState(176);
+			setState(179);
 			((MethodContext)_localctx).body = methodBody();
 
 			        _localctx.methodRet.setLocalVars(((MethodContext)_localctx).body.localVars);
 			        _localctx.methodRet.setBody(((MethodContext)_localctx).body.statements);
 			    
-			setState(178);
+			setState(181);
 			match(RBRACE);
 			}
 		}
@@ -716,30 +721,30 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(180);
+			setState(183);
 			((ConstructorContext)_localctx).d = match(DEF);
-			setState(181);
+			setState(184);
 			((ConstructorContext)_localctx).name = identifier();
 
 			        ((ConstructorContext)_localctx).constructorRet =  new ConstructorDeclaration(((ConstructorContext)_localctx).name.idRet);
 			        _localctx.constructorRet.setLine(((ConstructorContext)_localctx).d.getLine());
 			    
-			setState(183);
+			setState(186);
 			match(LPAR);
-			setState(184);
+			setState(187);
 			((ConstructorContext)_localctx).args = methodArguments();
 			 _localctx.constructorRet.setArgs(((ConstructorContext)_localctx).args.argsRet); 
-			setState(186);
+			setState(189);
 			match(RPAR);
-			setState(187);
+			setState(190);
 			match(LBRACE);
-			setState(188);
+			setState(191);
 			((ConstructorContext)_localctx).body = methodBody();
 
 			        _localctx.constructorRet.setLocalVars(((ConstructorContext)_localctx).body.localVars);
 			        _localctx.constructorRet.setBody(((ConstructorContext)_localctx).body.statements);
 			    
-			setState(190);
+			setState(193);
 			match(RBRACE);
 			}
 		}
@@ -795,34 +800,35 @@ public class SophiaParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			 ((MethodArgumentsContext)_localctx).argsRet =  new ArrayList<>(); 
-			setState(204);
+			setState(207);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==IDENTIFIER) {
 				{
-				setState(193);
+				setState(196);
 				((MethodArgumentsContext)_localctx).v1 = variableWithType();
 				 _localctx.argsRet.add(((MethodArgumentsContext)_localctx).v1.varWithTypeRet); 
-				setState(201);
+				setState(204);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(195);
+					setState(198);
 					match(COMMA);
-					setState(196);
+					setState(199);
 					((MethodArgumentsContext)_localctx).v2 = variableWithType();
 					 _localctx.argsRet.add(((MethodArgumentsContext)_localctx).v2.varWithTypeRet); 
 					}
 					}
-					setState(203);
+					setState(206);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 			}
 
+			 _localctx.argsRet.trimToSize(); 
 			}
 		}
 		catch (RecognitionException re) {
@@ -872,11 +878,11 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(206);
+			setState(211);
 			((VariableWithTypeContext)_localctx).id = identifier();
-			setState(207);
+			setState(212);
 			match(COLON);
-			setState(208);
+			setState(213);
 			((VariableWithTypeContext)_localctx).t = type();
 
 			        ((VariableWithTypeContext)_localctx).varWithTypeRet =  new VarDeclaration(((VariableWithTypeContext)_localctx).id.idRet, ((VariableWithTypeContext)_localctx).t.typeRet);
@@ -936,7 +942,7 @@ public class SophiaParser extends Parser {
 		TypeContext _localctx = new TypeContext(_ctx, getState());
 		enterRule(_localctx, 16, RULE_type);
 		try {
-			setState(223);
+			setState(228);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case BOOLEAN:
@@ -944,7 +950,7 @@ public class SophiaParser extends Parser {
 			case INT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(211);
+				setState(216);
 				((TypeContext)_localctx).p = primitiveDataType();
 				 ((TypeContext)_localctx).typeRet =  ((TypeContext)_localctx).p.primitiveTypeRet; 
 				}
@@ -952,7 +958,7 @@ public class SophiaParser extends Parser {
 			case LIST:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(214);
+				setState(219);
 				((TypeContext)_localctx).l = listType();
 				 ((TypeContext)_localctx).typeRet =  ((TypeContext)_localctx).l.listTypeRet; 
 				}
@@ -960,7 +966,7 @@ public class SophiaParser extends Parser {
 			case FUNC:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(217);
+				setState(222);
 				((TypeContext)_localctx).f = functionPointerType();
 				 ((TypeContext)_localctx).typeRet =  ((TypeContext)_localctx).f.fptrTypeRet; 
 				}
@@ -968,7 +974,7 @@ public class SophiaParser extends Parser {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(220);
+				setState(225);
 				((TypeContext)_localctx).c = classType();
 				 ((TypeContext)_localctx).typeRet =  ((TypeContext)_localctx).c.classTypeRet; 
 				}
@@ -1019,7 +1025,7 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(225);
+			setState(230);
 			((ClassTypeContext)_localctx).id = identifier();
 			 ((ClassTypeContext)_localctx).classTypeRet =  new ClassType(((ClassTypeContext)_localctx).id.idRet); 
 			}
@@ -1077,21 +1083,21 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(228);
+			setState(233);
 			((ListTypeContext)_localctx).l = match(LIST);
-			setState(229);
+			setState(234);
 			match(LPAR);
-			setState(238);
+			setState(243);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT_VALUE:
 				{
 				{
-				setState(230);
+				setState(235);
 				((ListTypeContext)_localctx).num = match(INT_VALUE);
-				setState(231);
+				setState(236);
 				match(SHARP);
-				setState(232);
+				setState(237);
 				((ListTypeContext)_localctx).t = type();
 				 ((ListTypeContext)_localctx).listTypeRet =  new ListType((((ListTypeContext)_localctx).num!=null?Integer.valueOf(((ListTypeContext)_localctx).num.getText()):0), new ListNameType(((ListTypeContext)_localctx).t.typeRet)); 
 				}
@@ -1105,7 +1111,7 @@ public class SophiaParser extends Parser {
 			case IDENTIFIER:
 				{
 				{
-				setState(235);
+				setState(240);
 				((ListTypeContext)_localctx).typesList = listItemsTypes();
 				 ((ListTypeContext)_localctx).listTypeRet =  new ListType(((ListTypeContext)_localctx).typesList.listItemsTypesRet); 
 				}
@@ -1114,7 +1120,7 @@ public class SophiaParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(240);
+			setState(245);
 			match(RPAR);
 			}
 		}
@@ -1170,23 +1176,23 @@ public class SophiaParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			 ((ListItemsTypesContext)_localctx).listItemsTypesRet =  new ArrayList<>(); 
-			setState(243);
+			setState(248);
 			((ListItemsTypesContext)_localctx).l1 = listItemType();
 			 _localctx.listItemsTypesRet.add(((ListItemsTypesContext)_localctx).l1.listItemTypeRet); 
-			setState(251);
+			setState(256);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(245);
+				setState(250);
 				match(COMMA);
-				setState(246);
+				setState(251);
 				((ListItemsTypesContext)_localctx).l2 = listItemType();
 				 _localctx.listItemsTypesRet.add(((ListItemsTypesContext)_localctx).l2.listItemTypeRet); 
 				}
 				}
-				setState(253);
+				setState(258);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1236,13 +1242,13 @@ public class SophiaParser extends Parser {
 		ListItemTypeContext _localctx = new ListItemTypeContext(_ctx, getState());
 		enterRule(_localctx, 24, RULE_listItemType);
 		try {
-			setState(260);
+			setState(265);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(254);
+				setState(259);
 				((ListItemTypeContext)_localctx).v = variableWithType();
 				 ((ListItemTypeContext)_localctx).listItemTypeRet =  new ListNameType(((ListItemTypeContext)_localctx).v.varWithTypeRet); 
 				}
@@ -1250,7 +1256,7 @@ public class SophiaParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(257);
+				setState(262);
 				((ListItemTypeContext)_localctx).t = type();
 				 ((ListItemTypeContext)_localctx).listItemTypeRet =  new ListNameType(((ListItemTypeContext)_localctx).t.typeRet); 
 				}
@@ -1311,17 +1317,17 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(262);
+			setState(267);
 			match(FUNC);
 			 ((FunctionPointerTypeContext)_localctx).fptrTypeRet =  new FptrType(); 
-			setState(264);
+			setState(269);
 			match(LESS_THAN);
-			setState(270);
+			setState(275);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case VOID:
 				{
-				setState(265);
+				setState(270);
 				match(VOID);
 				 _localctx.fptrTypeRet.setArgumentsTypes(new ArrayList<Type>()); 
 				}
@@ -1333,7 +1339,7 @@ public class SophiaParser extends Parser {
 			case LIST:
 			case IDENTIFIER:
 				{
-				setState(267);
+				setState(272);
 				((FunctionPointerTypeContext)_localctx).types = typesWithComma();
 				 _localctx.fptrTypeRet.setArgumentsTypes(((FunctionPointerTypeContext)_localctx).types.typesWithCommaRet); 
 				}
@@ -1341,16 +1347,16 @@ public class SophiaParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(272);
+			setState(277);
 			match(ARROW);
-			setState(278);
+			setState(283);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case VOID:
 				{
-				setState(273);
+				setState(278);
 				match(VOID);
-				 _localctx.fptrTypeRet.setReturnType(new NullType()); 
+				 _localctx.fptrTypeRet.setReturnType(TypeFactory.NULL); 
 				}
 				break;
 			case FUNC:
@@ -1360,7 +1366,7 @@ public class SophiaParser extends Parser {
 			case LIST:
 			case IDENTIFIER:
 				{
-				setState(275);
+				setState(280);
 				((FunctionPointerTypeContext)_localctx).t = type();
 				 _localctx.fptrTypeRet.setReturnType(((FunctionPointerTypeContext)_localctx).t.typeRet); 
 				}
@@ -1368,7 +1374,7 @@ public class SophiaParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(280);
+			setState(285);
 			match(GREATER_THAN);
 			}
 		}
@@ -1424,23 +1430,23 @@ public class SophiaParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			 ((TypesWithCommaContext)_localctx).typesWithCommaRet =  new ArrayList<>(); 
-			setState(283);
+			setState(288);
 			((TypesWithCommaContext)_localctx).t1 = type();
 			 _localctx.typesWithCommaRet.add(((TypesWithCommaContext)_localctx).t1.typeRet); 
-			setState(291);
+			setState(296);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(285);
+				setState(290);
 				match(COMMA);
-				setState(286);
+				setState(291);
 				((TypesWithCommaContext)_localctx).t2 = type();
 				 _localctx.typesWithCommaRet.add(((TypesWithCommaContext)_localctx).t2.typeRet); 
 				}
 				}
-				setState(293);
+				setState(298);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1485,31 +1491,31 @@ public class SophiaParser extends Parser {
 		PrimitiveDataTypeContext _localctx = new PrimitiveDataTypeContext(_ctx, getState());
 		enterRule(_localctx, 30, RULE_primitiveDataType);
 		try {
-			setState(300);
+			setState(305);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(294);
+				setState(299);
 				match(INT);
-				 ((PrimitiveDataTypeContext)_localctx).primitiveTypeRet =  new IntType(); 
+				 ((PrimitiveDataTypeContext)_localctx).primitiveTypeRet =  TypeFactory.INT; 
 				}
 				break;
 			case STRING:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(296);
+				setState(301);
 				match(STRING);
-				 ((PrimitiveDataTypeContext)_localctx).primitiveTypeRet =  new StringType(); 
+				 ((PrimitiveDataTypeContext)_localctx).primitiveTypeRet =  TypeFactory.STRING; 
 				}
 				break;
 			case BOOLEAN:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(298);
+				setState(303);
 				match(BOOLEAN);
-				 ((PrimitiveDataTypeContext)_localctx).primitiveTypeRet =  new BoolType(); 
+				 ((PrimitiveDataTypeContext)_localctx).primitiveTypeRet =  TypeFactory.BOOL; 
 				}
 				break;
 			default:
@@ -1575,38 +1581,42 @@ public class SophiaParser extends Parser {
 			        ((MethodBodyContext)_localctx).localVars =  new ArrayList<>();
 			        ((MethodBodyContext)_localctx).statements =  new ArrayList<>();
 			    
-			setState(308);
+			setState(313);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(303);
+					setState(308);
 					((MethodBodyContext)_localctx).v = varDeclaration();
 					 _localctx.localVars.add(((MethodBodyContext)_localctx).v.varDeclarationRet); 
 					}
 					} 
 				}
-				setState(310);
+				setState(315);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
 			}
-			setState(316);
+			setState(321);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << PRINT) | (1L << NEW) | (1L << CONTINUE) | (1L << BREAK) | (1L << RETURN) | (1L << FOREACH) | (1L << FOR) | (1L << IF) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << THIS) | (1L << MINUS) | (1L << NOT) | (1L << INCREMENT) | (1L << DECREMENT) | (1L << LPAR) | (1L << LBRACK) | (1L << LBRACE) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << STRING_VALUE))) != 0)) {
 				{
 				{
-				setState(311);
+				setState(316);
 				((MethodBodyContext)_localctx).s = statement();
 				 _localctx.statements.add(((MethodBodyContext)_localctx).s.sRet); 
 				}
 				}
-				setState(318);
+				setState(323);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
+
+			        _localctx.localVars.trimToSize();
+			        _localctx.statements.trimToSize();
+			    
 			}
 		}
 		catch (RecognitionException re) {
@@ -1681,13 +1691,13 @@ public class SophiaParser extends Parser {
 		StatementContext _localctx = new StatementContext(_ctx, getState());
 		enterRule(_localctx, 34, RULE_statement);
 		try {
-			setState(346);
+			setState(353);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(319);
+				setState(326);
 				((StatementContext)_localctx).f1 = forStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).f1.forStmtRet; 
 				}
@@ -1695,7 +1705,7 @@ public class SophiaParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(322);
+				setState(329);
 				((StatementContext)_localctx).f2 = foreachStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).f2.foreachStmtRet; 
 				}
@@ -1703,7 +1713,7 @@ public class SophiaParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(325);
+				setState(332);
 				((StatementContext)_localctx).i = ifStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).i.ifStmtRet; 
 				}
@@ -1711,7 +1721,7 @@ public class SophiaParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(328);
+				setState(335);
 				((StatementContext)_localctx).a = assignmentStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).a.assignStmtRet; 
 				}
@@ -1719,7 +1729,7 @@ public class SophiaParser extends Parser {
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(331);
+				setState(338);
 				((StatementContext)_localctx).p = printStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).p.printStmtRet; 
 				}
@@ -1727,7 +1737,7 @@ public class SophiaParser extends Parser {
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(334);
+				setState(341);
 				((StatementContext)_localctx).c = continueBreakStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).c.continueBreakRet; 
 				}
@@ -1735,7 +1745,7 @@ public class SophiaParser extends Parser {
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(337);
+				setState(344);
 				((StatementContext)_localctx).m = methodCallStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).m.methodCallStmtRet; 
 				}
@@ -1743,7 +1753,7 @@ public class SophiaParser extends Parser {
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(340);
+				setState(347);
 				((StatementContext)_localctx).r = returnStatement();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).r.returnStmtRet; 
 				}
@@ -1751,7 +1761,7 @@ public class SophiaParser extends Parser {
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(343);
+				setState(350);
 				((StatementContext)_localctx).b = block();
 				 ((StatementContext)_localctx).sRet =  ((StatementContext)_localctx).b.blockRet; 
 				}
@@ -1807,29 +1817,30 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(348);
+			setState(355);
 			((BlockContext)_localctx).l = match(LBRACE);
 
 			        ((BlockContext)_localctx).blockRet =  new BlockStmt();
 			        _localctx.blockRet.setLine(((BlockContext)_localctx).l.getLine());
 			    
-			setState(355);
+			setState(362);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << PRINT) | (1L << NEW) | (1L << CONTINUE) | (1L << BREAK) | (1L << RETURN) | (1L << FOREACH) | (1L << FOR) | (1L << IF) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << THIS) | (1L << MINUS) | (1L << NOT) | (1L << INCREMENT) | (1L << DECREMENT) | (1L << LPAR) | (1L << LBRACK) | (1L << LBRACE) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << STRING_VALUE))) != 0)) {
 				{
 				{
-				setState(350);
+				setState(357);
 				((BlockContext)_localctx).s = statement();
 				 _localctx.blockRet.addStatement(((BlockContext)_localctx).s.sRet); 
 				}
 				}
-				setState(357);
+				setState(364);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(358);
+			setState(365);
 			match(RBRACE);
+			 _localctx.blockRet.getStatements().trimToSize(); 
 			}
 		}
 		catch (RecognitionException re) {
@@ -1875,10 +1886,10 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(360);
+			setState(368);
 			((AssignmentStatementContext)_localctx).a = assignment();
 			 ((AssignmentStatementContext)_localctx).assignStmtRet =  ((AssignmentStatementContext)_localctx).a.assignmentRet; 
-			setState(362);
+			setState(370);
 			match(SEMICOLLON);
 			}
 		}
@@ -1930,11 +1941,11 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(364);
+			setState(372);
 			((AssignmentContext)_localctx).left = orExpression();
-			setState(365);
+			setState(373);
 			((AssignmentContext)_localctx).a = match(ASSIGN);
-			setState(366);
+			setState(374);
 			((AssignmentContext)_localctx).right = expression();
 
 			        ((AssignmentContext)_localctx).assignmentRet =  new AssignmentStmt(((AssignmentContext)_localctx).left.orExprRet, ((AssignmentContext)_localctx).right.exprRet);
@@ -1989,19 +2000,19 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(369);
+			setState(377);
 			((PrintStatementContext)_localctx).p = match(PRINT);
-			setState(370);
+			setState(378);
 			match(LPAR);
-			setState(371);
+			setState(379);
 			((PrintStatementContext)_localctx).e = expression();
 
 			        ((PrintStatementContext)_localctx).printStmtRet =  new PrintStmt(((PrintStatementContext)_localctx).e.exprRet);
 			        _localctx.printStmtRet.setLine(((PrintStatementContext)_localctx).p.getLine());
 			    
-			setState(373);
+			setState(381);
 			match(RPAR);
-			setState(374);
+			setState(382);
 			match(SEMICOLLON);
 			}
 		}
@@ -2051,18 +2062,18 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(376);
+			setState(384);
 			((ReturnStatementContext)_localctx).r = match(RETURN);
 
 			        ((ReturnStatementContext)_localctx).returnStmtRet =  new ReturnStmt();
 			        _localctx.returnStmtRet.setLine(((ReturnStatementContext)_localctx).r.getLine());
 			    
-			setState(381);
+			setState(389);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << THIS) | (1L << MINUS) | (1L << NOT) | (1L << INCREMENT) | (1L << DECREMENT) | (1L << LPAR) | (1L << LBRACK) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << STRING_VALUE))) != 0)) {
 				{
-				setState(378);
+				setState(386);
 				((ReturnStatementContext)_localctx).e = expression();
 				 _localctx.returnStmtRet.setReturnedExpr(((ReturnStatementContext)_localctx).e.exprRet); 
 				}
@@ -2075,7 +2086,7 @@ public class SophiaParser extends Parser {
 			            _localctx.returnStmtRet.setReturnedExpr(newNullValue);
 			        }
 			    
-			setState(384);
+			setState(392);
 			match(SEMICOLLON);
 			}
 		}
@@ -2122,10 +2133,10 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(386);
+			setState(394);
 			((MethodCallStatementContext)_localctx).m = methodCall();
 			 ((MethodCallStatementContext)_localctx).methodCallStmtRet =  ((MethodCallStatementContext)_localctx).m.methodCallRet; 
-			setState(388);
+			setState(396);
 			match(SEMICOLLON);
 			}
 		}
@@ -2142,16 +2153,55 @@ public class SophiaParser extends Parser {
 
 	public static class MethodCallContext extends ParserRuleContext {
 		public Statement methodCallRet;
-		public AccessExpressionContext ae;
+		public Expression instance;
+		public OtherExpressionContext oe;
+		public Token l1;
+		public MethodCallArgumentsContext m1;
+		public IdentifierContext i;
+		public Token l2;
+		public ExpressionContext index;
 		public Token l;
 		public MethodCallArgumentsContext m2;
-		public AccessExpressionContext accessExpression() {
-			return getRuleContext(AccessExpressionContext.class,0);
+		public OtherExpressionContext otherExpression() {
+			return getRuleContext(OtherExpressionContext.class,0);
 		}
-		public TerminalNode RPAR() { return getToken(SophiaParser.RPAR, 0); }
-		public TerminalNode LPAR() { return getToken(SophiaParser.LPAR, 0); }
-		public MethodCallArgumentsContext methodCallArguments() {
-			return getRuleContext(MethodCallArgumentsContext.class,0);
+		public List<TerminalNode> RPAR() { return getTokens(SophiaParser.RPAR); }
+		public TerminalNode RPAR(int i) {
+			return getToken(SophiaParser.RPAR, i);
+		}
+		public List<TerminalNode> LPAR() { return getTokens(SophiaParser.LPAR); }
+		public TerminalNode LPAR(int i) {
+			return getToken(SophiaParser.LPAR, i);
+		}
+		public List<MethodCallArgumentsContext> methodCallArguments() {
+			return getRuleContexts(MethodCallArgumentsContext.class);
+		}
+		public MethodCallArgumentsContext methodCallArguments(int i) {
+			return getRuleContext(MethodCallArgumentsContext.class,i);
+		}
+		public List<TerminalNode> DOT() { return getTokens(SophiaParser.DOT); }
+		public TerminalNode DOT(int i) {
+			return getToken(SophiaParser.DOT, i);
+		}
+		public List<TerminalNode> RBRACK() { return getTokens(SophiaParser.RBRACK); }
+		public TerminalNode RBRACK(int i) {
+			return getToken(SophiaParser.RBRACK, i);
+		}
+		public List<IdentifierContext> identifier() {
+			return getRuleContexts(IdentifierContext.class);
+		}
+		public IdentifierContext identifier(int i) {
+			return getRuleContext(IdentifierContext.class,i);
+		}
+		public List<TerminalNode> LBRACK() { return getTokens(SophiaParser.LBRACK); }
+		public TerminalNode LBRACK(int i) {
+			return getToken(SophiaParser.LBRACK, i);
+		}
+		public List<ExpressionContext> expression() {
+			return getRuleContexts(ExpressionContext.class);
+		}
+		public ExpressionContext expression(int i) {
+			return getRuleContext(ExpressionContext.class,i);
 		}
 		public MethodCallContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -2176,22 +2226,88 @@ public class SophiaParser extends Parser {
 		MethodCallContext _localctx = new MethodCallContext(_ctx, getState());
 		enterRule(_localctx, 48, RULE_methodCall);
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(390);
-			((MethodCallContext)_localctx).ae = accessExpression();
+			setState(398);
+			((MethodCallContext)_localctx).oe = otherExpression();
+			 ((MethodCallContext)_localctx).instance =  ((MethodCallContext)_localctx).oe.otherExprRet; 
+			setState(418);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,26,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					setState(416);
+					_errHandler.sync(this);
+					switch (_input.LA(1)) {
+					case LPAR:
+						{
+						{
+						setState(400);
+						((MethodCallContext)_localctx).l1 = match(LPAR);
+						setState(401);
+						((MethodCallContext)_localctx).m1 = methodCallArguments();
+
+						        ((MethodCallContext)_localctx).instance =  new MethodCall(_localctx.instance, ((MethodCallContext)_localctx).m1.methodCallArgsRet);
+						        _localctx.instance.setLine((((MethodCallContext)_localctx).l1!=null?((MethodCallContext)_localctx).l1.getLine():0));
+						    
+						setState(403);
+						match(RPAR);
+						}
+						}
+						break;
+					case DOT:
+						{
+						{
+						setState(405);
+						match(DOT);
+						setState(406);
+						((MethodCallContext)_localctx).i = identifier();
+						}
+
+						        ((MethodCallContext)_localctx).instance =  new ObjectOrListMemberAccess(_localctx.instance, ((MethodCallContext)_localctx).i.idRet);
+						        _localctx.instance.setLine(((MethodCallContext)_localctx).i.line);
+						    
+						}
+						break;
+					case LBRACK:
+						{
+						{
+						setState(410);
+						((MethodCallContext)_localctx).l2 = match(LBRACK);
+						setState(411);
+						((MethodCallContext)_localctx).index = expression();
+						setState(412);
+						match(RBRACK);
+						}
+
+						        ((MethodCallContext)_localctx).instance =  new ListAccessByIndex(_localctx.instance, ((MethodCallContext)_localctx).index.exprRet);
+						        _localctx.instance.setLine(((MethodCallContext)_localctx).l2.getLine());
+						    
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					} 
+				}
+				setState(420);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,26,_ctx);
+			}
 			{
-			setState(391);
+			setState(421);
 			((MethodCallContext)_localctx).l = match(LPAR);
-			setState(392);
+			setState(422);
 			((MethodCallContext)_localctx).m2 = methodCallArguments();
 
-			        MethodCall methodCall = new MethodCall(((MethodCallContext)_localctx).ae.accessExprRet, ((MethodCallContext)_localctx).m2.methodCallArgsRet);
+			        MethodCall methodCall = new MethodCall(_localctx.instance, ((MethodCallContext)_localctx).m2.methodCallArgsRet);
 			        methodCall.setLine((((MethodCallContext)_localctx).l!=null?((MethodCallContext)_localctx).l.getLine():0));
 			        ((MethodCallContext)_localctx).methodCallRet =  new MethodCallStmt(methodCall);
 			        _localctx.methodCallRet.setLine((((MethodCallContext)_localctx).l!=null?((MethodCallContext)_localctx).l.getLine():0));
 			    
-			setState(394);
+			setState(424);
 			match(RPAR);
 			}
 			}
@@ -2248,34 +2364,35 @@ public class SophiaParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			 ((MethodCallArgumentsContext)_localctx).methodCallArgsRet =  new ArrayList<>(); 
-			setState(408);
+			setState(438);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << THIS) | (1L << MINUS) | (1L << NOT) | (1L << INCREMENT) | (1L << DECREMENT) | (1L << LPAR) | (1L << LBRACK) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << STRING_VALUE))) != 0)) {
 				{
-				setState(397);
+				setState(427);
 				((MethodCallArgumentsContext)_localctx).e1 = expression();
 				 _localctx.methodCallArgsRet.add(((MethodCallArgumentsContext)_localctx).e1.exprRet); 
-				setState(405);
+				setState(435);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(399);
+					setState(429);
 					match(COMMA);
-					setState(400);
+					setState(430);
 					((MethodCallArgumentsContext)_localctx).e2 = expression();
 					 _localctx.methodCallArgsRet.add(((MethodCallArgumentsContext)_localctx).e2.exprRet); 
 					}
 					}
-					setState(407);
+					setState(437);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 			}
 
+			 _localctx.methodCallArgsRet.trimToSize(); 
 			}
 		}
 		catch (RecognitionException re) {
@@ -2321,12 +2438,12 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(414);
+			setState(446);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case BREAK:
 				{
-				setState(410);
+				setState(442);
 				((ContinueBreakStatementContext)_localctx).b = match(BREAK);
 
 				        ((ContinueBreakStatementContext)_localctx).continueBreakRet =  new BreakStmt();
@@ -2336,7 +2453,7 @@ public class SophiaParser extends Parser {
 				break;
 			case CONTINUE:
 				{
-				setState(412);
+				setState(444);
 				((ContinueBreakStatementContext)_localctx).c = match(CONTINUE);
 
 				        ((ContinueBreakStatementContext)_localctx).continueBreakRet =  new ContinueStmt();
@@ -2347,7 +2464,7 @@ public class SophiaParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(416);
+			setState(448);
 			match(SEMICOLLON);
 			}
 		}
@@ -2414,54 +2531,54 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(418);
+			setState(450);
 			((ForStatementContext)_localctx).f = match(FOR);
 
 			        ((ForStatementContext)_localctx).forStmtRet =  new ForStmt();
 			        _localctx.forStmtRet.setLine(((ForStatementContext)_localctx).f.getLine());
 			    
-			setState(420);
+			setState(452);
 			match(LPAR);
-			setState(424);
+			setState(456);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << THIS) | (1L << MINUS) | (1L << NOT) | (1L << INCREMENT) | (1L << DECREMENT) | (1L << LPAR) | (1L << LBRACK) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << STRING_VALUE))) != 0)) {
 				{
-				setState(421);
+				setState(453);
 				((ForStatementContext)_localctx).init = assignment();
 				 _localctx.forStmtRet.setInitialize(((ForStatementContext)_localctx).init.assignmentRet); 
 				}
 			}
 
-			setState(426);
+			setState(458);
 			match(SEMICOLLON);
-			setState(430);
+			setState(462);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << THIS) | (1L << MINUS) | (1L << NOT) | (1L << INCREMENT) | (1L << DECREMENT) | (1L << LPAR) | (1L << LBRACK) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << STRING_VALUE))) != 0)) {
 				{
-				setState(427);
+				setState(459);
 				((ForStatementContext)_localctx).cond = expression();
 				 _localctx.forStmtRet.setCondition(((ForStatementContext)_localctx).cond.exprRet); 
 				}
 			}
 
-			setState(432);
+			setState(464);
 			match(SEMICOLLON);
-			setState(436);
+			setState(468);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << NEW) | (1L << NULL) | (1L << TRUE) | (1L << FALSE) | (1L << THIS) | (1L << MINUS) | (1L << NOT) | (1L << INCREMENT) | (1L << DECREMENT) | (1L << LPAR) | (1L << LBRACK) | (1L << INT_VALUE) | (1L << IDENTIFIER) | (1L << STRING_VALUE))) != 0)) {
 				{
-				setState(433);
+				setState(465);
 				((ForStatementContext)_localctx).update = assignment();
 				 _localctx.forStmtRet.setUpdate(((ForStatementContext)_localctx).update.assignmentRet); 
 				}
 			}
 
-			setState(438);
+			setState(470);
 			match(RPAR);
-			setState(439);
+			setState(471);
 			((ForStatementContext)_localctx).body = statement();
 			 _localctx.forStmtRet.setBody(((ForStatementContext)_localctx).body.sRet); 
 			}
@@ -2521,23 +2638,23 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(442);
+			setState(474);
 			((ForeachStatementContext)_localctx).f = match(FOREACH);
-			setState(443);
+			setState(475);
 			match(LPAR);
-			setState(444);
+			setState(476);
 			((ForeachStatementContext)_localctx).id = identifier();
-			setState(445);
+			setState(477);
 			match(IN);
-			setState(446);
+			setState(478);
 			((ForeachStatementContext)_localctx).list = expression();
 
 			        ((ForeachStatementContext)_localctx).foreachStmtRet =  new ForeachStmt(((ForeachStatementContext)_localctx).id.idRet, ((ForeachStatementContext)_localctx).list.exprRet);
 			        _localctx.foreachStmtRet.setLine(((ForeachStatementContext)_localctx).f.getLine());
 			    
-			setState(448);
+			setState(480);
 			match(RPAR);
-			setState(449);
+			setState(481);
 			((ForeachStatementContext)_localctx).body = statement();
 			 _localctx.foreachStmtRet.setBody(((ForeachStatementContext)_localctx).body.sRet); 
 			}
@@ -2597,28 +2714,28 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(452);
+			setState(484);
 			((IfStatementContext)_localctx).i = match(IF);
-			setState(453);
+			setState(485);
 			match(LPAR);
-			setState(454);
+			setState(486);
 			((IfStatementContext)_localctx).e = expression();
-			setState(455);
+			setState(487);
 			match(RPAR);
-			setState(456);
+			setState(488);
 			((IfStatementContext)_localctx).thenBody = statement();
 
 			        ((IfStatementContext)_localctx).ifStmtRet =  new ConditionalStmt(((IfStatementContext)_localctx).e.exprRet, ((IfStatementContext)_localctx).thenBody.sRet);
 			        _localctx.ifStmtRet.setLine(((IfStatementContext)_localctx).i.getLine());
 			    
-			setState(462);
+			setState(494);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
 			case 1:
 				{
-				setState(458);
+				setState(490);
 				match(ELSE);
-				setState(459);
+				setState(491);
 				((IfStatementContext)_localctx).elseBody = statement();
 				 _localctx.ifStmtRet.setElseBody(((IfStatementContext)_localctx).elseBody.sRet); 
 				}
@@ -2675,17 +2792,17 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(464);
+			setState(496);
 			((ExpressionContext)_localctx).oe = orExpression();
 			 ((ExpressionContext)_localctx).exprRet =  ((ExpressionContext)_localctx).oe.orExprRet; 
-			setState(470);
+			setState(502);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ASSIGN) {
 				{
-				setState(466);
+				setState(498);
 				((ExpressionContext)_localctx).a = match(ASSIGN);
-				setState(467);
+				setState(499);
 				((ExpressionContext)_localctx).e = expression();
 
 				        BinaryOperator op = BinaryOperator.assign;
@@ -2749,18 +2866,18 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(472);
+			setState(504);
 			((OrExpressionContext)_localctx).ael = andExpression();
 			 ((OrExpressionContext)_localctx).orExprRet =  ((OrExpressionContext)_localctx).ael.andExprRet; 
-			setState(480);
+			setState(512);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==OR) {
 				{
 				{
-				setState(474);
+				setState(506);
 				((OrExpressionContext)_localctx).o = match(OR);
-				setState(475);
+				setState(507);
 				((OrExpressionContext)_localctx).aer = andExpression();
 
 				        BinaryOperator op = BinaryOperator.or;
@@ -2769,7 +2886,7 @@ public class SophiaParser extends Parser {
 				    
 				}
 				}
-				setState(482);
+				setState(514);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2827,18 +2944,18 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(483);
+			setState(515);
 			((AndExpressionContext)_localctx).eel = equalityExpression();
 			 ((AndExpressionContext)_localctx).andExprRet =  ((AndExpressionContext)_localctx).eel.eqExprRet; 
-			setState(491);
+			setState(523);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AND) {
 				{
 				{
-				setState(485);
+				setState(517);
 				((AndExpressionContext)_localctx).a = match(AND);
-				setState(486);
+				setState(518);
 				((AndExpressionContext)_localctx).ee2 = equalityExpression();
 
 				        BinaryOperator op = BinaryOperator.and;
@@ -2847,7 +2964,7 @@ public class SophiaParser extends Parser {
 				    
 				}
 				}
-				setState(493);
+				setState(525);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2912,21 +3029,21 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(494);
+			setState(526);
 			((EqualityExpressionContext)_localctx).rel = relationalExpression();
 			 ((EqualityExpressionContext)_localctx).eqExprRet =  ((EqualityExpressionContext)_localctx).rel.relExprRet; 
-			setState(507);
+			setState(539);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==NOT_EQUAL || _la==EQUAL) {
 				{
 				{
-				setState(500);
+				setState(532);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case EQUAL:
 					{
-					setState(496);
+					setState(528);
 					((EqualityExpressionContext)_localctx).eq = match(EQUAL);
 
 					        ((EqualityExpressionContext)_localctx).op =  BinaryOperator.eq;
@@ -2936,7 +3053,7 @@ public class SophiaParser extends Parser {
 					break;
 				case NOT_EQUAL:
 					{
-					setState(498);
+					setState(530);
 					((EqualityExpressionContext)_localctx).neq = match(NOT_EQUAL);
 
 					        ((EqualityExpressionContext)_localctx).op =  BinaryOperator.neq;
@@ -2947,7 +3064,7 @@ public class SophiaParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(502);
+				setState(534);
 				((EqualityExpressionContext)_localctx).rer = relationalExpression();
 
 				        ((EqualityExpressionContext)_localctx).eqExprRet =  new BinaryExpression(_localctx.eqExprRet, ((EqualityExpressionContext)_localctx).rer.relExprRet, _localctx.op);
@@ -2955,7 +3072,7 @@ public class SophiaParser extends Parser {
 				    
 				}
 				}
-				setState(509);
+				setState(541);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3020,21 +3137,21 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(510);
+			setState(542);
 			((RelationalExpressionContext)_localctx).ael = additiveExpression();
 			 ((RelationalExpressionContext)_localctx).relExprRet =  ((RelationalExpressionContext)_localctx).ael.addExprRet; 
-			setState(523);
+			setState(555);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==GREATER_THAN || _la==LESS_THAN) {
 				{
 				{
-				setState(516);
+				setState(548);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case GREATER_THAN:
 					{
-					setState(512);
+					setState(544);
 					((RelationalExpressionContext)_localctx).gt = match(GREATER_THAN);
 
 					        ((RelationalExpressionContext)_localctx).op =  BinaryOperator.gt;
@@ -3044,7 +3161,7 @@ public class SophiaParser extends Parser {
 					break;
 				case LESS_THAN:
 					{
-					setState(514);
+					setState(546);
 					((RelationalExpressionContext)_localctx).lt = match(LESS_THAN);
 
 					        ((RelationalExpressionContext)_localctx).op =  BinaryOperator.lt;
@@ -3055,7 +3172,7 @@ public class SophiaParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(518);
+				setState(550);
 				((RelationalExpressionContext)_localctx).aer = additiveExpression();
 
 				        ((RelationalExpressionContext)_localctx).relExprRet =  new BinaryExpression(_localctx.relExprRet, ((RelationalExpressionContext)_localctx).aer.addExprRet, _localctx.op);
@@ -3063,7 +3180,7 @@ public class SophiaParser extends Parser {
 				    
 				}
 				}
-				setState(525);
+				setState(557);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3128,21 +3245,21 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(526);
+			setState(558);
 			((AdditiveExpressionContext)_localctx).mel = multiplicativeExpression();
 			 ((AdditiveExpressionContext)_localctx).addExprRet =  ((AdditiveExpressionContext)_localctx).mel.multExprRet; 
-			setState(539);
+			setState(571);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==PLUS || _la==MINUS) {
 				{
 				{
-				setState(532);
+				setState(564);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case PLUS:
 					{
-					setState(528);
+					setState(560);
 					((AdditiveExpressionContext)_localctx).add = match(PLUS);
 
 					        ((AdditiveExpressionContext)_localctx).op =  BinaryOperator.add;
@@ -3152,7 +3269,7 @@ public class SophiaParser extends Parser {
 					break;
 				case MINUS:
 					{
-					setState(530);
+					setState(562);
 					((AdditiveExpressionContext)_localctx).sub = match(MINUS);
 
 					        ((AdditiveExpressionContext)_localctx).op =  BinaryOperator.sub;
@@ -3163,7 +3280,7 @@ public class SophiaParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(534);
+				setState(566);
 				((AdditiveExpressionContext)_localctx).mer = multiplicativeExpression();
 
 				        ((AdditiveExpressionContext)_localctx).addExprRet =  new BinaryExpression(_localctx.addExprRet, ((AdditiveExpressionContext)_localctx).mer.multExprRet, _localctx.op);
@@ -3171,7 +3288,7 @@ public class SophiaParser extends Parser {
 				    
 				}
 				}
-				setState(541);
+				setState(573);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3241,21 +3358,21 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(542);
+			setState(574);
 			((MultiplicativeExpressionContext)_localctx).pel = preUnaryExpression();
 			 ((MultiplicativeExpressionContext)_localctx).multExprRet =  ((MultiplicativeExpressionContext)_localctx).pel.preUnaryExprRet; 
-			setState(557);
+			setState(589);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << MULT) | (1L << DIVIDE) | (1L << MOD))) != 0)) {
 				{
 				{
-				setState(550);
+				setState(582);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case MULT:
 					{
-					setState(544);
+					setState(576);
 					((MultiplicativeExpressionContext)_localctx).mult = match(MULT);
 
 					        ((MultiplicativeExpressionContext)_localctx).op =  BinaryOperator.mult;
@@ -3265,7 +3382,7 @@ public class SophiaParser extends Parser {
 					break;
 				case DIVIDE:
 					{
-					setState(546);
+					setState(578);
 					((MultiplicativeExpressionContext)_localctx).div = match(DIVIDE);
 
 					        ((MultiplicativeExpressionContext)_localctx).op =  BinaryOperator.div;
@@ -3275,7 +3392,7 @@ public class SophiaParser extends Parser {
 					break;
 				case MOD:
 					{
-					setState(548);
+					setState(580);
 					((MultiplicativeExpressionContext)_localctx).mod = match(MOD);
 
 					        ((MultiplicativeExpressionContext)_localctx).op =  BinaryOperator.mod;
@@ -3286,7 +3403,7 @@ public class SophiaParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(552);
+				setState(584);
 				((MultiplicativeExpressionContext)_localctx).per = preUnaryExpression();
 
 				        ((MultiplicativeExpressionContext)_localctx).multExprRet =  new BinaryExpression(_localctx.multExprRet, ((MultiplicativeExpressionContext)_localctx).per.preUnaryExprRet, _localctx.op);
@@ -3294,7 +3411,7 @@ public class SophiaParser extends Parser {
 				    
 				}
 				}
-				setState(559);
+				setState(591);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3354,7 +3471,7 @@ public class SophiaParser extends Parser {
 		PreUnaryExpressionContext _localctx = new PreUnaryExpressionContext(_ctx, getState());
 		enterRule(_localctx, 74, RULE_preUnaryExpression);
 		try {
-			setState(576);
+			setState(608);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case MINUS:
@@ -3363,12 +3480,12 @@ public class SophiaParser extends Parser {
 			case DECREMENT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(568);
+				setState(600);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case NOT:
 					{
-					setState(560);
+					setState(592);
 					((PreUnaryExpressionContext)_localctx).not = match(NOT);
 
 					        ((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.not;
@@ -3378,7 +3495,7 @@ public class SophiaParser extends Parser {
 					break;
 				case MINUS:
 					{
-					setState(562);
+					setState(594);
 					((PreUnaryExpressionContext)_localctx).minus = match(MINUS);
 
 					        ((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.minus;
@@ -3388,7 +3505,7 @@ public class SophiaParser extends Parser {
 					break;
 				case INCREMENT:
 					{
-					setState(564);
+					setState(596);
 					((PreUnaryExpressionContext)_localctx).preinc = match(INCREMENT);
 
 					        ((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.preinc;
@@ -3398,7 +3515,7 @@ public class SophiaParser extends Parser {
 					break;
 				case DECREMENT:
 					{
-					setState(566);
+					setState(598);
 					((PreUnaryExpressionContext)_localctx).predec = match(DECREMENT);
 
 					        ((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.predec;
@@ -3409,7 +3526,7 @@ public class SophiaParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(570);
+				setState(602);
 				((PreUnaryExpressionContext)_localctx).pre = preUnaryExpression();
 
 				        ((PreUnaryExpressionContext)_localctx).preUnaryExprRet =  new UnaryExpression(((PreUnaryExpressionContext)_localctx).pre.preUnaryExprRet, _localctx.op);
@@ -3429,7 +3546,7 @@ public class SophiaParser extends Parser {
 			case STRING_VALUE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(573);
+				setState(605);
 				((PreUnaryExpressionContext)_localctx).post = postUnaryExpression();
 				 ((PreUnaryExpressionContext)_localctx).preUnaryExprRet =  ((PreUnaryExpressionContext)_localctx).post.postUnaryExprRet; 
 				}
@@ -3484,15 +3601,15 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(578);
+			setState(610);
 			((PostUnaryExpressionContext)_localctx).ae = accessExpression();
 			 ((PostUnaryExpressionContext)_localctx).postUnaryExprRet =  ((PostUnaryExpressionContext)_localctx).ae.accessExprRet; 
-			setState(584);
+			setState(616);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INCREMENT:
 				{
-				setState(580);
+				setState(612);
 				((PostUnaryExpressionContext)_localctx).postinc = match(INCREMENT);
 
 				        UnaryOperator op = UnaryOperator.postinc;
@@ -3503,7 +3620,7 @@ public class SophiaParser extends Parser {
 				break;
 			case DECREMENT:
 				{
-				setState(582);
+				setState(614);
 				((PostUnaryExpressionContext)_localctx).postdec = match(DECREMENT);
 
 				        UnaryOperator op = UnaryOperator.postdec;
@@ -3615,76 +3732,74 @@ public class SophiaParser extends Parser {
 	public final AccessExpressionContext accessExpression() throws RecognitionException {
 		AccessExpressionContext _localctx = new AccessExpressionContext(_ctx, getState());
 		enterRule(_localctx, 78, RULE_accessExpression);
+		int _la;
 		try {
-			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(586);
+			setState(618);
 			((AccessExpressionContext)_localctx).oe = otherExpression();
 			 ((AccessExpressionContext)_localctx).accessExprRet =  ((AccessExpressionContext)_localctx).oe.otherExprRet; 
-			setState(606);
+			setState(638);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,47,_ctx);
-			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
-				if ( _alt==1 ) {
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << LPAR) | (1L << LBRACK) | (1L << DOT))) != 0)) {
+				{
+				setState(636);
+				_errHandler.sync(this);
+				switch (_input.LA(1)) {
+				case LPAR:
 					{
-					setState(604);
-					_errHandler.sync(this);
-					switch (_input.LA(1)) {
-					case LPAR:
-						{
-						{
-						setState(588);
-						((AccessExpressionContext)_localctx).l = match(LPAR);
-						setState(589);
-						((AccessExpressionContext)_localctx).m = methodCallArguments();
+					{
+					setState(620);
+					((AccessExpressionContext)_localctx).l = match(LPAR);
+					setState(621);
+					((AccessExpressionContext)_localctx).m = methodCallArguments();
 
-						        ((AccessExpressionContext)_localctx).accessExprRet =  new MethodCall(_localctx.accessExprRet, ((AccessExpressionContext)_localctx).m.methodCallArgsRet);
-						        _localctx.accessExprRet.setLine((((AccessExpressionContext)_localctx).l!=null?((AccessExpressionContext)_localctx).l.getLine():0));
-						    
-						setState(591);
-						match(RPAR);
-						}
-						}
-						break;
-					case DOT:
-						{
-						{
-						setState(593);
-						match(DOT);
-						setState(594);
-						((AccessExpressionContext)_localctx).i = identifier();
-						}
+					        ((AccessExpressionContext)_localctx).accessExprRet =  new MethodCall(_localctx.accessExprRet, ((AccessExpressionContext)_localctx).m.methodCallArgsRet);
+					        _localctx.accessExprRet.setLine((((AccessExpressionContext)_localctx).l!=null?((AccessExpressionContext)_localctx).l.getLine():0));
+					    
+					setState(623);
+					match(RPAR);
+					}
+					}
+					break;
+				case DOT:
+					{
+					{
+					setState(625);
+					match(DOT);
+					setState(626);
+					((AccessExpressionContext)_localctx).i = identifier();
+					}
 
-						        ((AccessExpressionContext)_localctx).accessExprRet =  new ObjectOrListMemberAccess(_localctx.accessExprRet, ((AccessExpressionContext)_localctx).i.idRet);
-						        _localctx.accessExprRet.setLine(((AccessExpressionContext)_localctx).i.line);
-						    
-						}
-						break;
-					case LBRACK:
-						{
-						{
-						setState(598);
-						((AccessExpressionContext)_localctx).l = match(LBRACK);
-						setState(599);
-						((AccessExpressionContext)_localctx).index = expression();
-						setState(600);
-						match(RBRACK);
-						}
+					        ((AccessExpressionContext)_localctx).accessExprRet =  new ObjectOrListMemberAccess(_localctx.accessExprRet, ((AccessExpressionContext)_localctx).i.idRet);
+					        _localctx.accessExprRet.setLine(((AccessExpressionContext)_localctx).i.line);
+					    
+					}
+					break;
+				case LBRACK:
+					{
+					{
+					setState(630);
+					((AccessExpressionContext)_localctx).l = match(LBRACK);
+					setState(631);
+					((AccessExpressionContext)_localctx).index = expression();
+					setState(632);
+					match(RBRACK);
+					}
 
-						        ((AccessExpressionContext)_localctx).accessExprRet =  new ListAccessByIndex(_localctx.accessExprRet, ((AccessExpressionContext)_localctx).index.exprRet);
-						        _localctx.accessExprRet.setLine(((AccessExpressionContext)_localctx).l.getLine());
-						    
-						}
-						break;
-					default:
-						throw new NoViableAltException(this);
+					        ((AccessExpressionContext)_localctx).accessExprRet =  new ListAccessByIndex(_localctx.accessExprRet, ((AccessExpressionContext)_localctx).index.exprRet);
+					        _localctx.accessExprRet.setLine(((AccessExpressionContext)_localctx).l.getLine());
+					    
 					}
-					} 
+					break;
+				default:
+					throw new NoViableAltException(this);
 				}
-				setState(608);
+				}
+				setState(640);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,47,_ctx);
+				_la = _input.LA(1);
 			}
 			}
 		}
@@ -3744,13 +3859,13 @@ public class SophiaParser extends Parser {
 		OtherExpressionContext _localctx = new OtherExpressionContext(_ctx, getState());
 		enterRule(_localctx, 80, RULE_otherExpression);
 		try {
-			setState(625);
+			setState(657);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case THIS:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(609);
+				setState(641);
 				((OtherExpressionContext)_localctx).t = match(THIS);
 
 				        ((OtherExpressionContext)_localctx).otherExprRet =  new ThisClass();
@@ -3761,7 +3876,7 @@ public class SophiaParser extends Parser {
 			case NEW:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(611);
+				setState(643);
 				((OtherExpressionContext)_localctx).n = newExpression();
 				 ((OtherExpressionContext)_localctx).otherExprRet =  ((OtherExpressionContext)_localctx).n.newExprRet; 
 				}
@@ -3774,7 +3889,7 @@ public class SophiaParser extends Parser {
 			case STRING_VALUE:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(614);
+				setState(646);
 				((OtherExpressionContext)_localctx).v = values();
 				 ((OtherExpressionContext)_localctx).otherExprRet =  ((OtherExpressionContext)_localctx).v.valuesRet; 
 				}
@@ -3782,7 +3897,7 @@ public class SophiaParser extends Parser {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(617);
+				setState(649);
 				((OtherExpressionContext)_localctx).id = identifier();
 				 ((OtherExpressionContext)_localctx).otherExprRet =  ((OtherExpressionContext)_localctx).id.idRet; 
 				}
@@ -3790,13 +3905,13 @@ public class SophiaParser extends Parser {
 			case LPAR:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(620);
+				setState(652);
 				match(LPAR);
 				{
-				setState(621);
+				setState(653);
 				((OtherExpressionContext)_localctx).e = expression();
 				}
-				setState(622);
+				setState(654);
 				match(RPAR);
 				 ((OtherExpressionContext)_localctx).otherExprRet =  ((OtherExpressionContext)_localctx).e.exprRet; 
 				}
@@ -3855,15 +3970,15 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(627);
+			setState(659);
 			((NewExpressionContext)_localctx).n = match(NEW);
-			setState(628);
+			setState(660);
 			((NewExpressionContext)_localctx).c = classType();
-			setState(629);
+			setState(661);
 			match(LPAR);
-			setState(630);
+			setState(662);
 			((NewExpressionContext)_localctx).m = methodCallArguments();
-			setState(631);
+			setState(663);
 			match(RPAR);
 
 			        ((NewExpressionContext)_localctx).newExprRet =  new NewClassInstance(((NewExpressionContext)_localctx).c.classTypeRet, ((NewExpressionContext)_localctx).m.methodCallArgsRet);
@@ -3921,14 +4036,14 @@ public class SophiaParser extends Parser {
 		ValuesContext _localctx = new ValuesContext(_ctx, getState());
 		enterRule(_localctx, 84, RULE_values);
 		try {
-			setState(646);
+			setState(678);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 			case FALSE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(634);
+				setState(666);
 				((ValuesContext)_localctx).b = boolValue();
 
 				        ((ValuesContext)_localctx).valuesRet =  new BoolValue(((ValuesContext)_localctx).b.boolValueRet);
@@ -3939,7 +4054,7 @@ public class SophiaParser extends Parser {
 			case STRING_VALUE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(637);
+				setState(669);
 				((ValuesContext)_localctx).s = match(STRING_VALUE);
 
 				        ((ValuesContext)_localctx).valuesRet =  new StringValue(((((ValuesContext)_localctx).s!=null?((ValuesContext)_localctx).s.getText():null)).substring(1, ((((ValuesContext)_localctx).s!=null?((ValuesContext)_localctx).s.getText():null)).length()-1));
@@ -3950,7 +4065,7 @@ public class SophiaParser extends Parser {
 			case INT_VALUE:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(639);
+				setState(671);
 				((ValuesContext)_localctx).i = match(INT_VALUE);
 
 				        ((ValuesContext)_localctx).valuesRet =  new IntValue((((ValuesContext)_localctx).i!=null?Integer.valueOf(((ValuesContext)_localctx).i.getText()):0));
@@ -3961,7 +4076,7 @@ public class SophiaParser extends Parser {
 			case NULL:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(641);
+				setState(673);
 				((ValuesContext)_localctx).n = match(NULL);
 
 				        ((ValuesContext)_localctx).valuesRet =  new NullValue();
@@ -3972,7 +4087,7 @@ public class SophiaParser extends Parser {
 			case LBRACK:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(643);
+				setState(675);
 				((ValuesContext)_localctx).l = listValue();
 				 ((ValuesContext)_localctx).valuesRet =  ((ValuesContext)_localctx).l.listValueRet; 
 				}
@@ -4022,13 +4137,13 @@ public class SophiaParser extends Parser {
 		BoolValueContext _localctx = new BoolValueContext(_ctx, getState());
 		enterRule(_localctx, 86, RULE_boolValue);
 		try {
-			setState(652);
+			setState(684);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(648);
+				setState(680);
 				((BoolValueContext)_localctx).t = match(TRUE);
 
 				        ((BoolValueContext)_localctx).boolValueRet =  true;
@@ -4039,7 +4154,7 @@ public class SophiaParser extends Parser {
 			case FALSE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(650);
+				setState(682);
 				((BoolValueContext)_localctx).f = match(FALSE);
 
 				        ((BoolValueContext)_localctx).boolValueRet =  false;
@@ -4096,15 +4211,15 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(654);
+			setState(686);
 			((ListValueContext)_localctx).l = match(LBRACK);
-			setState(655);
+			setState(687);
 			((ListValueContext)_localctx).m = methodCallArguments();
 
 			        ((ListValueContext)_localctx).listValueRet =  new ListValue(((ListValueContext)_localctx).m.methodCallArgsRet);
 			        _localctx.listValueRet.setLine(((ListValueContext)_localctx).l.getLine());
 			    
-			setState(657);
+			setState(689);
 			match(RBRACK);
 			}
 		}
@@ -4149,7 +4264,7 @@ public class SophiaParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(659);
+			setState(691);
 			((IdentifierContext)_localctx).id = match(IDENTIFIER);
 
 			        ((IdentifierContext)_localctx).idRet =  new Identifier((((IdentifierContext)_localctx).id!=null?((IdentifierContext)_localctx).id.getText():null));
@@ -4170,241 +4285,253 @@ public class SophiaParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\39\u0299\4\2\t\2\4"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\39\u02b9\4\2\t\2\4"+
 		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
 		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
 		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
 		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
 		",\t,\4-\t-\4.\t.\4/\t/\3\2\3\2\3\2\3\2\3\3\3\3\3\3\3\3\7\3g\n\3\f\3\16"+
-		"\3j\13\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4\5\4s\n\4\3\4\3\4\3\4\3\4\3\4\3\4"+
-		"\3\4\7\4|\n\4\f\4\16\4\177\13\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\7"+
-		"\4\u008a\n\4\f\4\16\4\u008d\13\4\3\4\3\4\3\4\3\4\3\4\3\4\7\4\u0095\n\4"+
-		"\f\4\16\4\u0098\13\4\5\4\u009a\n\4\3\4\3\4\3\5\3\5\3\5\3\5\3\5\3\5\3\6"+
-		"\3\6\3\6\3\6\3\6\3\6\5\6\u00aa\n\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6"+
-		"\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3"+
-		"\b\3\b\3\b\3\b\7\b\u00ca\n\b\f\b\16\b\u00cd\13\b\5\b\u00cf\n\b\3\t\3\t"+
-		"\3\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\5\n\u00e2"+
-		"\n\n\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\5\f\u00f1"+
-		"\n\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\7\r\u00fc\n\r\f\r\16\r\u00ff"+
-		"\13\r\3\16\3\16\3\16\3\16\3\16\3\16\5\16\u0107\n\16\3\17\3\17\3\17\3\17"+
-		"\3\17\3\17\3\17\3\17\5\17\u0111\n\17\3\17\3\17\3\17\3\17\3\17\3\17\5\17"+
-		"\u0119\n\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20\3\20\7\20\u0124\n"+
-		"\20\f\20\16\20\u0127\13\20\3\21\3\21\3\21\3\21\3\21\3\21\5\21\u012f\n"+
-		"\21\3\22\3\22\3\22\3\22\7\22\u0135\n\22\f\22\16\22\u0138\13\22\3\22\3"+
-		"\22\3\22\7\22\u013d\n\22\f\22\16\22\u0140\13\22\3\23\3\23\3\23\3\23\3"+
-		"\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3"+
-		"\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\5\23\u015d\n\23\3\24\3\24"+
-		"\3\24\3\24\3\24\7\24\u0164\n\24\f\24\16\24\u0167\13\24\3\24\3\24\3\25"+
-		"\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\26\3\27\3\27\3\27\3\27\3\27\3\27"+
-		"\3\27\3\30\3\30\3\30\3\30\3\30\5\30\u0180\n\30\3\30\3\30\3\30\3\31\3\31"+
-		"\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\33\3\33\3\33\3\33"+
-		"\3\33\7\33\u0196\n\33\f\33\16\33\u0199\13\33\5\33\u019b\n\33\3\34\3\34"+
-		"\3\34\3\34\5\34\u01a1\n\34\3\34\3\34\3\35\3\35\3\35\3\35\3\35\3\35\5\35"+
-		"\u01ab\n\35\3\35\3\35\3\35\3\35\5\35\u01b1\n\35\3\35\3\35\3\35\3\35\5"+
-		"\35\u01b7\n\35\3\35\3\35\3\35\3\35\3\36\3\36\3\36\3\36\3\36\3\36\3\36"+
-		"\3\36\3\36\3\36\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\5\37"+
-		"\u01d1\n\37\3 \3 \3 \3 \3 \3 \5 \u01d9\n \3!\3!\3!\3!\3!\3!\7!\u01e1\n"+
-		"!\f!\16!\u01e4\13!\3\"\3\"\3\"\3\"\3\"\3\"\7\"\u01ec\n\"\f\"\16\"\u01ef"+
-		"\13\"\3#\3#\3#\3#\3#\3#\5#\u01f7\n#\3#\3#\3#\7#\u01fc\n#\f#\16#\u01ff"+
-		"\13#\3$\3$\3$\3$\3$\3$\5$\u0207\n$\3$\3$\3$\7$\u020c\n$\f$\16$\u020f\13"+
-		"$\3%\3%\3%\3%\3%\3%\5%\u0217\n%\3%\3%\3%\7%\u021c\n%\f%\16%\u021f\13%"+
-		"\3&\3&\3&\3&\3&\3&\3&\3&\5&\u0229\n&\3&\3&\3&\7&\u022e\n&\f&\16&\u0231"+
-		"\13&\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\5\'\u023b\n\'\3\'\3\'\3\'\3\'\3\'"+
-		"\3\'\5\'\u0243\n\'\3(\3(\3(\3(\3(\3(\5(\u024b\n(\3)\3)\3)\3)\3)\3)\3)"+
-		"\3)\3)\3)\3)\3)\3)\3)\3)\3)\3)\3)\7)\u025f\n)\f)\16)\u0262\13)\3*\3*\3"+
-		"*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\5*\u0274\n*\3+\3+\3+\3+\3+\3"+
-		"+\3+\3,\3,\3,\3,\3,\3,\3,\3,\3,\3,\3,\3,\5,\u0289\n,\3-\3-\3-\3-\5-\u028f"+
-		"\n-\3.\3.\3.\3.\3.\3/\3/\3/\3/\2\2\60\2\4\6\b\n\f\16\20\22\24\26\30\32"+
-		"\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\\2\2\2\u02b2\2^\3\2\2\2"+
-		"\4b\3\2\2\2\6k\3\2\2\2\b\u009d\3\2\2\2\n\u00a3\3\2\2\2\f\u00b6\3\2\2\2"+
-		"\16\u00c2\3\2\2\2\20\u00d0\3\2\2\2\22\u00e1\3\2\2\2\24\u00e3\3\2\2\2\26"+
-		"\u00e6\3\2\2\2\30\u00f4\3\2\2\2\32\u0106\3\2\2\2\34\u0108\3\2\2\2\36\u011c"+
-		"\3\2\2\2 \u012e\3\2\2\2\"\u0130\3\2\2\2$\u015c\3\2\2\2&\u015e\3\2\2\2"+
-		"(\u016a\3\2\2\2*\u016e\3\2\2\2,\u0173\3\2\2\2.\u017a\3\2\2\2\60\u0184"+
-		"\3\2\2\2\62\u0188\3\2\2\2\64\u018e\3\2\2\2\66\u01a0\3\2\2\28\u01a4\3\2"+
-		"\2\2:\u01bc\3\2\2\2<\u01c6\3\2\2\2>\u01d2\3\2\2\2@\u01da\3\2\2\2B\u01e5"+
-		"\3\2\2\2D\u01f0\3\2\2\2F\u0200\3\2\2\2H\u0210\3\2\2\2J\u0220\3\2\2\2L"+
-		"\u0242\3\2\2\2N\u0244\3\2\2\2P\u024c\3\2\2\2R\u0273\3\2\2\2T\u0275\3\2"+
-		"\2\2V\u0288\3\2\2\2X\u028e\3\2\2\2Z\u0290\3\2\2\2\\\u0295\3\2\2\2^_\5"+
-		"\4\3\2_`\b\2\1\2`a\7\2\2\3a\3\3\2\2\2bh\b\3\1\2cd\5\6\4\2de\b\3\1\2eg"+
-		"\3\2\2\2fc\3\2\2\2gj\3\2\2\2hf\3\2\2\2hi\3\2\2\2i\5\3\2\2\2jh\3\2\2\2"+
-		"kl\7\5\2\2lm\5\\/\2mr\b\4\1\2no\7\4\2\2op\5\\/\2pq\b\4\1\2qs\3\2\2\2r"+
-		"n\3\2\2\2rs\3\2\2\2st\3\2\2\2t\u0099\7.\2\2uv\5\b\5\2vw\b\4\1\2w|\3\2"+
-		"\2\2xy\5\n\6\2yz\b\4\1\2z|\3\2\2\2{u\3\2\2\2{x\3\2\2\2|\177\3\2\2\2}{"+
-		"\3\2\2\2}~\3\2\2\2~\u0080\3\2\2\2\177}\3\2\2\2\u0080\u0081\5\f\7\2\u0081"+
-		"\u0082\b\4\1\2\u0082\u008b\3\2\2\2\u0083\u0084\5\b\5\2\u0084\u0085\b\4"+
-		"\1\2\u0085\u008a\3\2\2\2\u0086\u0087\5\n\6\2\u0087\u0088\b\4\1\2\u0088"+
-		"\u008a\3\2\2\2\u0089\u0083\3\2\2\2\u0089\u0086\3\2\2\2\u008a\u008d\3\2"+
-		"\2\2\u008b\u0089\3\2\2\2\u008b\u008c\3\2\2\2\u008c\u009a\3\2\2\2\u008d"+
-		"\u008b\3\2\2\2\u008e\u008f\5\b\5\2\u008f\u0090\b\4\1\2\u0090\u0095\3\2"+
-		"\2\2\u0091\u0092\5\n\6\2\u0092\u0093\b\4\1\2\u0093\u0095\3\2\2\2\u0094"+
-		"\u008e\3\2\2\2\u0094\u0091\3\2\2\2\u0095\u0098\3\2\2\2\u0096\u0094\3\2"+
-		"\2\2\u0096\u0097\3\2\2\2\u0097\u009a\3\2\2\2\u0098\u0096\3\2\2\2\u0099"+
-		"}\3\2\2\2\u0099\u0096\3\2\2\2\u009a\u009b\3\2\2\2\u009b\u009c\7/\2\2\u009c"+
-		"\7\3\2\2\2\u009d\u009e\5\\/\2\u009e\u009f\7\63\2\2\u009f\u00a0\5\22\n"+
-		"\2\u00a0\u00a1\b\5\1\2\u00a1\u00a2\7\64\2\2\u00a2\t\3\2\2\2\u00a3\u00a9"+
-		"\7\3\2\2\u00a4\u00a5\5\22\n\2\u00a5\u00a6\b\6\1\2\u00a6\u00aa\3\2\2\2"+
-		"\u00a7\u00a8\7\24\2\2\u00a8\u00aa\b\6\1\2\u00a9\u00a4\3\2\2\2\u00a9\u00a7"+
-		"\3\2\2\2\u00aa\u00ab\3\2\2\2\u00ab\u00ac\5\\/\2\u00ac\u00ad\b\6\1\2\u00ad"+
-		"\u00ae\7*\2\2\u00ae\u00af\5\16\b\2\u00af\u00b0\b\6\1\2\u00b0\u00b1\7+"+
-		"\2\2\u00b1\u00b2\7.\2\2\u00b2\u00b3\5\"\22\2\u00b3\u00b4\b\6\1\2\u00b4"+
-		"\u00b5\7/\2\2\u00b5\13\3\2\2\2\u00b6\u00b7\7\3\2\2\u00b7\u00b8\5\\/\2"+
-		"\u00b8\u00b9\b\7\1\2\u00b9\u00ba\7*\2\2\u00ba\u00bb\5\16\b\2\u00bb\u00bc"+
-		"\b\7\1\2\u00bc\u00bd\7+\2\2\u00bd\u00be\7.\2\2\u00be\u00bf\5\"\22\2\u00bf"+
-		"\u00c0\b\7\1\2\u00c0\u00c1\7/\2\2\u00c1\r\3\2\2\2\u00c2\u00ce\b\b\1\2"+
-		"\u00c3\u00c4\5\20\t\2\u00c4\u00cb\b\b\1\2\u00c5\u00c6\7\61\2\2\u00c6\u00c7"+
-		"\5\20\t\2\u00c7\u00c8\b\b\1\2\u00c8\u00ca\3\2\2\2\u00c9\u00c5\3\2\2\2"+
-		"\u00ca\u00cd\3\2\2\2\u00cb\u00c9\3\2\2\2\u00cb\u00cc\3\2\2\2\u00cc\u00cf"+
-		"\3\2\2\2\u00cd\u00cb\3\2\2\2\u00ce\u00c3\3\2\2\2\u00ce\u00cf\3\2\2\2\u00cf"+
-		"\17\3\2\2\2\u00d0\u00d1\5\\/\2\u00d1\u00d2\7\63\2\2\u00d2\u00d3\5\22\n"+
-		"\2\u00d3\u00d4\b\t\1\2\u00d4\21\3\2\2\2\u00d5\u00d6\5 \21\2\u00d6\u00d7"+
-		"\b\n\1\2\u00d7\u00e2\3\2\2\2\u00d8\u00d9\5\26\f\2\u00d9\u00da\b\n\1\2"+
-		"\u00da\u00e2\3\2\2\2\u00db\u00dc\5\34\17\2\u00dc\u00dd\b\n\1\2\u00dd\u00e2"+
-		"\3\2\2\2\u00de\u00df\5\24\13\2\u00df\u00e0\b\n\1\2\u00e0\u00e2\3\2\2\2"+
-		"\u00e1\u00d5\3\2\2\2\u00e1\u00d8\3\2\2\2\u00e1\u00db\3\2\2\2\u00e1\u00de"+
-		"\3\2\2\2\u00e2\23\3\2\2\2\u00e3\u00e4\5\\/\2\u00e4\u00e5\b\13\1\2\u00e5"+
-		"\25\3\2\2\2\u00e6\u00e7\7\26\2\2\u00e7\u00f0\7*\2\2\u00e8\u00e9\7\65\2"+
-		"\2\u00e9\u00ea\7\60\2\2\u00ea\u00eb\5\22\n\2\u00eb\u00ec\b\f\1\2\u00ec"+
-		"\u00f1\3\2\2\2\u00ed\u00ee\5\30\r\2\u00ee\u00ef\b\f\1\2\u00ef\u00f1\3"+
-		"\2\2\2\u00f0\u00e8\3\2\2\2\u00f0\u00ed\3\2\2\2\u00f1\u00f2\3\2\2\2\u00f2"+
-		"\u00f3\7+\2\2\u00f3\27\3\2\2\2\u00f4\u00f5\b\r\1\2\u00f5\u00f6\5\32\16"+
-		"\2\u00f6\u00fd\b\r\1\2\u00f7\u00f8\7\61\2\2\u00f8\u00f9\5\32\16\2\u00f9"+
-		"\u00fa\b\r\1\2\u00fa\u00fc\3\2\2\2\u00fb\u00f7\3\2\2\2\u00fc\u00ff\3\2"+
-		"\2\2\u00fd\u00fb\3\2\2\2\u00fd\u00fe\3\2\2\2\u00fe\31\3\2\2\2\u00ff\u00fd"+
-		"\3\2\2\2\u0100\u0101\5\20\t\2\u0101\u0102\b\16\1\2\u0102\u0107\3\2\2\2"+
-		"\u0103\u0104\5\22\n\2\u0104\u0105\b\16\1\2\u0105\u0107\3\2\2\2\u0106\u0100"+
-		"\3\2\2\2\u0106\u0103\3\2\2\2\u0107\33\3\2\2\2\u0108\u0109\7\7\2\2\u0109"+
-		"\u010a\b\17\1\2\u010a\u0110\7\34\2\2\u010b\u010c\7\24\2\2\u010c\u0111"+
-		"\b\17\1\2\u010d\u010e\5\36\20\2\u010e\u010f\b\17\1\2\u010f\u0111\3\2\2"+
-		"\2\u0110\u010b\3\2\2\2\u0110\u010d\3\2\2\2\u0111\u0112\3\2\2\2\u0112\u0118"+
-		"\7\32\2\2\u0113\u0114\7\24\2\2\u0114\u0119\b\17\1\2\u0115\u0116\5\22\n"+
-		"\2\u0116\u0117\b\17\1\2\u0117\u0119\3\2\2\2\u0118\u0113\3\2\2\2\u0118"+
-		"\u0115\3\2\2\2\u0119\u011a\3\2\2\2\u011a\u011b\7\33\2\2\u011b\35\3\2\2"+
-		"\2\u011c\u011d\b\20\1\2\u011d\u011e\5\22\n\2\u011e\u0125\b\20\1\2\u011f"+
-		"\u0120\7\61\2\2\u0120\u0121\5\22\n\2\u0121\u0122\b\20\1\2\u0122\u0124"+
-		"\3\2\2\2\u0123\u011f\3\2\2\2\u0124\u0127\3\2\2\2\u0125\u0123\3\2\2\2\u0125"+
-		"\u0126\3\2\2\2\u0126\37\3\2\2\2\u0127\u0125\3\2\2\2\u0128\u0129\7\23\2"+
-		"\2\u0129\u012f\b\21\1\2\u012a\u012b\7\22\2\2\u012b\u012f\b\21\1\2\u012c"+
-		"\u012d\7\21\2\2\u012d\u012f\b\21\1\2\u012e\u0128\3\2\2\2\u012e\u012a\3"+
-		"\2\2\2\u012e\u012c\3\2\2\2\u012f!\3\2\2\2\u0130\u0136\b\22\1\2\u0131\u0132"+
-		"\5\b\5\2\u0132\u0133\b\22\1\2\u0133\u0135\3\2\2\2\u0134\u0131\3\2\2\2"+
-		"\u0135\u0138\3\2\2\2\u0136\u0134\3\2\2\2\u0136\u0137\3\2\2\2\u0137\u013e"+
-		"\3\2\2\2\u0138\u0136\3\2\2\2\u0139\u013a\5$\23\2\u013a\u013b\b\22\1\2"+
-		"\u013b\u013d\3\2\2\2\u013c\u0139\3\2\2\2\u013d\u0140\3\2\2\2\u013e\u013c"+
-		"\3\2\2\2\u013e\u013f\3\2\2\2\u013f#\3\2\2\2\u0140\u013e\3\2\2\2\u0141"+
-		"\u0142\58\35\2\u0142\u0143\b\23\1\2\u0143\u015d\3\2\2\2\u0144\u0145\5"+
-		":\36\2\u0145\u0146\b\23\1\2\u0146\u015d\3\2\2\2\u0147\u0148\5<\37\2\u0148"+
-		"\u0149\b\23\1\2\u0149\u015d\3\2\2\2\u014a\u014b\5(\25\2\u014b\u014c\b"+
-		"\23\1\2\u014c\u015d\3\2\2\2\u014d\u014e\5,\27\2\u014e\u014f\b\23\1\2\u014f"+
-		"\u015d\3\2\2\2\u0150\u0151\5\66\34\2\u0151\u0152\b\23\1\2\u0152\u015d"+
-		"\3\2\2\2\u0153\u0154\5\60\31\2\u0154\u0155\b\23\1\2\u0155\u015d\3\2\2"+
-		"\2\u0156\u0157\5.\30\2\u0157\u0158\b\23\1\2\u0158\u015d\3\2\2\2\u0159"+
-		"\u015a\5&\24\2\u015a\u015b\b\23\1\2\u015b\u015d\3\2\2\2\u015c\u0141\3"+
-		"\2\2\2\u015c\u0144\3\2\2\2\u015c\u0147\3\2\2\2\u015c\u014a\3\2\2\2\u015c"+
-		"\u014d\3\2\2\2\u015c\u0150\3\2\2\2\u015c\u0153\3\2\2\2\u015c\u0156\3\2"+
-		"\2\2\u015c\u0159\3\2\2\2\u015d%\3\2\2\2\u015e\u015f\7.\2\2\u015f\u0165"+
-		"\b\24\1\2\u0160\u0161\5$\23\2\u0161\u0162\b\24\1\2\u0162\u0164\3\2\2\2"+
-		"\u0163\u0160\3\2\2\2\u0164\u0167\3\2\2\2\u0165\u0163\3\2\2\2\u0165\u0166"+
-		"\3\2\2\2\u0166\u0168\3\2\2\2\u0167\u0165\3\2\2\2\u0168\u0169\7/\2\2\u0169"+
-		"\'\3\2\2\2\u016a\u016b\5*\26\2\u016b\u016c\b\25\1\2\u016c\u016d\7\64\2"+
-		"\2\u016d)\3\2\2\2\u016e\u016f\5@!\2\u016f\u0170\7\'\2\2\u0170\u0171\5"+
-		"> \2\u0171\u0172\b\26\1\2\u0172+\3\2\2\2\u0173\u0174\7\6\2\2\u0174\u0175"+
-		"\7*\2\2\u0175\u0176\5> \2\u0176\u0177\b\27\1\2\u0177\u0178\7+\2\2\u0178"+
-		"\u0179\7\64\2\2\u0179-\3\2\2\2\u017a\u017b\7\13\2\2\u017b\u017f\b\30\1"+
-		"\2\u017c\u017d\5> \2\u017d\u017e\b\30\1\2\u017e\u0180\3\2\2\2\u017f\u017c"+
-		"\3\2\2\2\u017f\u0180\3\2\2\2\u0180\u0181\3\2\2\2\u0181\u0182\b\30\1\2"+
-		"\u0182\u0183\7\64\2\2\u0183/\3\2\2\2\u0184\u0185\5\62\32\2\u0185\u0186"+
-		"\b\31\1\2\u0186\u0187\7\64\2\2\u0187\61\3\2\2\2\u0188\u0189\5P)\2\u0189"+
-		"\u018a\7*\2\2\u018a\u018b\5\64\33\2\u018b\u018c\b\32\1\2\u018c\u018d\7"+
-		"+\2\2\u018d\63\3\2\2\2\u018e\u019a\b\33\1\2\u018f\u0190\5> \2\u0190\u0197"+
-		"\b\33\1\2\u0191\u0192\7\61\2\2\u0192\u0193\5> \2\u0193\u0194\b\33\1\2"+
-		"\u0194\u0196\3\2\2\2\u0195\u0191\3\2\2\2\u0196\u0199\3\2\2\2\u0197\u0195"+
-		"\3\2\2\2\u0197\u0198\3\2\2\2\u0198\u019b\3\2\2\2\u0199\u0197\3\2\2\2\u019a"+
-		"\u018f\3\2\2\2\u019a\u019b\3\2\2\2\u019b\65\3\2\2\2\u019c\u019d\7\n\2"+
-		"\2\u019d\u01a1\b\34\1\2\u019e\u019f\7\t\2\2\u019f\u01a1\b\34\1\2\u01a0"+
-		"\u019c\3\2\2\2\u01a0\u019e\3\2\2\2\u01a1\u01a2\3\2\2\2\u01a2\u01a3\7\64"+
-		"\2\2\u01a3\67\3\2\2\2\u01a4\u01a5\7\16\2\2\u01a5\u01a6\b\35\1\2\u01a6"+
-		"\u01aa\7*\2\2\u01a7\u01a8\5*\26\2\u01a8\u01a9\b\35\1\2\u01a9\u01ab\3\2"+
-		"\2\2\u01aa\u01a7\3\2\2\2\u01aa\u01ab\3\2\2\2\u01ab\u01ac\3\2\2\2\u01ac"+
-		"\u01b0\7\64\2\2\u01ad\u01ae\5> \2\u01ae\u01af\b\35\1\2\u01af\u01b1\3\2"+
-		"\2\2\u01b0\u01ad\3\2\2\2\u01b0\u01b1\3\2\2\2\u01b1\u01b2\3\2\2\2\u01b2"+
-		"\u01b6\7\64\2\2\u01b3\u01b4\5*\26\2\u01b4\u01b5\b\35\1\2\u01b5\u01b7\3"+
-		"\2\2\2\u01b6\u01b3\3\2\2\2\u01b6\u01b7\3\2\2\2\u01b7\u01b8\3\2\2\2\u01b8"+
-		"\u01b9\7+\2\2\u01b9\u01ba\5$\23\2\u01ba\u01bb\b\35\1\2\u01bb9\3\2\2\2"+
-		"\u01bc\u01bd\7\f\2\2\u01bd\u01be\7*\2\2\u01be\u01bf\5\\/\2\u01bf\u01c0"+
-		"\7\r\2\2\u01c0\u01c1\5> \2\u01c1\u01c2\b\36\1\2\u01c2\u01c3\7+\2\2\u01c3"+
-		"\u01c4\5$\23\2\u01c4\u01c5\b\36\1\2\u01c5;\3\2\2\2\u01c6\u01c7\7\17\2"+
-		"\2\u01c7\u01c8\7*\2\2\u01c8\u01c9\5> \2\u01c9\u01ca\7+\2\2\u01ca\u01cb"+
-		"\5$\23\2\u01cb\u01d0\b\37\1\2\u01cc\u01cd\7\20\2\2\u01cd\u01ce\5$\23\2"+
-		"\u01ce\u01cf\b\37\1\2\u01cf\u01d1\3\2\2\2\u01d0\u01cc\3\2\2\2\u01d0\u01d1"+
-		"\3\2\2\2\u01d1=\3\2\2\2\u01d2\u01d3\5@!\2\u01d3\u01d8\b \1\2\u01d4\u01d5"+
-		"\7\'\2\2\u01d5\u01d6\5> \2\u01d6\u01d7\b \1\2\u01d7\u01d9\3\2\2\2\u01d8"+
-		"\u01d4\3\2\2\2\u01d8\u01d9\3\2\2\2\u01d9?\3\2\2\2\u01da\u01db\5B\"\2\u01db"+
-		"\u01e2\b!\1\2\u01dc\u01dd\7%\2\2\u01dd\u01de\5B\"\2\u01de\u01df\b!\1\2"+
-		"\u01df\u01e1\3\2\2\2\u01e0\u01dc\3\2\2\2\u01e1\u01e4\3\2\2\2\u01e2\u01e0"+
-		"\3\2\2\2\u01e2\u01e3\3\2\2\2\u01e3A\3\2\2\2\u01e4\u01e2\3\2\2\2\u01e5"+
-		"\u01e6\5D#\2\u01e6\u01ed\b\"\1\2\u01e7\u01e8\7$\2\2\u01e8\u01e9\5D#\2"+
-		"\u01e9\u01ea\b\"\1\2\u01ea\u01ec\3\2\2\2\u01eb\u01e7\3\2\2\2\u01ec\u01ef"+
-		"\3\2\2\2\u01ed\u01eb\3\2\2\2\u01ed\u01ee\3\2\2\2\u01eeC\3\2\2\2\u01ef"+
-		"\u01ed\3\2\2\2\u01f0\u01f1\5F$\2\u01f1\u01fd\b#\1\2\u01f2\u01f3\7\36\2"+
-		"\2\u01f3\u01f7\b#\1\2\u01f4\u01f5\7\35\2\2\u01f5\u01f7\b#\1\2\u01f6\u01f2"+
-		"\3\2\2\2\u01f6\u01f4\3\2\2\2\u01f7\u01f8\3\2\2\2\u01f8\u01f9\5F$\2\u01f9"+
-		"\u01fa\b#\1\2\u01fa\u01fc\3\2\2\2\u01fb\u01f6\3\2\2\2\u01fc\u01ff\3\2"+
-		"\2\2\u01fd\u01fb\3\2\2\2\u01fd\u01fe\3\2\2\2\u01feE\3\2\2\2\u01ff\u01fd"+
-		"\3\2\2\2\u0200\u0201\5H%\2\u0201\u020d\b$\1\2\u0202\u0203\7\33\2\2\u0203"+
-		"\u0207\b$\1\2\u0204\u0205\7\34\2\2\u0205\u0207\b$\1\2\u0206\u0202\3\2"+
-		"\2\2\u0206\u0204\3\2\2\2\u0207\u0208\3\2\2\2\u0208\u0209\5H%\2\u0209\u020a"+
-		"\b$\1\2\u020a\u020c\3\2\2\2\u020b\u0206\3\2\2\2\u020c\u020f\3\2\2\2\u020d"+
-		"\u020b\3\2\2\2\u020d\u020e\3\2\2\2\u020eG\3\2\2\2\u020f\u020d\3\2\2\2"+
-		"\u0210\u0211\5J&\2\u0211\u021d\b%\1\2\u0212\u0213\7\"\2\2\u0213\u0217"+
-		"\b%\1\2\u0214\u0215\7#\2\2\u0215\u0217\b%\1\2\u0216\u0212\3\2\2\2\u0216"+
-		"\u0214\3\2\2\2\u0217\u0218\3\2\2\2\u0218\u0219\5J&\2\u0219\u021a\b%\1"+
-		"\2\u021a\u021c\3\2\2\2\u021b\u0216\3\2\2\2\u021c\u021f\3\2\2\2\u021d\u021b"+
-		"\3\2\2\2\u021d\u021e\3\2\2\2\u021eI\3\2\2\2\u021f\u021d\3\2\2\2\u0220"+
-		"\u0221\5L\'\2\u0221\u022f\b&\1\2\u0222\u0223\7\37\2\2\u0223\u0229\b&\1"+
-		"\2\u0224\u0225\7 \2\2\u0225\u0229\b&\1\2\u0226\u0227\7!\2\2\u0227\u0229"+
-		"\b&\1\2\u0228\u0222\3\2\2\2\u0228\u0224\3\2\2\2\u0228\u0226\3\2\2\2\u0229"+
-		"\u022a\3\2\2\2\u022a\u022b\5L\'\2\u022b\u022c\b&\1\2\u022c\u022e\3\2\2"+
-		"\2\u022d\u0228\3\2\2\2\u022e\u0231\3\2\2\2\u022f\u022d\3\2\2\2\u022f\u0230"+
-		"\3\2\2\2\u0230K\3\2\2\2\u0231\u022f\3\2\2\2\u0232\u0233\7&\2\2\u0233\u023b"+
-		"\b\'\1\2\u0234\u0235\7#\2\2\u0235\u023b\b\'\1\2\u0236\u0237\7(\2\2\u0237"+
-		"\u023b\b\'\1\2\u0238\u0239\7)\2\2\u0239\u023b\b\'\1\2\u023a\u0232\3\2"+
-		"\2\2\u023a\u0234\3\2\2\2\u023a\u0236\3\2\2\2\u023a\u0238\3\2\2\2\u023b"+
-		"\u023c\3\2\2\2\u023c\u023d\5L\'\2\u023d\u023e\b\'\1\2\u023e\u0243\3\2"+
-		"\2\2\u023f\u0240\5N(\2\u0240\u0241\b\'\1\2\u0241\u0243\3\2\2\2\u0242\u023a"+
-		"\3\2\2\2\u0242\u023f\3\2\2\2\u0243M\3\2\2\2\u0244\u0245\5P)\2\u0245\u024a"+
-		"\b(\1\2\u0246\u0247\7(\2\2\u0247\u024b\b(\1\2\u0248\u0249\7)\2\2\u0249"+
-		"\u024b\b(\1\2\u024a\u0246\3\2\2\2\u024a\u0248\3\2\2\2\u024a\u024b\3\2"+
-		"\2\2\u024bO\3\2\2\2\u024c\u024d\5R*\2\u024d\u0260\b)\1\2\u024e\u024f\7"+
-		"*\2\2\u024f\u0250\5\64\33\2\u0250\u0251\b)\1\2\u0251\u0252\7+\2\2\u0252"+
-		"\u025f\3\2\2\2\u0253\u0254\7\62\2\2\u0254\u0255\5\\/\2\u0255\u0256\3\2"+
-		"\2\2\u0256\u0257\b)\1\2\u0257\u025f\3\2\2\2\u0258\u0259\7,\2\2\u0259\u025a"+
-		"\5> \2\u025a\u025b\7-\2\2\u025b\u025c\3\2\2\2\u025c\u025d\b)\1\2\u025d"+
-		"\u025f\3\2\2\2\u025e\u024e\3\2\2\2\u025e\u0253\3\2\2\2\u025e\u0258\3\2"+
-		"\2\2\u025f\u0262\3\2\2\2\u0260\u025e\3\2\2\2\u0260\u0261\3\2\2\2\u0261"+
-		"Q\3\2\2\2\u0262\u0260\3\2\2\2\u0263\u0264\7\31\2\2\u0264\u0274\b*\1\2"+
-		"\u0265\u0266\5T+\2\u0266\u0267\b*\1\2\u0267\u0274\3\2\2\2\u0268\u0269"+
-		"\5V,\2\u0269\u026a\b*\1\2\u026a\u0274\3\2\2\2\u026b\u026c\5\\/\2\u026c"+
-		"\u026d\b*\1\2\u026d\u0274\3\2\2\2\u026e\u026f\7*\2\2\u026f\u0270\5> \2"+
-		"\u0270\u0271\7+\2\2\u0271\u0272\b*\1\2\u0272\u0274\3\2\2\2\u0273\u0263"+
-		"\3\2\2\2\u0273\u0265\3\2\2\2\u0273\u0268\3\2\2\2\u0273\u026b\3\2\2\2\u0273"+
-		"\u026e\3\2\2\2\u0274S\3\2\2\2\u0275\u0276\7\b\2\2\u0276\u0277\5\24\13"+
-		"\2\u0277\u0278\7*\2\2\u0278\u0279\5\64\33\2\u0279\u027a\7+\2\2\u027a\u027b"+
-		"\b+\1\2\u027bU\3\2\2\2\u027c\u027d\5X-\2\u027d\u027e\b,\1\2\u027e\u0289"+
-		"\3\2\2\2\u027f\u0280\7\67\2\2\u0280\u0289\b,\1\2\u0281\u0282\7\65\2\2"+
-		"\u0282\u0289\b,\1\2\u0283\u0284\7\25\2\2\u0284\u0289\b,\1\2\u0285\u0286"+
-		"\5Z.\2\u0286\u0287\b,\1\2\u0287\u0289\3\2\2\2\u0288\u027c\3\2\2\2\u0288"+
-		"\u027f\3\2\2\2\u0288\u0281\3\2\2\2\u0288\u0283\3\2\2\2\u0288\u0285\3\2"+
-		"\2\2\u0289W\3\2\2\2\u028a\u028b\7\27\2\2\u028b\u028f\b-\1\2\u028c\u028d"+
-		"\7\30\2\2\u028d\u028f\b-\1\2\u028e\u028a\3\2\2\2\u028e\u028c\3\2\2\2\u028f"+
-		"Y\3\2\2\2\u0290\u0291\7,\2\2\u0291\u0292\5\64\33\2\u0292\u0293\b.\1\2"+
-		"\u0293\u0294\7-\2\2\u0294[\3\2\2\2\u0295\u0296\7\66\2\2\u0296\u0297\b"+
-		"/\1\2\u0297]\3\2\2\2\65hr{}\u0089\u008b\u0094\u0096\u0099\u00a9\u00cb"+
-		"\u00ce\u00e1\u00f0\u00fd\u0106\u0110\u0118\u0125\u012e\u0136\u013e\u015c"+
-		"\u0165\u017f\u0197\u019a\u01a0\u01aa\u01b0\u01b6\u01d0\u01d8\u01e2\u01ed"+
-		"\u01f6\u01fd\u0206\u020d\u0216\u021d\u0228\u022f\u023a\u0242\u024a\u025e"+
-		"\u0260\u0273\u0288\u028e";
+		"\3j\13\3\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4\5\4u\n\4\3\4\3\4\3\4\3\4"+
+		"\3\4\3\4\3\4\7\4~\n\4\f\4\16\4\u0081\13\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4"+
+		"\3\4\3\4\7\4\u008c\n\4\f\4\16\4\u008f\13\4\3\4\3\4\3\4\3\4\3\4\3\4\7\4"+
+		"\u0097\n\4\f\4\16\4\u009a\13\4\5\4\u009c\n\4\3\4\3\4\3\4\3\5\3\5\3\5\3"+
+		"\5\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3\6\5\6\u00ad\n\6\3\6\3\6\3\6\3\6\3\6\3"+
+		"\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7"+
+		"\3\b\3\b\3\b\3\b\3\b\3\b\3\b\7\b\u00cd\n\b\f\b\16\b\u00d0\13\b\5\b\u00d2"+
+		"\n\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3"+
+		"\n\3\n\3\n\5\n\u00e7\n\n\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3"+
+		"\f\3\f\3\f\5\f\u00f6\n\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\7\r\u0101"+
+		"\n\r\f\r\16\r\u0104\13\r\3\16\3\16\3\16\3\16\3\16\3\16\5\16\u010c\n\16"+
+		"\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\5\17\u0116\n\17\3\17\3\17\3\17"+
+		"\3\17\3\17\3\17\5\17\u011e\n\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20"+
+		"\3\20\7\20\u0129\n\20\f\20\16\20\u012c\13\20\3\21\3\21\3\21\3\21\3\21"+
+		"\3\21\5\21\u0134\n\21\3\22\3\22\3\22\3\22\7\22\u013a\n\22\f\22\16\22\u013d"+
+		"\13\22\3\22\3\22\3\22\7\22\u0142\n\22\f\22\16\22\u0145\13\22\3\22\3\22"+
+		"\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23"+
+		"\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\5\23"+
+		"\u0164\n\23\3\24\3\24\3\24\3\24\3\24\7\24\u016b\n\24\f\24\16\24\u016e"+
+		"\13\24\3\24\3\24\3\24\3\25\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\26\3\27"+
+		"\3\27\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30\3\30\3\30\5\30\u0188\n\30"+
+		"\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\32\3\32"+
+		"\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\7\32\u01a3\n\32"+
+		"\f\32\16\32\u01a6\13\32\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\33\3\33\3"+
+		"\33\3\33\3\33\7\33\u01b4\n\33\f\33\16\33\u01b7\13\33\5\33\u01b9\n\33\3"+
+		"\33\3\33\3\34\3\34\3\34\3\34\5\34\u01c1\n\34\3\34\3\34\3\35\3\35\3\35"+
+		"\3\35\3\35\3\35\5\35\u01cb\n\35\3\35\3\35\3\35\3\35\5\35\u01d1\n\35\3"+
+		"\35\3\35\3\35\3\35\5\35\u01d7\n\35\3\35\3\35\3\35\3\35\3\36\3\36\3\36"+
+		"\3\36\3\36\3\36\3\36\3\36\3\36\3\36\3\37\3\37\3\37\3\37\3\37\3\37\3\37"+
+		"\3\37\3\37\3\37\5\37\u01f1\n\37\3 \3 \3 \3 \3 \3 \5 \u01f9\n \3!\3!\3"+
+		"!\3!\3!\3!\7!\u0201\n!\f!\16!\u0204\13!\3\"\3\"\3\"\3\"\3\"\3\"\7\"\u020c"+
+		"\n\"\f\"\16\"\u020f\13\"\3#\3#\3#\3#\3#\3#\5#\u0217\n#\3#\3#\3#\7#\u021c"+
+		"\n#\f#\16#\u021f\13#\3$\3$\3$\3$\3$\3$\5$\u0227\n$\3$\3$\3$\7$\u022c\n"+
+		"$\f$\16$\u022f\13$\3%\3%\3%\3%\3%\3%\5%\u0237\n%\3%\3%\3%\7%\u023c\n%"+
+		"\f%\16%\u023f\13%\3&\3&\3&\3&\3&\3&\3&\3&\5&\u0249\n&\3&\3&\3&\7&\u024e"+
+		"\n&\f&\16&\u0251\13&\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\5\'\u025b\n\'\3\'"+
+		"\3\'\3\'\3\'\3\'\3\'\5\'\u0263\n\'\3(\3(\3(\3(\3(\3(\5(\u026b\n(\3)\3"+
+		")\3)\3)\3)\3)\3)\3)\3)\3)\3)\3)\3)\3)\3)\3)\3)\3)\7)\u027f\n)\f)\16)\u0282"+
+		"\13)\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\5*\u0294\n*\3+\3"+
+		"+\3+\3+\3+\3+\3+\3,\3,\3,\3,\3,\3,\3,\3,\3,\3,\3,\3,\5,\u02a9\n,\3-\3"+
+		"-\3-\3-\5-\u02af\n-\3.\3.\3.\3.\3.\3/\3/\3/\3/\2\2\60\2\4\6\b\n\f\16\20"+
+		"\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\\2\2\2\u02d5"+
+		"\2^\3\2\2\2\4b\3\2\2\2\6m\3\2\2\2\b\u00a0\3\2\2\2\n\u00a6\3\2\2\2\f\u00b9"+
+		"\3\2\2\2\16\u00c5\3\2\2\2\20\u00d5\3\2\2\2\22\u00e6\3\2\2\2\24\u00e8\3"+
+		"\2\2\2\26\u00eb\3\2\2\2\30\u00f9\3\2\2\2\32\u010b\3\2\2\2\34\u010d\3\2"+
+		"\2\2\36\u0121\3\2\2\2 \u0133\3\2\2\2\"\u0135\3\2\2\2$\u0163\3\2\2\2&\u0165"+
+		"\3\2\2\2(\u0172\3\2\2\2*\u0176\3\2\2\2,\u017b\3\2\2\2.\u0182\3\2\2\2\60"+
+		"\u018c\3\2\2\2\62\u0190\3\2\2\2\64\u01ac\3\2\2\2\66\u01c0\3\2\2\28\u01c4"+
+		"\3\2\2\2:\u01dc\3\2\2\2<\u01e6\3\2\2\2>\u01f2\3\2\2\2@\u01fa\3\2\2\2B"+
+		"\u0205\3\2\2\2D\u0210\3\2\2\2F\u0220\3\2\2\2H\u0230\3\2\2\2J\u0240\3\2"+
+		"\2\2L\u0262\3\2\2\2N\u0264\3\2\2\2P\u026c\3\2\2\2R\u0293\3\2\2\2T\u0295"+
+		"\3\2\2\2V\u02a8\3\2\2\2X\u02ae\3\2\2\2Z\u02b0\3\2\2\2\\\u02b5\3\2\2\2"+
+		"^_\5\4\3\2_`\b\2\1\2`a\7\2\2\3a\3\3\2\2\2bh\b\3\1\2cd\5\6\4\2de\b\3\1"+
+		"\2eg\3\2\2\2fc\3\2\2\2gj\3\2\2\2hf\3\2\2\2hi\3\2\2\2ik\3\2\2\2jh\3\2\2"+
+		"\2kl\b\3\1\2l\5\3\2\2\2mn\7\5\2\2no\5\\/\2ot\b\4\1\2pq\7\4\2\2qr\5\\/"+
+		"\2rs\b\4\1\2su\3\2\2\2tp\3\2\2\2tu\3\2\2\2uv\3\2\2\2v\u009b\7.\2\2wx\5"+
+		"\b\5\2xy\b\4\1\2y~\3\2\2\2z{\5\n\6\2{|\b\4\1\2|~\3\2\2\2}w\3\2\2\2}z\3"+
+		"\2\2\2~\u0081\3\2\2\2\177}\3\2\2\2\177\u0080\3\2\2\2\u0080\u0082\3\2\2"+
+		"\2\u0081\177\3\2\2\2\u0082\u0083\5\f\7\2\u0083\u0084\b\4\1\2\u0084\u008d"+
+		"\3\2\2\2\u0085\u0086\5\b\5\2\u0086\u0087\b\4\1\2\u0087\u008c\3\2\2\2\u0088"+
+		"\u0089\5\n\6\2\u0089\u008a\b\4\1\2\u008a\u008c\3\2\2\2\u008b\u0085\3\2"+
+		"\2\2\u008b\u0088\3\2\2\2\u008c\u008f\3\2\2\2\u008d\u008b\3\2\2\2\u008d"+
+		"\u008e\3\2\2\2\u008e\u009c\3\2\2\2\u008f\u008d\3\2\2\2\u0090\u0091\5\b"+
+		"\5\2\u0091\u0092\b\4\1\2\u0092\u0097\3\2\2\2\u0093\u0094\5\n\6\2\u0094"+
+		"\u0095\b\4\1\2\u0095\u0097\3\2\2\2\u0096\u0090\3\2\2\2\u0096\u0093\3\2"+
+		"\2\2\u0097\u009a\3\2\2\2\u0098\u0096\3\2\2\2\u0098\u0099\3\2\2\2\u0099"+
+		"\u009c\3\2\2\2\u009a\u0098\3\2\2\2\u009b\177\3\2\2\2\u009b\u0098\3\2\2"+
+		"\2\u009c\u009d\3\2\2\2\u009d\u009e\7/\2\2\u009e\u009f\b\4\1\2\u009f\7"+
+		"\3\2\2\2\u00a0\u00a1\5\\/\2\u00a1\u00a2\7\63\2\2\u00a2\u00a3\5\22\n\2"+
+		"\u00a3\u00a4\b\5\1\2\u00a4\u00a5\7\64\2\2\u00a5\t\3\2\2\2\u00a6\u00ac"+
+		"\7\3\2\2\u00a7\u00a8\5\22\n\2\u00a8\u00a9\b\6\1\2\u00a9\u00ad\3\2\2\2"+
+		"\u00aa\u00ab\7\24\2\2\u00ab\u00ad\b\6\1\2\u00ac\u00a7\3\2\2\2\u00ac\u00aa"+
+		"\3\2\2\2\u00ad\u00ae\3\2\2\2\u00ae\u00af\5\\/\2\u00af\u00b0\b\6\1\2\u00b0"+
+		"\u00b1\7*\2\2\u00b1\u00b2\5\16\b\2\u00b2\u00b3\b\6\1\2\u00b3\u00b4\7+"+
+		"\2\2\u00b4\u00b5\7.\2\2\u00b5\u00b6\5\"\22\2\u00b6\u00b7\b\6\1\2\u00b7"+
+		"\u00b8\7/\2\2\u00b8\13\3\2\2\2\u00b9\u00ba\7\3\2\2\u00ba\u00bb\5\\/\2"+
+		"\u00bb\u00bc\b\7\1\2\u00bc\u00bd\7*\2\2\u00bd\u00be\5\16\b\2\u00be\u00bf"+
+		"\b\7\1\2\u00bf\u00c0\7+\2\2\u00c0\u00c1\7.\2\2\u00c1\u00c2\5\"\22\2\u00c2"+
+		"\u00c3\b\7\1\2\u00c3\u00c4\7/\2\2\u00c4\r\3\2\2\2\u00c5\u00d1\b\b\1\2"+
+		"\u00c6\u00c7\5\20\t\2\u00c7\u00ce\b\b\1\2\u00c8\u00c9\7\61\2\2\u00c9\u00ca"+
+		"\5\20\t\2\u00ca\u00cb\b\b\1\2\u00cb\u00cd\3\2\2\2\u00cc\u00c8\3\2\2\2"+
+		"\u00cd\u00d0\3\2\2\2\u00ce\u00cc\3\2\2\2\u00ce\u00cf\3\2\2\2\u00cf\u00d2"+
+		"\3\2\2\2\u00d0\u00ce\3\2\2\2\u00d1\u00c6\3\2\2\2\u00d1\u00d2\3\2\2\2\u00d2"+
+		"\u00d3\3\2\2\2\u00d3\u00d4\b\b\1\2\u00d4\17\3\2\2\2\u00d5\u00d6\5\\/\2"+
+		"\u00d6\u00d7\7\63\2\2\u00d7\u00d8\5\22\n\2\u00d8\u00d9\b\t\1\2\u00d9\21"+
+		"\3\2\2\2\u00da\u00db\5 \21\2\u00db\u00dc\b\n\1\2\u00dc\u00e7\3\2\2\2\u00dd"+
+		"\u00de\5\26\f\2\u00de\u00df\b\n\1\2\u00df\u00e7\3\2\2\2\u00e0\u00e1\5"+
+		"\34\17\2\u00e1\u00e2\b\n\1\2\u00e2\u00e7\3\2\2\2\u00e3\u00e4\5\24\13\2"+
+		"\u00e4\u00e5\b\n\1\2\u00e5\u00e7\3\2\2\2\u00e6\u00da\3\2\2\2\u00e6\u00dd"+
+		"\3\2\2\2\u00e6\u00e0\3\2\2\2\u00e6\u00e3\3\2\2\2\u00e7\23\3\2\2\2\u00e8"+
+		"\u00e9\5\\/\2\u00e9\u00ea\b\13\1\2\u00ea\25\3\2\2\2\u00eb\u00ec\7\26\2"+
+		"\2\u00ec\u00f5\7*\2\2\u00ed\u00ee\7\65\2\2\u00ee\u00ef\7\60\2\2\u00ef"+
+		"\u00f0\5\22\n\2\u00f0\u00f1\b\f\1\2\u00f1\u00f6\3\2\2\2\u00f2\u00f3\5"+
+		"\30\r\2\u00f3\u00f4\b\f\1\2\u00f4\u00f6\3\2\2\2\u00f5\u00ed\3\2\2\2\u00f5"+
+		"\u00f2\3\2\2\2\u00f6\u00f7\3\2\2\2\u00f7\u00f8\7+\2\2\u00f8\27\3\2\2\2"+
+		"\u00f9\u00fa\b\r\1\2\u00fa\u00fb\5\32\16\2\u00fb\u0102\b\r\1\2\u00fc\u00fd"+
+		"\7\61\2\2\u00fd\u00fe\5\32\16\2\u00fe\u00ff\b\r\1\2\u00ff\u0101\3\2\2"+
+		"\2\u0100\u00fc\3\2\2\2\u0101\u0104\3\2\2\2\u0102\u0100\3\2\2\2\u0102\u0103"+
+		"\3\2\2\2\u0103\31\3\2\2\2\u0104\u0102\3\2\2\2\u0105\u0106\5\20\t\2\u0106"+
+		"\u0107\b\16\1\2\u0107\u010c\3\2\2\2\u0108\u0109\5\22\n\2\u0109\u010a\b"+
+		"\16\1\2\u010a\u010c\3\2\2\2\u010b\u0105\3\2\2\2\u010b\u0108\3\2\2\2\u010c"+
+		"\33\3\2\2\2\u010d\u010e\7\7\2\2\u010e\u010f\b\17\1\2\u010f\u0115\7\34"+
+		"\2\2\u0110\u0111\7\24\2\2\u0111\u0116\b\17\1\2\u0112\u0113\5\36\20\2\u0113"+
+		"\u0114\b\17\1\2\u0114\u0116\3\2\2\2\u0115\u0110\3\2\2\2\u0115\u0112\3"+
+		"\2\2\2\u0116\u0117\3\2\2\2\u0117\u011d\7\32\2\2\u0118\u0119\7\24\2\2\u0119"+
+		"\u011e\b\17\1\2\u011a\u011b\5\22\n\2\u011b\u011c\b\17\1\2\u011c\u011e"+
+		"\3\2\2\2\u011d\u0118\3\2\2\2\u011d\u011a\3\2\2\2\u011e\u011f\3\2\2\2\u011f"+
+		"\u0120\7\33\2\2\u0120\35\3\2\2\2\u0121\u0122\b\20\1\2\u0122\u0123\5\22"+
+		"\n\2\u0123\u012a\b\20\1\2\u0124\u0125\7\61\2\2\u0125\u0126\5\22\n\2\u0126"+
+		"\u0127\b\20\1\2\u0127\u0129\3\2\2\2\u0128\u0124\3\2\2\2\u0129\u012c\3"+
+		"\2\2\2\u012a\u0128\3\2\2\2\u012a\u012b\3\2\2\2\u012b\37\3\2\2\2\u012c"+
+		"\u012a\3\2\2\2\u012d\u012e\7\23\2\2\u012e\u0134\b\21\1\2\u012f\u0130\7"+
+		"\22\2\2\u0130\u0134\b\21\1\2\u0131\u0132\7\21\2\2\u0132\u0134\b\21\1\2"+
+		"\u0133\u012d\3\2\2\2\u0133\u012f\3\2\2\2\u0133\u0131\3\2\2\2\u0134!\3"+
+		"\2\2\2\u0135\u013b\b\22\1\2\u0136\u0137\5\b\5\2\u0137\u0138\b\22\1\2\u0138"+
+		"\u013a\3\2\2\2\u0139\u0136\3\2\2\2\u013a\u013d\3\2\2\2\u013b\u0139\3\2"+
+		"\2\2\u013b\u013c\3\2\2\2\u013c\u0143\3\2\2\2\u013d\u013b\3\2\2\2\u013e"+
+		"\u013f\5$\23\2\u013f\u0140\b\22\1\2\u0140\u0142\3\2\2\2\u0141\u013e\3"+
+		"\2\2\2\u0142\u0145\3\2\2\2\u0143\u0141\3\2\2\2\u0143\u0144\3\2\2\2\u0144"+
+		"\u0146\3\2\2\2\u0145\u0143\3\2\2\2\u0146\u0147\b\22\1\2\u0147#\3\2\2\2"+
+		"\u0148\u0149\58\35\2\u0149\u014a\b\23\1\2\u014a\u0164\3\2\2\2\u014b\u014c"+
+		"\5:\36\2\u014c\u014d\b\23\1\2\u014d\u0164\3\2\2\2\u014e\u014f\5<\37\2"+
+		"\u014f\u0150\b\23\1\2\u0150\u0164\3\2\2\2\u0151\u0152\5(\25\2\u0152\u0153"+
+		"\b\23\1\2\u0153\u0164\3\2\2\2\u0154\u0155\5,\27\2\u0155\u0156\b\23\1\2"+
+		"\u0156\u0164\3\2\2\2\u0157\u0158\5\66\34\2\u0158\u0159\b\23\1\2\u0159"+
+		"\u0164\3\2\2\2\u015a\u015b\5\60\31\2\u015b\u015c\b\23\1\2\u015c\u0164"+
+		"\3\2\2\2\u015d\u015e\5.\30\2\u015e\u015f\b\23\1\2\u015f\u0164\3\2\2\2"+
+		"\u0160\u0161\5&\24\2\u0161\u0162\b\23\1\2\u0162\u0164\3\2\2\2\u0163\u0148"+
+		"\3\2\2\2\u0163\u014b\3\2\2\2\u0163\u014e\3\2\2\2\u0163\u0151\3\2\2\2\u0163"+
+		"\u0154\3\2\2\2\u0163\u0157\3\2\2\2\u0163\u015a\3\2\2\2\u0163\u015d\3\2"+
+		"\2\2\u0163\u0160\3\2\2\2\u0164%\3\2\2\2\u0165\u0166\7.\2\2\u0166\u016c"+
+		"\b\24\1\2\u0167\u0168\5$\23\2\u0168\u0169\b\24\1\2\u0169\u016b\3\2\2\2"+
+		"\u016a\u0167\3\2\2\2\u016b\u016e\3\2\2\2\u016c\u016a\3\2\2\2\u016c\u016d"+
+		"\3\2\2\2\u016d\u016f\3\2\2\2\u016e\u016c\3\2\2\2\u016f\u0170\7/\2\2\u0170"+
+		"\u0171\b\24\1\2\u0171\'\3\2\2\2\u0172\u0173\5*\26\2\u0173\u0174\b\25\1"+
+		"\2\u0174\u0175\7\64\2\2\u0175)\3\2\2\2\u0176\u0177\5@!\2\u0177\u0178\7"+
+		"\'\2\2\u0178\u0179\5> \2\u0179\u017a\b\26\1\2\u017a+\3\2\2\2\u017b\u017c"+
+		"\7\6\2\2\u017c\u017d\7*\2\2\u017d\u017e\5> \2\u017e\u017f\b\27\1\2\u017f"+
+		"\u0180\7+\2\2\u0180\u0181\7\64\2\2\u0181-\3\2\2\2\u0182\u0183\7\13\2\2"+
+		"\u0183\u0187\b\30\1\2\u0184\u0185\5> \2\u0185\u0186\b\30\1\2\u0186\u0188"+
+		"\3\2\2\2\u0187\u0184\3\2\2\2\u0187\u0188\3\2\2\2\u0188\u0189\3\2\2\2\u0189"+
+		"\u018a\b\30\1\2\u018a\u018b\7\64\2\2\u018b/\3\2\2\2\u018c\u018d\5\62\32"+
+		"\2\u018d\u018e\b\31\1\2\u018e\u018f\7\64\2\2\u018f\61\3\2\2\2\u0190\u0191"+
+		"\5R*\2\u0191\u01a4\b\32\1\2\u0192\u0193\7*\2\2\u0193\u0194\5\64\33\2\u0194"+
+		"\u0195\b\32\1\2\u0195\u0196\7+\2\2\u0196\u01a3\3\2\2\2\u0197\u0198\7\62"+
+		"\2\2\u0198\u0199\5\\/\2\u0199\u019a\3\2\2\2\u019a\u019b\b\32\1\2\u019b"+
+		"\u01a3\3\2\2\2\u019c\u019d\7,\2\2\u019d\u019e\5> \2\u019e\u019f\7-\2\2"+
+		"\u019f\u01a0\3\2\2\2\u01a0\u01a1\b\32\1\2\u01a1\u01a3\3\2\2\2\u01a2\u0192"+
+		"\3\2\2\2\u01a2\u0197\3\2\2\2\u01a2\u019c\3\2\2\2\u01a3\u01a6\3\2\2\2\u01a4"+
+		"\u01a2\3\2\2\2\u01a4\u01a5\3\2\2\2\u01a5\u01a7\3\2\2\2\u01a6\u01a4\3\2"+
+		"\2\2\u01a7\u01a8\7*\2\2\u01a8\u01a9\5\64\33\2\u01a9\u01aa\b\32\1\2\u01aa"+
+		"\u01ab\7+\2\2\u01ab\63\3\2\2\2\u01ac\u01b8\b\33\1\2\u01ad\u01ae\5> \2"+
+		"\u01ae\u01b5\b\33\1\2\u01af\u01b0\7\61\2\2\u01b0\u01b1\5> \2\u01b1\u01b2"+
+		"\b\33\1\2\u01b2\u01b4\3\2\2\2\u01b3\u01af\3\2\2\2\u01b4\u01b7\3\2\2\2"+
+		"\u01b5\u01b3\3\2\2\2\u01b5\u01b6\3\2\2\2\u01b6\u01b9\3\2\2\2\u01b7\u01b5"+
+		"\3\2\2\2\u01b8\u01ad\3\2\2\2\u01b8\u01b9\3\2\2\2\u01b9\u01ba\3\2\2\2\u01ba"+
+		"\u01bb\b\33\1\2\u01bb\65\3\2\2\2\u01bc\u01bd\7\n\2\2\u01bd\u01c1\b\34"+
+		"\1\2\u01be\u01bf\7\t\2\2\u01bf\u01c1\b\34\1\2\u01c0\u01bc\3\2\2\2\u01c0"+
+		"\u01be\3\2\2\2\u01c1\u01c2\3\2\2\2\u01c2\u01c3\7\64\2\2\u01c3\67\3\2\2"+
+		"\2\u01c4\u01c5\7\16\2\2\u01c5\u01c6\b\35\1\2\u01c6\u01ca\7*\2\2\u01c7"+
+		"\u01c8\5*\26\2\u01c8\u01c9\b\35\1\2\u01c9\u01cb\3\2\2\2\u01ca\u01c7\3"+
+		"\2\2\2\u01ca\u01cb\3\2\2\2\u01cb\u01cc\3\2\2\2\u01cc\u01d0\7\64\2\2\u01cd"+
+		"\u01ce\5> \2\u01ce\u01cf\b\35\1\2\u01cf\u01d1\3\2\2\2\u01d0\u01cd\3\2"+
+		"\2\2\u01d0\u01d1\3\2\2\2\u01d1\u01d2\3\2\2\2\u01d2\u01d6\7\64\2\2\u01d3"+
+		"\u01d4\5*\26\2\u01d4\u01d5\b\35\1\2\u01d5\u01d7\3\2\2\2\u01d6\u01d3\3"+
+		"\2\2\2\u01d6\u01d7\3\2\2\2\u01d7\u01d8\3\2\2\2\u01d8\u01d9\7+\2\2\u01d9"+
+		"\u01da\5$\23\2\u01da\u01db\b\35\1\2\u01db9\3\2\2\2\u01dc\u01dd\7\f\2\2"+
+		"\u01dd\u01de\7*\2\2\u01de\u01df\5\\/\2\u01df\u01e0\7\r\2\2\u01e0\u01e1"+
+		"\5> \2\u01e1\u01e2\b\36\1\2\u01e2\u01e3\7+\2\2\u01e3\u01e4\5$\23\2\u01e4"+
+		"\u01e5\b\36\1\2\u01e5;\3\2\2\2\u01e6\u01e7\7\17\2\2\u01e7\u01e8\7*\2\2"+
+		"\u01e8\u01e9\5> \2\u01e9\u01ea\7+\2\2\u01ea\u01eb\5$\23\2\u01eb\u01f0"+
+		"\b\37\1\2\u01ec\u01ed\7\20\2\2\u01ed\u01ee\5$\23\2\u01ee\u01ef\b\37\1"+
+		"\2\u01ef\u01f1\3\2\2\2\u01f0\u01ec\3\2\2\2\u01f0\u01f1\3\2\2\2\u01f1="+
+		"\3\2\2\2\u01f2\u01f3\5@!\2\u01f3\u01f8\b \1\2\u01f4\u01f5\7\'\2\2\u01f5"+
+		"\u01f6\5> \2\u01f6\u01f7\b \1\2\u01f7\u01f9\3\2\2\2\u01f8\u01f4\3\2\2"+
+		"\2\u01f8\u01f9\3\2\2\2\u01f9?\3\2\2\2\u01fa\u01fb\5B\"\2\u01fb\u0202\b"+
+		"!\1\2\u01fc\u01fd\7%\2\2\u01fd\u01fe\5B\"\2\u01fe\u01ff\b!\1\2\u01ff\u0201"+
+		"\3\2\2\2\u0200\u01fc\3\2\2\2\u0201\u0204\3\2\2\2\u0202\u0200\3\2\2\2\u0202"+
+		"\u0203\3\2\2\2\u0203A\3\2\2\2\u0204\u0202\3\2\2\2\u0205\u0206\5D#\2\u0206"+
+		"\u020d\b\"\1\2\u0207\u0208\7$\2\2\u0208\u0209\5D#\2\u0209\u020a\b\"\1"+
+		"\2\u020a\u020c\3\2\2\2\u020b\u0207\3\2\2\2\u020c\u020f\3\2\2\2\u020d\u020b"+
+		"\3\2\2\2\u020d\u020e\3\2\2\2\u020eC\3\2\2\2\u020f\u020d\3\2\2\2\u0210"+
+		"\u0211\5F$\2\u0211\u021d\b#\1\2\u0212\u0213\7\36\2\2\u0213\u0217\b#\1"+
+		"\2\u0214\u0215\7\35\2\2\u0215\u0217\b#\1\2\u0216\u0212\3\2\2\2\u0216\u0214"+
+		"\3\2\2\2\u0217\u0218\3\2\2\2\u0218\u0219\5F$\2\u0219\u021a\b#\1\2\u021a"+
+		"\u021c\3\2\2\2\u021b\u0216\3\2\2\2\u021c\u021f\3\2\2\2\u021d\u021b\3\2"+
+		"\2\2\u021d\u021e\3\2\2\2\u021eE\3\2\2\2\u021f\u021d\3\2\2\2\u0220\u0221"+
+		"\5H%\2\u0221\u022d\b$\1\2\u0222\u0223\7\33\2\2\u0223\u0227\b$\1\2\u0224"+
+		"\u0225\7\34\2\2\u0225\u0227\b$\1\2\u0226\u0222\3\2\2\2\u0226\u0224\3\2"+
+		"\2\2\u0227\u0228\3\2\2\2\u0228\u0229\5H%\2\u0229\u022a\b$\1\2\u022a\u022c"+
+		"\3\2\2\2\u022b\u0226\3\2\2\2\u022c\u022f\3\2\2\2\u022d\u022b\3\2\2\2\u022d"+
+		"\u022e\3\2\2\2\u022eG\3\2\2\2\u022f\u022d\3\2\2\2\u0230\u0231\5J&\2\u0231"+
+		"\u023d\b%\1\2\u0232\u0233\7\"\2\2\u0233\u0237\b%\1\2\u0234\u0235\7#\2"+
+		"\2\u0235\u0237\b%\1\2\u0236\u0232\3\2\2\2\u0236\u0234\3\2\2\2\u0237\u0238"+
+		"\3\2\2\2\u0238\u0239\5J&\2\u0239\u023a\b%\1\2\u023a\u023c\3\2\2\2\u023b"+
+		"\u0236\3\2\2\2\u023c\u023f\3\2\2\2\u023d\u023b\3\2\2\2\u023d\u023e\3\2"+
+		"\2\2\u023eI\3\2\2\2\u023f\u023d\3\2\2\2\u0240\u0241\5L\'\2\u0241\u024f"+
+		"\b&\1\2\u0242\u0243\7\37\2\2\u0243\u0249\b&\1\2\u0244\u0245\7 \2\2\u0245"+
+		"\u0249\b&\1\2\u0246\u0247\7!\2\2\u0247\u0249\b&\1\2\u0248\u0242\3\2\2"+
+		"\2\u0248\u0244\3\2\2\2\u0248\u0246\3\2\2\2\u0249\u024a\3\2\2\2\u024a\u024b"+
+		"\5L\'\2\u024b\u024c\b&\1\2\u024c\u024e\3\2\2\2\u024d\u0248\3\2\2\2\u024e"+
+		"\u0251\3\2\2\2\u024f\u024d\3\2\2\2\u024f\u0250\3\2\2\2\u0250K\3\2\2\2"+
+		"\u0251\u024f\3\2\2\2\u0252\u0253\7&\2\2\u0253\u025b\b\'\1\2\u0254\u0255"+
+		"\7#\2\2\u0255\u025b\b\'\1\2\u0256\u0257\7(\2\2\u0257\u025b\b\'\1\2\u0258"+
+		"\u0259\7)\2\2\u0259\u025b\b\'\1\2\u025a\u0252\3\2\2\2\u025a\u0254\3\2"+
+		"\2\2\u025a\u0256\3\2\2\2\u025a\u0258\3\2\2\2\u025b\u025c\3\2\2\2\u025c"+
+		"\u025d\5L\'\2\u025d\u025e\b\'\1\2\u025e\u0263\3\2\2\2\u025f\u0260\5N("+
+		"\2\u0260\u0261\b\'\1\2\u0261\u0263\3\2\2\2\u0262\u025a\3\2\2\2\u0262\u025f"+
+		"\3\2\2\2\u0263M\3\2\2\2\u0264\u0265\5P)\2\u0265\u026a\b(\1\2\u0266\u0267"+
+		"\7(\2\2\u0267\u026b\b(\1\2\u0268\u0269\7)\2\2\u0269\u026b\b(\1\2\u026a"+
+		"\u0266\3\2\2\2\u026a\u0268\3\2\2\2\u026a\u026b\3\2\2\2\u026bO\3\2\2\2"+
+		"\u026c\u026d\5R*\2\u026d\u0280\b)\1\2\u026e\u026f\7*\2\2\u026f\u0270\5"+
+		"\64\33\2\u0270\u0271\b)\1\2\u0271\u0272\7+\2\2\u0272\u027f\3\2\2\2\u0273"+
+		"\u0274\7\62\2\2\u0274\u0275\5\\/\2\u0275\u0276\3\2\2\2\u0276\u0277\b)"+
+		"\1\2\u0277\u027f\3\2\2\2\u0278\u0279\7,\2\2\u0279\u027a\5> \2\u027a\u027b"+
+		"\7-\2\2\u027b\u027c\3\2\2\2\u027c\u027d\b)\1\2\u027d\u027f\3\2\2\2\u027e"+
+		"\u026e\3\2\2\2\u027e\u0273\3\2\2\2\u027e\u0278\3\2\2\2\u027f\u0282\3\2"+
+		"\2\2\u0280\u027e\3\2\2\2\u0280\u0281\3\2\2\2\u0281Q\3\2\2\2\u0282\u0280"+
+		"\3\2\2\2\u0283\u0284\7\31\2\2\u0284\u0294\b*\1\2\u0285\u0286\5T+\2\u0286"+
+		"\u0287\b*\1\2\u0287\u0294\3\2\2\2\u0288\u0289\5V,\2\u0289\u028a\b*\1\2"+
+		"\u028a\u0294\3\2\2\2\u028b\u028c\5\\/\2\u028c\u028d\b*\1\2\u028d\u0294"+
+		"\3\2\2\2\u028e\u028f\7*\2\2\u028f\u0290\5> \2\u0290\u0291\7+\2\2\u0291"+
+		"\u0292\b*\1\2\u0292\u0294\3\2\2\2\u0293\u0283\3\2\2\2\u0293\u0285\3\2"+
+		"\2\2\u0293\u0288\3\2\2\2\u0293\u028b\3\2\2\2\u0293\u028e\3\2\2\2\u0294"+
+		"S\3\2\2\2\u0295\u0296\7\b\2\2\u0296\u0297\5\24\13\2\u0297\u0298\7*\2\2"+
+		"\u0298\u0299\5\64\33\2\u0299\u029a\7+\2\2\u029a\u029b\b+\1\2\u029bU\3"+
+		"\2\2\2\u029c\u029d\5X-\2\u029d\u029e\b,\1\2\u029e\u02a9\3\2\2\2\u029f"+
+		"\u02a0\7\67\2\2\u02a0\u02a9\b,\1\2\u02a1\u02a2\7\65\2\2\u02a2\u02a9\b"+
+		",\1\2\u02a3\u02a4\7\25\2\2\u02a4\u02a9\b,\1\2\u02a5\u02a6\5Z.\2\u02a6"+
+		"\u02a7\b,\1\2\u02a7\u02a9\3\2\2\2\u02a8\u029c\3\2\2\2\u02a8\u029f\3\2"+
+		"\2\2\u02a8\u02a1\3\2\2\2\u02a8\u02a3\3\2\2\2\u02a8\u02a5\3\2\2\2\u02a9"+
+		"W\3\2\2\2\u02aa\u02ab\7\27\2\2\u02ab\u02af\b-\1\2\u02ac\u02ad\7\30\2\2"+
+		"\u02ad\u02af\b-\1\2\u02ae\u02aa\3\2\2\2\u02ae\u02ac\3\2\2\2\u02afY\3\2"+
+		"\2\2\u02b0\u02b1\7,\2\2\u02b1\u02b2\5\64\33\2\u02b2\u02b3\b.\1\2\u02b3"+
+		"\u02b4\7-\2\2\u02b4[\3\2\2\2\u02b5\u02b6\7\66\2\2\u02b6\u02b7\b/\1\2\u02b7"+
+		"]\3\2\2\2\67ht}\177\u008b\u008d\u0096\u0098\u009b\u00ac\u00ce\u00d1\u00e6"+
+		"\u00f5\u0102\u010b\u0115\u011d\u012a\u0133\u013b\u0143\u0163\u016c\u0187"+
+		"\u01a2\u01a4\u01b5\u01b8\u01c0\u01ca\u01d0\u01d6\u01f0\u01f8\u0202\u020d"+
+		"\u0216\u021d\u0226\u022d\u0236\u023d\u0248\u024f\u025a\u0262\u026a\u027e"+
+		"\u0280\u0293\u02a8\u02ae";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {